@@ -0,0 +1,34 @@
+package com.demo.app;
+
+import com.demo.boards.BoardSummary;
+import com.demo.common.CursorPage;
+import com.demo.users.UserSummary;
+
+/**
+ * AppBootstrap 클래스
+ * 앱 첫 화면에 필요한 데이터(로그인 사용자, 작성 게시글 수, 첫 목록 페이지)를 한 번에 담는 응답입니다.
+ */
+public class AppBootstrap {
+
+    private final UserSummary user; // 로그인 사용자 (비로그인이면 null)
+    private final Integer postCount; // 로그인 사용자의 게시글 수 (비로그인이면 null)
+    private final CursorPage<BoardSummary> page; // 요청한 카테고리의 첫 페이지 (카테고리 미지정 시 null)
+
+    public AppBootstrap(UserSummary user, Integer postCount, CursorPage<BoardSummary> page) {
+        this.user = user;
+        this.postCount = postCount;
+        this.page = page;
+    }
+
+    public UserSummary getUser() {
+        return user;
+    }
+
+    public Integer getPostCount() {
+        return postCount;
+    }
+
+    public CursorPage<BoardSummary> getPage() {
+        return page;
+    }
+}
@@ -0,0 +1,110 @@
+package com.demo.app;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.demo.auth.AuthUser;
+import com.demo.boards.BoardService;
+import com.demo.boards.BoardSummary;
+import com.demo.common.CursorPage;
+import com.demo.common.ReadWriteRoutingDataSource;
+import com.demo.users.UserEntity;
+import com.demo.users.UserService;
+import com.demo.users.UserSummary;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * AppBootstrapService 클래스
+ * 앱 첫 화면 데이터를 모읍니다. 서로 의존하지 않는 조회(게시글 수, 첫 목록 페이지)는 전용 스레드 풀에서,
+ * 사용자 조회는 요청 스레드에서 동시에 수행합니다. (사용자 ID 는 토큰에 있으므로 게시글 수가 사용자 조회를 기다리지 않음)
+ * 스레드 풀 대기열이 가득 차면 요청 스레드에서 직접 실행하여 거절 없이 순차 처리로 물러납니다.
+ */
+@Service
+public class AppBootstrapService {
+
+    private final UserService userService;
+    private final BoardService boardService;
+    private final ThreadPoolExecutor executor;
+
+    public AppBootstrapService(UserService userService, BoardService boardService,
+                               @Value("${cafe.bootstrap.threads:8}") int threads,
+                               @Value("${cafe.bootstrap.queue:200}") int queueCapacity) {
+        this.userService = userService;
+        this.boardService = boardService;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "app-bootstrap-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 앱 첫 화면 데이터 조회
+     * @param loginUser 로그인 사용자 (비로그인이면 null)
+     * @param category 첫 페이지를 조회할 카테고리 (null 이면 목록 생략)
+     * @param size 페이지 크기
+     * @return 사용자, 게시글 수, 첫 페이지
+     */
+    public AppBootstrap load(AuthUser loginUser, String category, int size) {
+        CompletableFuture<CursorPage<BoardSummary>> page = category == null
+                ? CompletableFuture.completedFuture(null)
+                : supply(() -> boardService.getBoardsByCategoryName(category, null, size));
+        CompletableFuture<Integer> postCount = loginUser == null
+                ? CompletableFuture.completedFuture(null)
+                : supply(() -> boardService.getPostCountByUserId(loginUser.getUserId()));
+
+        UserEntity user = loginUser == null ? null : userService.getUserById(loginUser.getUserId());
+        if (user == null) {
+            return new AppBootstrap(null, null, join(page)); // 비로그인 또는 탈퇴한 사용자
+        }
+        return new AppBootstrap(new UserSummary(user.getUserId(), user.getUserName(), user.getUserNickname(),
+                user.getUserLevel(), user.getCreatedDate(), user.getUserImageHash()), join(postCount), join(page));
+    }
+
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 작업 스레드에서 실행 (요청의 주 DB 고정 여부를 함께 전달)
+    private <T> CompletableFuture<T> supply(Supplier<T> task) {
+        boolean pinned = ReadWriteRoutingDataSource.isPrimaryPinned();
+        return CompletableFuture.supplyAsync(() -> {
+            ReadWriteRoutingDataSource.pinPrimary(pinned);
+            try {
+                return task.get();
+            } finally {
+                ReadWriteRoutingDataSource.pinPrimary(false);
+            }
+        }, executor);
+    }
+
+    // 결과 대기 (작업 예외는 원래 예외로 다시 던짐)
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.demo.app;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.demo.auth.AuthUser;
+import com.demo.auth.LoginUser;
+
+/**
+ * AppController 클래스
+ * 앱 셸이 첫 화면을 그리는 데 필요한 데이터를 한 번의 요청으로 반환합니다.
+ */
+@RestController
+@RequestMapping("/app")
+public class AppController {
+
+    private final AppBootstrapService appBootstrapService;
+
+    public AppController(AppBootstrapService appBootstrapService) {
+        this.appBootstrapService = appBootstrapService;
+    }
+
+    /**
+     * 앱 첫 화면 데이터 조회
+     * @param loginUser 로그인 사용자 (비로그인이면 user, postCount 가 null)
+     * @param category 첫 페이지 카테고리 (all, free, questions, notice, 생략 시 목록 없음)
+     * @param size 페이지 크기
+     * @return 로그인 사용자 요약, 게시글 수, 첫 목록 페이지
+     */
+    @GetMapping("/bootstrap")
+    public ResponseEntity<?> bootstrap(@LoginUser AuthUser loginUser,
+                                       @RequestParam(value = "category", required = false) String category,
+                                       @RequestParam(value = "size", defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(appBootstrapService.load(loginUser, category, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.demo.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * AuthTokenService 클래스
+ * 사용자 아이디, 닉네임, 레벨만 담은 HMAC-SHA256 서명 토큰을 발급하고 검증합니다.
+ * 서버에 상태를 저장하지 않으므로 같은 비밀키를 공유하는 모든 노드에서 검증할 수 있습니다.
+ * 토큰 형식: base64url(JSON 페이로드) + "." + base64url(서명)
+ * 토큰은 HttpOnly 쿠키로 전달하며, 응답 본문에는 X-Token-Delivery: body 헤더로 요청한 클라이언트에게만 포함합니다.
+ */
+@Service
+public class AuthTokenService {
+
+    public static final String COOKIE_NAME = "CAFE_TOKEN"; // 토큰 쿠키 이름
+    public static final String DELIVERY_HEADER = "X-Token-Delivery"; // 본문 토큰 요청 헤더
+    public static final String BODY_DELIVERY = "body"; // 본문으로 토큰을 받겠다는 헤더 값
+    private static final int MIN_KEY_BYTES = 32; // HMAC-SHA256 최소 키 길이
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenService.class);
+
+    private final SecretKeySpec key; // 서명 키
+    private final Duration ttl; // 토큰 유효 기간
+    private final ObjectMapper objectMapper;
+
+    public AuthTokenService(@Value("${cafe.auth.token-secret:}") String secret,
+                            @Value("${cafe.auth.token-ttl:12h}") Duration ttl,
+                            ObjectMapper objectMapper) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // 비밀키 미설정 시 임시 키 사용 (재시작하거나 노드가 여러 대면 토큰이 호환되지 않음)
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("cafe.auth.token-secret 이 설정되지 않아 임시 서명 키를 사용합니다.");
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+            if (keyBytes.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("cafe.auth.token-secret 은 Base64 로 인코딩된 " + MIN_KEY_BYTES + "바이트 이상의 키여야 합니다.");
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.ttl = ttl;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 토큰 발급
+     * @param user 인증된 사용자
+     * @return 서명된 토큰 문자열
+     */
+    public String issue(AuthUser user) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", user.getUserId());
+        claims.put("nick", user.getUserNickname());
+        claims.put("lv", user.getUserLevel());
+        claims.put("exp", Instant.now().plus(ttl).getEpochSecond());
+        try {
+            String payload = encode(objectMapper.writeValueAsBytes(claims));
+            return payload + "." + encode(sign(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("토큰 생성 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 토큰 검증
+     * @param token 토큰 문자열
+     * @return 토큰의 사용자 정보 또는 null (서명 불일치, 만료, 형식 오류)
+     */
+    public AuthUser verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+        String payload = token.substring(0, dot);
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) { // 상수 시간 비교
+                return null;
+            }
+            Map<?, ?> claims = objectMapper.readValue(Base64.getUrlDecoder().decode(payload), Map.class);
+            long exp = ((Number) claims.get("exp")).longValue();
+            if (Instant.now().getEpochSecond() >= exp) {
+                return null;
+            }
+            Number level = (Number) claims.get("lv");
+            return new AuthUser((String) claims.get("sub"), (String) claims.get("nick"),
+                    level != null ? level.intValue() : null);
+        } catch (Exception e) {
+            return null; // 손상된 토큰
+        }
+    }
+
+    // 토큰 쿠키 생성
+    public ResponseCookie createCookie(String token) {
+        return ResponseCookie.from(COOKIE_NAME, token)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(ttl)
+                .build();
+    }
+
+    // 토큰 쿠키 삭제용 쿠키 생성
+    public ResponseCookie clearCookie() {
+        return ResponseCookie.from(COOKIE_NAME, "")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(0)
+                .build();
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,40 @@
+package com.demo.auth;
+
+import java.io.Serializable;
+
+/**
+ * AuthUser 클래스
+ * 인증된 사용자를 나타내는 최소 정보(아이디, 닉네임, 레벨)입니다.
+ * 서명 토큰의 내용이며, 세션 모드에서는 이 객체만 세션에 저장합니다.
+ */
+public class AuthUser implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String userId; // 사용자 아이디
+    private final String userNickname; // 사용자 닉네임
+    private final Integer userLevel; // 사용자 레벨
+
+    public AuthUser(String userId, String userNickname, Integer userLevel) {
+        this.userId = userId;
+        this.userNickname = userNickname;
+        this.userLevel = userLevel;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public Integer getUserLevel() {
+        return userLevel;
+    }
+
+    // 관리자(레벨 4) 여부
+    public boolean isAdmin() {
+        return userLevel != null && userLevel >= 4;
+    }
+}
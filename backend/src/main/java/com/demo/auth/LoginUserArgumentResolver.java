@@ -0,0 +1,105 @@
+package com.demo.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.demo.users.CurrentUserCache;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * LoginUserArgumentResolver 클래스
+ * {@link LoginUser} 파라미터에 현재 로그인한 사용자를 주입합니다.
+ * - token 모드(기본): Authorization: Bearer 헤더 또는 CAFE_TOKEN 쿠키의 서명 토큰 검증
+ * - session 모드: HttpSession 의 "user" 속성(AuthUser)
+ * 컨트롤러에 주입할 때는 닉네임/레벨을 DB 의 현재 값으로 바꿉니다 (삭제된 사용자는 null, {@link CurrentUserCache}).
+ * 필터에서 쓰는 {@link #resolve}는 DB 를 조회하지 않고 토큰/세션 내용만 확인합니다.
+ */
+@Component
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String SESSION_ATTRIBUTE = "user"; // 세션 모드의 사용자 속성 이름
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String REQUEST_ATTRIBUTE = LoginUserArgumentResolver.class.getName() + ".user";
+
+    private final AuthTokenService authTokenService;
+    private final CurrentUserCache currentUserCache; // 토큰/세션 사용자 재검증
+    private final boolean sessionMode; // 세션 모드 여부
+
+    public LoginUserArgumentResolver(AuthTokenService authTokenService, CurrentUserCache currentUserCache,
+                                     @Value("${cafe.auth.mode:token}") String mode) {
+        this.authTokenService = authTokenService;
+        this.currentUserCache = currentUserCache;
+        this.sessionMode = "session".equalsIgnoreCase(mode);
+    }
+
+    public boolean isSessionMode() {
+        return sessionMode;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && AuthUser.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return currentUserCache.refresh(resolve(webRequest.getNativeRequest(HttpServletRequest.class)));
+    }
+
+    /**
+     * 요청에서 로그인 사용자 조회 (요청 단위로 한 번만 검증)
+     * @param request HTTP 요청
+     * @return 로그인 사용자 또는 null
+     */
+    public AuthUser resolve(HttpServletRequest request) {
+        if (request == null) {
+            return null;
+        }
+        Object cached = request.getAttribute(REQUEST_ATTRIBUTE);
+        if (cached instanceof AuthUser) {
+            return (AuthUser) cached;
+        }
+
+        AuthUser user;
+        if (sessionMode) {
+            HttpSession session = request.getSession(false);
+            Object attribute = session != null ? session.getAttribute(SESSION_ATTRIBUTE) : null;
+            user = attribute instanceof AuthUser ? (AuthUser) attribute : null;
+        } else {
+            user = authTokenService.verify(extractToken(request));
+        }
+
+        if (user != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, user);
+        }
+        return user;
+    }
+
+    // Authorization 헤더 우선, 없으면 쿠키에서 토큰 추출
+    private String extractToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (AuthTokenService.COOKIE_NAME.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
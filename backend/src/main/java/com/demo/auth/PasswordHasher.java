@@ -0,0 +1,111 @@
+package com.demo.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * PasswordHasher 클래스
+ * 솔트를 붙인 PBKDF2-HMAC-SHA256 비밀번호 해시를 만들고 검증합니다.
+ * 저장 형식: "pbkdf2$반복횟수$base64(솔트)$base64(해시)"
+ * 이 형식이 아닌 값은 기존 평문 비밀번호로 보고 상수 시간 비교 후 재해시 대상으로 표시합니다.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final String PREFIX = "pbkdf2";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private final SecureRandom random = new SecureRandom();
+    private final int iterations; // 반복 횟수 (높일수록 느려짐, 기존 해시는 로그인 시 재해시)
+    private final String dummyHash; // 없는 사용자 로그인 시 응답 시간을 맞추기 위한 해시
+
+    public PasswordHasher(@Value("${cafe.auth.password-iterations:310000}") int iterations) {
+        this.iterations = iterations;
+        this.dummyHash = hash("dummy-password");
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     * @param rawPassword 평문 비밀번호
+     * @return 저장 형식의 해시 문자열
+     */
+    public String hash(String rawPassword) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = pbkdf2(rawPassword, salt, iterations);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    /**
+     * 비밀번호 검증
+     * @param rawPassword 입력된 평문 비밀번호
+     * @param stored 저장된 값 (해시 또는 기존 평문)
+     * @return 일치 여부
+     */
+    public boolean matches(String rawPassword, String stored) {
+        if (rawPassword == null || stored == null) {
+            return false;
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            // 기존 평문 비밀번호
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            int storedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            return MessageDigest.isEqual(expected, pbkdf2(rawPassword, salt, storedIterations));
+        } catch (IllegalArgumentException e) {
+            return false; // 손상된 해시
+        }
+    }
+
+    /**
+     * 없는 사용자에 대해서도 같은 비용의 검증을 수행 (사용자 존재 여부가 응답 시간으로 드러나지 않도록)
+     * @param rawPassword 입력된 평문 비밀번호
+     */
+    public void matchesDummy(String rawPassword) {
+        matches(rawPassword == null ? "" : rawPassword, dummyHash);
+    }
+
+    /**
+     * 재해시 필요 여부 (평문이거나 현재 설정보다 반복 횟수가 낮은 해시)
+     * @param stored 저장된 값
+     * @return 재해시 필요 여부
+     */
+    public boolean needsRehash(String stored) {
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private byte[] pbkdf2(String rawPassword, byte[] salt, int iterationCount) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterationCount, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("비밀번호 해시 생성 중 오류 발생", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
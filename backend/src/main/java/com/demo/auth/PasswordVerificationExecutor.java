@@ -0,0 +1,97 @@
+package com.demo.auth;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * PasswordVerificationExecutor 클래스
+ * 비밀번호 해시 검증 전용 스레드 풀입니다.
+ * 스레드 수와 대기열 길이를 제한하여 로그인이 몰려도 CPU 와 Tomcat 요청 스레드를 모두 점유하지 않도록 하고,
+ * 대기열이 가득 차면 즉시 거절합니다. (컨트롤러에서 503 응답)
+ */
+@Component
+public class PasswordVerificationExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder submitted = new LongAdder(); // 접수 건수
+    private final LongAdder rejected = new LongAdder(); // 대기열 초과로 거절된 건수
+    private final LongAdder verifyNanos = new LongAdder(); // 누적 검증 시간
+
+    public PasswordVerificationExecutor(@Value("${cafe.auth.login-threads:0}") int threads,
+                                        @Value("${cafe.auth.login-queue:100}") int queueCapacity) {
+        // 0 이면 코어의 절반 (최소 2개)
+        int poolSize = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 검증 작업 실행
+     * @param task 해시 검증 작업
+     * @return 작업 결과 (대기열 초과 시 RejectedExecutionException 으로 실패한 Future)
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        submitted.increment();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long started = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    verifyNanos.add(System.nanoTime() - started);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 실행기 통계 (관리자 조회용)
+     * @return 풀 크기, 실행 중, 대기 중, 완료, 거절 건수 및 평균 검증 시간
+     */
+    public Map<String, Object> stats() {
+        long completed = executor.getCompletedTaskCount();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("submitted", submitted.sum());
+        stats.put("completed", completed);
+        stats.put("rejected", rejected.sum());
+        stats.put("averageVerifyMillis", completed == 0 ? 0.0 : verifyNanos.sum() / 1_000_000.0 / completed);
+        return stats;
+    }
+
+    // 메트릭 바인딩용 실행기
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
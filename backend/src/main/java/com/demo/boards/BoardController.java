@@ -1,41 +1,72 @@
 package com.demo.boards;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.demo.auth.AuthUser;
+import com.demo.auth.LoginUser;
+import com.demo.common.CursorPage;
+import com.demo.common.ETags;
+import com.demo.common.NdjsonExporter;
 import com.demo.users.UserEntity;
 import com.demo.users.UserService;
 
-import jakarta.servlet.http.HttpSession;
-
 @RestController
 @RequestMapping("/boards") // 모든 요청 경로는 "/boards"로 시작
 public class BoardController {
 
+    private static final Logger log = LoggerFactory.getLogger(BoardController.class);
+    private static final int MAX_IMPORT_SIZE = 10000; // 가져오기 1회 최대 건수
+
     private final BoardService boardService;
     private final UserService userService;
+    private final BoardQueryCache boardQueryCache; // 조회 캐시 통계용
+    private final BoardImportService boardImportService; // 게시글 대량 가져오기
+    private final NdjsonExporter ndjsonExporter; // 게시글 내보내기 스트리밍
+    private final BoardEventHub boardEventHub; // 게시글 변경 알림 (SSE)
 
     @Autowired // 생성자 주입을 통해 BoardService와 UserService를 주입
-    public BoardController(BoardService boardService, UserService userService) {
+    public BoardController(BoardService boardService, UserService userService, BoardQueryCache boardQueryCache,
+                           BoardImportService boardImportService, NdjsonExporter ndjsonExporter,
+                           BoardEventHub boardEventHub) {
         this.boardService = boardService;
         this.userService = userService;
+        this.boardQueryCache = boardQueryCache;
+        this.boardImportService = boardImportService;
+        this.ndjsonExporter = ndjsonExporter;
+        this.boardEventHub = boardEventHub;
     }
 
-    // 전체 게시글 가져오기
+    // 전체 게시글 가져오기 (커서 기반 페이지)
     @GetMapping
-    public List<BoardEntity> getBoards() {
-        return boardService.getAllBoards(); // 모든 게시글을 반환
+    public ResponseEntity<?> getBoards(@RequestParam(value = "cursor", required = false) String cursor,
+                                       @RequestParam(value = "size", defaultValue = "10") int size,
+                                       WebRequest webRequest) {
+        try {
+            return pageResponse(boardService.getAllBoards(cursor, size), webRequest); // 요청한 페이지의 게시글 반환
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 잘못된 커서
+        }
     }
 
     // 특정 사용자의 게시글 개수 가져오기
@@ -44,26 +75,34 @@ public class BoardController {
         return boardService.getPostCountByUserId(userId); // 해당 사용자의 게시글 개수 반환
     }
 
-    // 특정 사용자의 게시글 목록 가져오기
+    // 특정 사용자의 게시글 목록 가져오기 (커서 기반 페이지)
     @GetMapping("/user/{userId}")
-    public List<BoardEntity> getPostsByUserId(@PathVariable String userId) {
-        return boardService.getPostsByUserId(userId); // 해당 사용자의 게시글 목록 반환
+    public ResponseEntity<?> getPostsByUserId(@PathVariable String userId,
+                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "size", defaultValue = "10") int size,
+                                              WebRequest webRequest) {
+        try {
+            return pageResponse(boardService.getPostsByUserId(userId, cursor, size), webRequest); // 해당 사용자의 게시글 페이지 반환
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
     }
 
     // 게시글 생성 (로그인된 사용자 정보 사용)
     @PostMapping("/create")
-    public ResponseEntity<?> createPost(@RequestBody BoardEntity board, HttpSession session) {
+    public ResponseEntity<?> createPost(@RequestBody BoardEntity board, @LoginUser AuthUser loginUser) {
         try {
-            UserEntity loggedInUser = (UserEntity) session.getAttribute("user");
-            if (loggedInUser == null) {
+            if (loginUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
             }
 
+            UserEntity loggedInUser = userService.getUserReference(loginUser.getUserId()); // 작성자 참조 (조회 없음)
+
             board.setUser(loggedInUser);
             boardService.createBoard(board, loggedInUser);
             return ResponseEntity.ok("게시글 작성 완료");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("게시글 작성 중 오류 발생: {}", loginUser.getUserId(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                                  .body("게시글 작성 중 오류 발생: " + e.getMessage());
         }
@@ -72,8 +111,8 @@ public class BoardController {
 
     // Board 생성 시 로그인된 사용자의 ID를 사용하여 CRT_USER, UDT_USER 설정
     @PostMapping
-    public ResponseEntity<BoardEntity> createBoard(@RequestBody BoardEntity board, HttpSession session) {
-        String loggedInUser = (String) session.getAttribute("userId");
+    public ResponseEntity<BoardEntity> createBoard(@RequestBody BoardEntity board, @LoginUser AuthUser loginUser) {
+        String loggedInUser = loginUser != null ? loginUser.getUserId() : null;
         board.setUpdatedBy(loggedInUser); // 생성 시 사용자를 업데이트하는 사용자로 설정
         BoardEntity createdBoard = boardService.saveBoard(board, loggedInUser);
         return new ResponseEntity<>(createdBoard, HttpStatus.CREATED);
@@ -81,43 +120,96 @@ public class BoardController {
 
     // Board 수정 시 UDT_USER 업데이트
     @PutMapping("/{id}")
-    public ResponseEntity<BoardEntity> updateBoard(@PathVariable Long id, @RequestBody BoardEntity boardDetails, HttpSession session) {
-        String loggedInUser = (String) session.getAttribute("userId");
+    public ResponseEntity<?> updateBoard(@PathVariable Long id, @RequestBody BoardEntity boardDetails, @LoginUser AuthUser loginUser) {
+        String loggedInUser = loginUser != null ? loginUser.getUserId() : null;
         boardDetails.setUpdatedBy(loggedInUser); // 수정 시 업데이트한 사용자 정보 설정
-        BoardEntity updatedBoard = boardService.saveBoard(boardDetails, loggedInUser);
-        return ResponseEntity.ok(updatedBoard);
+        try {
+            BoardEntity updatedBoard = boardService.saveBoard(boardDetails, loggedInUser);
+            return ResponseEntity.ok(updatedBoard);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 요청 본문의 version 이 현재 버전과 다름 (다른 사용자가 먼저 수정)
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("다른 사용자가 먼저 수정했습니다. 새로고침 후 다시 시도해 주세요.");
+        }
     }
 
-    // 카테고리별 게시글 리스트 반환
+    // 게시글 부분 수정 (보낸 항목만 변경, version 이 현재 버전과 같을 때만 적용)
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchBoard(@PathVariable Long id, @RequestBody BoardPatchRequest patch, @LoginUser AuthUser loginUser) {
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        if (patch.getVersion() == null || patch.isEmpty()) {
+            return ResponseEntity.badRequest().body("version 과 변경할 항목이 필요합니다.");
+        }
+        if ((patch.getBoardTitle() != null && patch.getBoardTitle().isBlank())
+                || (patch.getBoardWrite() != null && patch.getBoardWrite().isBlank())) {
+            return ResponseEntity.badRequest().body("제목과 내용은 비워둘 수 없습니다.");
+        }
+        BoardPatchResult result = boardService.patchBoard(id, patch, loginUser.getUserId(), loginUser.isAdmin());
+        switch (result.getStatus()) {
+            case NOT_FOUND:
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("게시물을 찾을 수 없습니다.");
+            case FORBIDDEN:
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("작성자만 수정할 수 있습니다.");
+            case CONFLICT:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(result); // currentVersion 으로 최신 버전 안내
+            default:
+                return ResponseEntity.ok(result);
+        }
+    }
+
+    // 카테고리별 게시글 리스트 반환 (커서 기반 페이지)
     @GetMapping("/category/{category}")
-    public List<BoardEntity> getBoardsByCategory(@PathVariable("category") String category) {
-        if (category.equals("all")) {
-            return boardService.getAllBoards(); // 모든 카테고리 게시글 반환
-        } else {
-            int categoryId = getCategoryId(category);
-            return boardService.getBoardsByCategory(categoryId); // 특정 카테고리 게시글 반환
+    public ResponseEntity<?> getBoardsByCategory(@PathVariable("category") String category,
+                                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                                 @RequestParam(value = "size", defaultValue = "10") int size,
+                                                 WebRequest webRequest) {
+        try {
+            return pageResponse(boardService.getBoardsByCategoryName(category, cursor, size), webRequest);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
     
-    // 카테고리 ID 변환 함수
-    private int getCategoryId(String category) {
-        switch (category) {
-            case "free":
-                return 2;
-            case "questions":
-                return 3;
-            case "notice":
-                return 4;
-            default:
-                return 1; // 기본값 설정
+    // 게시글 제목/내용 검색 (관련도순, 페이지 단위)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchBoards(@RequestParam("q") String query,
+                                          @RequestParam(value = "category", defaultValue = "all") String category,
+                                          @RequestParam(value = "page", defaultValue = "0") int page,
+                                          @RequestParam(value = "size", defaultValue = "10") int size) {
+        if (query.isBlank()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("검색어를 입력하세요.");
         }
+        Integer categoryId = category.equals("all") ? null : BoardService.toCategoryId(category);
+        return ResponseEntity.ok(boardService.searchBoards(query, categoryId, page, size));
+    }
+
+    // 목록 페이지 응답 (항목 구성과 각 항목의 수정 날짜가 같으면 본문 없이 304)
+    private ResponseEntity<?> pageResponse(CursorPage<BoardSummary> page, WebRequest webRequest) {
+        StringBuilder versions = new StringBuilder();
+        for (BoardSummary item : page.getItems()) {
+            versions.append(item.getBoardNumber()).append(':').append(ETags.toEpochMillis(item.getUpdatedDate()))
+                    .append(':').append(item.getUserNickname()).append(';');
+        }
+        versions.append(page.getNextCursor());
+        String etag = ETags.ofList("boards", versions);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(ETags.REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(ETags.REVALIDATE).body(page);
     }
 
     // 특정 게시글 세부 조회
     @GetMapping("/detail/{boardNumber}")
-    public ResponseEntity<BoardEntity> getBoardDetail(@PathVariable Long boardNumber) {
-        BoardEntity board = boardService.getBoardDetail(boardNumber);
-        return new ResponseEntity<>(board, HttpStatus.OK); // 200 OK 응답과 함께 게시글 반환
+    public ResponseEntity<BoardEntity> getBoardDetail(@PathVariable Long boardNumber, WebRequest webRequest) {
+        BoardEntity board = boardService.viewBoard(boardNumber); // 304 응답도 열람으로 집계
+        // 수정 날짜 기반 ETag (조회수는 열람마다 바뀌므로 제외, 304 시 클라이언트의 조회수는 이전 값)
+        String etag = ETags.of("board", boardNumber, board.getUpdatedDate());
+        long lastModified = ETags.toEpochMillis(board.getUpdatedDate());
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(ETags.REVALIDATE).build(); // 본문 직렬화 없이 304
+        }
+        return ResponseEntity.ok().eTag(etag).lastModified(lastModified).cacheControl(ETags.REVALIDATE).body(board); // 200 OK 응답과 함께 게시글 반환
     }
     
     // 게시글 수정
@@ -127,6 +219,53 @@ public class BoardController {
         return new ResponseEntity<>(board, HttpStatus.OK); // 200 OK 응답과 함께 수정된 게시글 반환
     }
 
+    // 게시글 대량 가져오기 (관리자 전용, 이전 포럼 이관 등)
+    @PostMapping("/import")
+    public ResponseEntity<?> importBoards(@RequestBody List<BoardImportRequest> requests, @LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 가져오기를 실행할 수 있습니다.");
+        }
+        if (requests.size() > MAX_IMPORT_SIZE) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("한 번에 최대 " + MAX_IMPORT_SIZE + "건까지 가져올 수 있습니다.");
+        }
+        return ResponseEntity.ok(boardImportService.importBoards(requests, loginUser.getUserId()));
+    }
+
+    // 게시글 내보내기 (관리자 전용, NDJSON 스트리밍, since 이후 수정분만 가능)
+    @GetMapping("/export")
+    public ResponseEntity<?> exportBoards(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 내보내기를 실행할 수 있습니다.");
+        }
+        return ndjsonExporter.export("boards", () -> boardService.streamForExport(since), gzip);
+    }
+
+    // 게시글 생성/수정/삭제 알림 구독 (Server-Sent Events, category 가 있으면 해당 카테고리만)
+    @GetMapping(value = "/stream", produces = "text/event-stream")
+    public ResponseEntity<SseEmitter> streamBoards(@RequestParam(value = "category", required = false) Integer category) {
+        SseEmitter emitter = boardEventHub.subscribe(category);
+        if (emitter == null) {
+            // 구독자 수 초과 (클라이언트 EventSource 는 retry 간격 후 재연결)
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "5").build();
+        }
+        return ResponseEntity.ok()
+                .header("Cache-Control", "no-cache")
+                .header("X-Accel-Buffering", "no") // 프록시 버퍼링 비활성화
+                .body(emitter);
+    }
+
+    // 게시글 조회 캐시 통계 (관리자 전용)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats(@LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 조회할 수 있습니다.");
+        }
+        return ResponseEntity.ok(boardQueryCache.stats());
+    }
+
     // 게시글 삭제
     @DeleteMapping("/delete/{boardNumber}")
     public ResponseEntity<Void> deleteBoard(@PathVariable Long boardNumber) {
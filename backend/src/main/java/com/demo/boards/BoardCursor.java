@@ -0,0 +1,55 @@
+package com.demo.boards;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * BoardCursor 클래스
+ * 게시글 목록 키셋 페이지네이션의 위치(CRT_DT, BOARD_NUMBER)를 나타냅니다.
+ * 클라이언트에는 Base64(URL-safe)로 인코딩된 불투명 문자열로만 노출됩니다.
+ */
+public class BoardCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdDate; // 마지막으로 조회된 게시글의 작성일
+    private final Long boardNumber; // 마지막으로 조회된 게시글 번호
+
+    public BoardCursor(LocalDateTime createdDate, Long boardNumber) {
+        this.createdDate = createdDate;
+        this.boardNumber = boardNumber;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public Long getBoardNumber() {
+        return boardNumber;
+    }
+
+    // 커서를 불투명 문자열로 인코딩
+    public String encode() {
+        String raw = createdDate + SEPARATOR + boardNumber;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 불투명 문자열을 커서로 디코딩, 비어 있으면 null (첫 페이지)
+    public static BoardCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new BoardCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -6,36 +6,47 @@ import com.demo.users.UserEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity // 이 클래스가 JPA 엔티티임을 나타냄
-@Table(name = "BOARD_TB") // 데이터베이스에서 "BOARD_TB" 테이블과 매핑됨
+@Table(name = "BOARD_TB", indexes = { // 데이터베이스에서 "BOARD_TB" 테이블과 매핑됨
+        // 키셋 페이지네이션(최신순) 조회용 인덱스
+        @Index(name = "BOARD_CRT_IDX", columnList = "CRT_DT DESC, BOARD_NUMBER DESC"),
+        @Index(name = "BOARD_CATEGORY_CRT_IDX", columnList = "BOARD_CATEGORY, CRT_DT DESC, BOARD_NUMBER DESC"),
+        @Index(name = "BOARD_USER_CRT_IDX", columnList = "USER_ID, CRT_DT DESC, BOARD_NUMBER DESC")
+})
 public class BoardEntity {
 
+    public static final int MAX_TITLE_LENGTH = 255; // 제목 최대 길이 (BOARD_TITLE 컬럼)
+    public static final int MAX_WRITE_LENGTH = 1000; // 내용 최대 길이 (BOARD_WRITE 컬럼)
+
     @Id // 기본 키 필드
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "BOARD_SEQ")
-    @SequenceGenerator(name = "BOARD_SEQ", sequenceName = "BOARD_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "BOARD_SEQ", sequenceName = "BOARD_SEQ", allocationSize = 50) // 50개 단위로 미리 할당 (BOARD_SEQ 는 INCREMENT BY 50)
     @Column(name = "BOARD_NUMBER") // 컬럼 이름 지정
     private Long boardNumber;
 
     @Column(name = "BOARD_CATEGORY", nullable = false) // 필수 컬럼, 게시물 카테고리
     private Integer boardCategory;
 
-    @Column(name = "BOARD_TITLE", nullable = false) // 필수 컬럼, 게시물 제목
+    @Column(name = "BOARD_TITLE", nullable = false, length = MAX_TITLE_LENGTH) // 필수 컬럼, 게시물 제목, 최대 길이 255
     private String boardTitle;
 
-    @Column(name = "BOARD_WRITE", nullable = false, length = 1000) // 필수 컬럼, 게시물 내용, 최대 길이 1000
+    @Column(name = "BOARD_WRITE", nullable = false, length = MAX_WRITE_LENGTH) // 필수 컬럼, 게시물 내용, 최대 길이 1000
     private String boardWrite;
 
-    @ManyToOne // 다대일 관계 설정 (여러 게시글이 하나의 사용자와 연결)
+    @ManyToOne(fetch = FetchType.LAZY) // 다대일 관계 설정 (여러 게시글이 하나의 사용자와 연결), 상세 조회에서만 함께 로딩
     @JoinColumn(name = "USER_ID", referencedColumnName = "USER_ID", nullable = false) // 외래 키 컬럼 지정
     private UserEntity user;
 
@@ -51,10 +62,23 @@ public class BoardEntity {
     @Column(name = "UDT_USER", nullable = false) // 수정자 필수 컬럼
     private String updatedBy;
 
+    // 조회수 (BoardViewCounter 가 모아서 일괄 증가, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "VIEW_COUNT", nullable = false, updatable = false)
+    private long viewCount;
+
+    @Version // 낙관적 잠금 버전 (수정마다 1 증가, 조회수 반영은 버전을 바꾸지 않음)
+    @Column(name = "VERSION", nullable = false)
+    private long version;
+
     @PrePersist // 엔티티가 처음 저장되기 전에 실행
     protected void onCreate() {
-        this.createdDate = LocalDateTime.now(); // 현재 시간으로 생성 날짜 설정
-        this.updatedDate = LocalDateTime.now(); // 현재 시간으로 수정 날짜 설정
+        LocalDateTime now = LocalDateTime.now();
+        if (this.createdDate == null) {
+            this.createdDate = now; // 현재 시간으로 생성 날짜 설정 (가져오기 시 원본 날짜 보존)
+        }
+        if (this.updatedDate == null) {
+            this.updatedDate = now; // 현재 시간으로 수정 날짜 설정
+        }
     }
 
     @PreUpdate // 엔티티가 업데이트되기 전에 실행
@@ -134,4 +158,37 @@ public class BoardEntity {
     public void setUpdatedBy(String updatedBy) {
         this.updatedBy = updatedBy;
     }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    // 조회수만 바꾼 응답용 사본 (캐시에 공유된 엔티티는 수정하지 않음)
+    public BoardEntity withViewCount(long viewCount) {
+        BoardEntity copy = new BoardEntity();
+        copy.boardNumber = boardNumber;
+        copy.boardCategory = boardCategory;
+        copy.boardTitle = boardTitle;
+        copy.boardWrite = boardWrite;
+        copy.user = user;
+        copy.createdDate = createdDate;
+        copy.createdBy = createdBy;
+        copy.updatedDate = updatedDate;
+        copy.updatedBy = updatedBy;
+        copy.viewCount = viewCount;
+        copy.version = version;
+        return copy;
+    }
 }
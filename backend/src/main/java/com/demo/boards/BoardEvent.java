@@ -0,0 +1,64 @@
+package com.demo.boards;
+
+import java.time.LocalDateTime;
+
+/**
+ * BoardEvent 클래스
+ * /boards/stream 으로 전달하는 게시글 변경 알림입니다.
+ * 본문은 포함하지 않으며, 클라이언트는 필요하면 목록/상세를 다시 조회합니다.
+ */
+public class BoardEvent {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private final String type; // created, updated, deleted
+    private final Long boardNumber; // 게시글 번호
+    private final Integer boardCategory; // 게시글 카테고리
+    private final String boardTitle; // 게시글 제목 (삭제 시 null)
+    private final String userId; // 작성자 아이디
+    private final LocalDateTime updatedDate; // 변경 시각
+
+    public BoardEvent(String type, Long boardNumber, Integer boardCategory, String boardTitle, String userId,
+                      LocalDateTime updatedDate) {
+        this.type = type;
+        this.boardNumber = boardNumber;
+        this.boardCategory = boardCategory;
+        this.boardTitle = boardTitle;
+        this.userId = userId;
+        this.updatedDate = updatedDate;
+    }
+
+    // 엔티티로부터 알림 생성
+    public static BoardEvent of(String type, BoardEntity board) {
+        return new BoardEvent(type, board.getBoardNumber(), board.getBoardCategory(),
+                DELETED.equals(type) ? null : board.getBoardTitle(),
+                board.getUser() != null ? board.getUser().getUserId() : null,
+                DELETED.equals(type) ? LocalDateTime.now() : board.getUpdatedDate());
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getBoardNumber() {
+        return boardNumber;
+    }
+
+    public Integer getBoardCategory() {
+        return boardCategory;
+    }
+
+    public String getBoardTitle() {
+        return boardTitle;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+}
@@ -0,0 +1,187 @@
+package com.demo.boards;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * BoardEventHub 클래스
+ * 게시글 변경 알림을 SSE 구독자에게 전달합니다.
+ * - 연결은 서블릿 비동기 요청으로 유지되어 대기 중인 구독자가 스레드를 점유하지 않음
+ * - 구독자마다 크기 제한 대기열을 두고 소수의 전송 스레드가 대기열을 비움 (발행 스레드는 전송을 기다리지 않음)
+ * - 느린 구독자의 대기열이 가득 차면 밀린 알림을 버리고 resync 알림 하나로 대체 (클라이언트가 목록 전체를 다시 조회)
+ */
+@Component
+public class BoardEventHub {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardEventHub.class);
+    private static final String RESYNC = "resync";
+    private static final Message OVERFLOW_RESYNC = new Message(RESYNC, "overflow");
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher; // 대기열 전송 스레드 (구독자당 동시에 최대 1개 작업)
+    private final long timeoutMillis; // 연결 유지 시간 (만료 시 클라이언트 EventSource 가 자동 재연결)
+    private final int queueCapacity; // 구독자별 대기열 크기
+    private final int maxSubscribers; // 최대 동시 구독자 수
+    private final LongAdder overflows = new LongAdder(); // 대기열 초과로 resync 로 대체된 횟수
+
+    public BoardEventHub(@Value("${cafe.board-stream.timeout-millis:1800000}") long timeoutMillis,
+                         @Value("${cafe.board-stream.queue-capacity:64}") int queueCapacity,
+                         @Value("${cafe.board-stream.max-subscribers:10000}") int maxSubscribers,
+                         @Value("${cafe.board-stream.dispatcher-threads:4}") int dispatcherThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger sequence = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "board-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독 등록
+     * @param category 카테고리 필터 (null 이면 전체)
+     * @return SSE 연결 (구독자 수 초과 시 null)
+     */
+    public SseEmitter subscribe(Integer category) {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, category);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscriber.offer(new Message("ready", "ok")); // 연결 직후 응답 헤더를 바로 내보냄
+        return emitter;
+    }
+
+    /**
+     * 게시글 변경 알림 발행 (커밋 후 호출)
+     * @param event 변경 알림
+     */
+    public void publish(BoardEvent event) {
+        Message message = new Message(event.getType(), event);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.category == null || subscriber.category.equals(event.getBoardCategory())) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    // 대량 변경(가져오기 등) 후 모든 구독자에게 전체 재조회 요청
+    public void publishResync() {
+        Message message = new Message(RESYNC, "all");
+        subscribers.forEach(subscriber -> subscriber.offer(message));
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료 방지 및 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${cafe.board-stream.heartbeat-millis:25000}")
+    public void heartbeat() {
+        Message message = new Message(null, null);
+        subscribers.forEach(subscriber -> subscriber.offer(message));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getOverflowCount() {
+        return overflows.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    // 전송 대기 알림 (이름이 null 이면 하트비트 주석)
+    private static final class Message {
+        private final String name;
+        private final Object data;
+
+        private Message(String name, Object data) {
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Integer category;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean needsResync = new AtomicBoolean(); // 대기열 초과 후 resync 전송 필요 (전송 스레드가 먼저 내보냄)
+
+        private Subscriber(SseEmitter emitter, Integer category) {
+            this.emitter = emitter;
+            this.category = category;
+        }
+
+        // 대기열에 추가 (가득 차면 밀린 알림을 버리고 resync 표시)
+        // resync 를 대기열에 넣으면 비운 직후 다른 발행 스레드가 자리를 채워 유실될 수 있으므로 플래그로 남김
+        private void offer(Message message) {
+            if (!queue.offer(message)) {
+                if (needsResync.compareAndSet(false, true)) {
+                    overflows.increment();
+                }
+                queue.clear();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while ((message = needsResync.getAndSet(false) ? OVERFLOW_RESYNC : queue.poll()) != null) {
+                    emitter.send(message.name == null
+                            ? SseEmitter.event().comment("heartbeat")
+                            : SseEmitter.event().name(message.name).data(message.data, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                log.debug("SSE 구독자 연결 종료: {}", e.getMessage());
+                subscribers.remove(this);
+                queue.clear();
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() || needsResync.get()) {
+                schedule(); // 전송 중에 추가된 알림
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.demo.boards;
+
+import java.time.LocalDateTime;
+
+/**
+ * BoardExportRow 클래스
+ * 게시글 내보내기(NDJSON) 전용 읽기 프로젝션입니다.
+ * 관리 대상 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않습니다.
+ */
+public class BoardExportRow {
+
+    private final Long boardNumber; // 게시글 번호
+    private final Integer boardCategory; // 게시글 카테고리
+    private final String boardTitle; // 게시글 제목
+    private final String boardWrite; // 게시글 내용
+    private final String userId; // 작성자 아이디
+    private final LocalDateTime createdDate; // 생성 날짜
+    private final String createdBy; // 생성자
+    private final LocalDateTime updatedDate; // 수정 날짜
+    private final String updatedBy; // 수정자
+
+    public BoardExportRow(Long boardNumber, Integer boardCategory, String boardTitle, String boardWrite, String userId,
+                          LocalDateTime createdDate, String createdBy, LocalDateTime updatedDate, String updatedBy) {
+        this.boardNumber = boardNumber;
+        this.boardCategory = boardCategory;
+        this.boardTitle = boardTitle;
+        this.boardWrite = boardWrite;
+        this.userId = userId;
+        this.createdDate = createdDate;
+        this.createdBy = createdBy;
+        this.updatedDate = updatedDate;
+        this.updatedBy = updatedBy;
+    }
+
+    public Long getBoardNumber() {
+        return boardNumber;
+    }
+
+    public Integer getBoardCategory() {
+        return boardCategory;
+    }
+
+    public String getBoardTitle() {
+        return boardTitle;
+    }
+
+    public String getBoardWrite() {
+        return boardWrite;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public String getUpdatedBy() {
+        return updatedBy;
+    }
+}
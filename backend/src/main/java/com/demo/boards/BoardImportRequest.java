@@ -0,0 +1,66 @@
+package com.demo.boards;
+
+import java.time.LocalDateTime;
+
+/**
+ * BoardImportRequest 클래스
+ * 대량 가져오기(이전 포럼 이관 등)의 게시글 한 건입니다.
+ * 작성일/수정일을 지정하면 그대로 보존하고, 비어 있으면 현재 시간을 사용합니다.
+ */
+public class BoardImportRequest {
+
+    private Integer boardCategory; // 게시글 카테고리
+    private String boardTitle; // 게시글 제목
+    private String boardWrite; // 게시글 내용
+    private String userId; // 작성자 아이디 (USER_TB 에 존재해야 함)
+    private LocalDateTime createdDate; // 원본 작성일 (선택)
+    private LocalDateTime updatedDate; // 원본 수정일 (선택)
+
+    public Integer getBoardCategory() {
+        return boardCategory;
+    }
+
+    public void setBoardCategory(Integer boardCategory) {
+        this.boardCategory = boardCategory;
+    }
+
+    public String getBoardTitle() {
+        return boardTitle;
+    }
+
+    public void setBoardTitle(String boardTitle) {
+        this.boardTitle = boardTitle;
+    }
+
+    public String getBoardWrite() {
+        return boardWrite;
+    }
+
+    public void setBoardWrite(String boardWrite) {
+        this.boardWrite = boardWrite;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public void setUpdatedDate(LocalDateTime updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+}
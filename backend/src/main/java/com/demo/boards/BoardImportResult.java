@@ -0,0 +1,44 @@
+package com.demo.boards;
+
+import java.util.List;
+
+/**
+ * BoardImportResult 클래스
+ * 대량 가져오기 결과와 처리량입니다.
+ */
+public class BoardImportResult {
+
+    private final int requested; // 요청 건수
+    private final int imported; // 저장 건수
+    private final List<Integer> skippedIndexes; // 건너뛴 요청의 순번 (필수값 누락, 존재하지 않는 작성자)
+    private final long elapsedMillis; // 처리 시간
+    private final double rowsPerSecond; // 초당 저장 건수
+
+    public BoardImportResult(int requested, int imported, List<Integer> skippedIndexes, long elapsedMillis) {
+        this.requested = requested;
+        this.imported = imported;
+        this.skippedIndexes = skippedIndexes;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = elapsedMillis > 0 ? imported * 1000.0 / elapsedMillis : imported;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public List<Integer> getSkippedIndexes() {
+        return skippedIndexes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+}
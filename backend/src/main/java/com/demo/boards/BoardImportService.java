@@ -0,0 +1,139 @@
+package com.demo.boards;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.common.TransactionCallbacks;
+import com.demo.users.UserEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * BoardImportService 클래스
+ * 게시글 대량 가져오기 서비스입니다.
+ * - BOARD_SEQ 를 allocationSize 단위로 미리 할당(pooled)하여 건마다 NEXTVAL 을 호출하지 않음
+ * - hibernate.jdbc.batch_size 단위로 INSERT 를 JDBC 배치로 전송
+ * - 배치마다 flush/clear 하여 영속성 컨텍스트가 커지지 않도록 유지
+ */
+@Service
+public class BoardImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardImportService.class);
+    private static final int AUTHOR_LOOKUP_CHUNK = 1000; // Oracle IN 절 최대 개수
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final BoardQueryCache boardQueryCache; // 가져오기 후 목록 캐시 무효화
+    private final BoardSearchIndex boardSearchIndex; // 가져온 게시글 검색 색인 반영
+    private final BoardEventHub boardEventHub; // 가져오기 후 구독자에게 전체 재조회 알림
+    private final int batchSize; // flush/clear 주기 (JDBC 배치 크기와 동일)
+
+    public BoardImportService(BoardQueryCache boardQueryCache, BoardSearchIndex boardSearchIndex,
+                              BoardEventHub boardEventHub,
+                              @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.boardQueryCache = boardQueryCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardEventHub = boardEventHub;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 게시글 대량 저장 (하나의 트랜잭션)
+     * @param requests 가져올 게시글 목록
+     * @param importedBy 가져오기를 실행한 관리자 ID (UDT_USER 로 기록)
+     * @return 저장 건수, 건너뛴 요청, 처리량
+     */
+    @Transactional
+    public BoardImportResult importBoards(List<BoardImportRequest> requests, String importedBy) {
+        long started = System.nanoTime();
+        Map<String, String> authors = findAuthorNicknames(requests); // 존재하는 작성자 ID -> 닉네임
+
+        List<Integer> skipped = new ArrayList<>();
+        List<BoardSearchDocument> documents = new ArrayList<>(requests.size());
+        int imported = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            BoardImportRequest request = requests.get(i);
+            if (!isValid(request) || !authors.containsKey(request.getUserId())) {
+                skipped.add(i);
+                continue;
+            }
+
+            BoardEntity board = new BoardEntity();
+            board.setBoardCategory(request.getBoardCategory());
+            board.setBoardTitle(request.getBoardTitle());
+            board.setBoardWrite(request.getBoardWrite());
+            board.setUser(entityManager.getReference(UserEntity.class, request.getUserId())); // 조회 없이 FK 만 설정
+            board.setCreatedDate(request.getCreatedDate());
+            board.setUpdatedDate(request.getUpdatedDate() != null ? request.getUpdatedDate() : request.getCreatedDate());
+            board.setCreatedBy(request.getUserId());
+            board.setUpdatedBy(importedBy);
+            entityManager.persist(board); // ID 는 미리 할당된 시퀀스 블록에서 부여
+            documents.add(BoardSearchDocument.of(board, authors.get(request.getUserId())));
+
+            imported++;
+            if (imported % batchSize == 0) {
+                entityManager.flush(); // JDBC 배치 전송
+                entityManager.clear(); // 영속성 컨텍스트 비우기
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        TransactionCallbacks.afterCommit(() -> {
+            boardQueryCache.evictAll(); // 여러 카테고리/작성자에 걸친 변경이므로 전체 무효화
+            documents.forEach(boardSearchIndex::index);
+            boardEventHub.publishResync(); // 게시글마다 알림을 보내지 않고 한 번만 재조회 요청
+        });
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        BoardImportResult result = new BoardImportResult(requests.size(), imported, skipped, elapsedMillis);
+        log.info("게시글 가져오기: 요청 {}건, 저장 {}건, {}ms ({} rows/s)",
+                requests.size(), imported, elapsedMillis, String.format("%.1f", result.getRowsPerSecond()));
+        return result;
+    }
+
+    // 필수값과 컬럼 길이 확인 (초과하는 행 하나 때문에 배치 전체가 실패하지 않도록 건너뜀)
+    private boolean isValid(BoardImportRequest request) {
+        return request.getBoardCategory() != null
+                && request.getBoardTitle() != null && !request.getBoardTitle().isBlank()
+                && request.getBoardTitle().length() <= BoardEntity.MAX_TITLE_LENGTH
+                && request.getBoardWrite() != null
+                && request.getBoardWrite().length() <= BoardEntity.MAX_WRITE_LENGTH
+                && request.getUserId() != null;
+    }
+
+    // 요청에 등장하는 작성자 중 실제 존재하는 사용자의 닉네임을 키 컬럼 조회로 확인
+    private Map<String, String> findAuthorNicknames(List<BoardImportRequest> requests) {
+        LinkedHashSet<String> userIds = new LinkedHashSet<>();
+        for (BoardImportRequest request : requests) {
+            if (request.getUserId() != null) {
+                userIds.add(request.getUserId());
+            }
+        }
+
+        Map<String, String> authors = new HashMap<>();
+        List<String> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += AUTHOR_LOOKUP_CHUNK) {
+            List<String> chunk = ids.subList(from, Math.min(from + AUTHOR_LOOKUP_CHUNK, ids.size()));
+            List<Object[]> rows = entityManager
+                    .createQuery("SELECT u.userId, u.userNickname FROM UserEntity u WHERE u.userId IN :ids", Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList();
+            for (Object[] row : rows) {
+                authors.put((String) row[0], (String) row[1]);
+            }
+        }
+        return authors;
+    }
+}
@@ -0,0 +1,50 @@
+package com.demo.boards;
+
+/**
+ * BoardPatchRequest 클래스
+ * 게시글 부분 수정 요청입니다. null 인 항목은 변경하지 않으며, version 은 수정 화면을 연 시점의 게시글 버전입니다.
+ */
+public class BoardPatchRequest {
+
+    private Integer boardCategory; // 변경할 카테고리 (선택)
+    private String boardTitle; // 변경할 제목 (선택)
+    private String boardWrite; // 변경할 내용 (선택)
+    private Long version; // 기대하는 현재 버전 (필수)
+
+    public Integer getBoardCategory() {
+        return boardCategory;
+    }
+
+    public void setBoardCategory(Integer boardCategory) {
+        this.boardCategory = boardCategory;
+    }
+
+    public String getBoardTitle() {
+        return boardTitle;
+    }
+
+    public void setBoardTitle(String boardTitle) {
+        this.boardTitle = boardTitle;
+    }
+
+    public String getBoardWrite() {
+        return boardWrite;
+    }
+
+    public void setBoardWrite(String boardWrite) {
+        this.boardWrite = boardWrite;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    // 변경할 항목이 하나도 없는지 여부
+    public boolean isEmpty() {
+        return boardCategory == null && boardTitle == null && boardWrite == null;
+    }
+}
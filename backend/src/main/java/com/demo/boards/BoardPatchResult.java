@@ -0,0 +1,45 @@
+package com.demo.boards;
+
+import java.time.LocalDateTime;
+
+/**
+ * BoardPatchResult 클래스
+ * 게시글 부분 수정 결과입니다. 충돌 시 currentVersion 으로 최신 버전을 알려줍니다.
+ */
+public class BoardPatchResult {
+
+    public enum Status {
+        UPDATED, // 수정 완료
+        NOT_FOUND, // 게시글 없음
+        FORBIDDEN, // 작성자(또는 관리자)가 아님
+        CONFLICT // 다른 사용자가 먼저 수정함
+    }
+
+    private final Status status;
+    private final Long boardNumber; // 게시글 번호
+    private final Long currentVersion; // 수정 후(또는 충돌 시 현재) 버전
+    private final LocalDateTime updatedDate; // 수정 날짜 (수정 완료 시)
+
+    public BoardPatchResult(Status status, Long boardNumber, Long currentVersion, LocalDateTime updatedDate) {
+        this.status = status;
+        this.boardNumber = boardNumber;
+        this.currentVersion = currentVersion;
+        this.updatedDate = updatedDate;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getBoardNumber() {
+        return boardNumber;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+}
@@ -0,0 +1,226 @@
+package com.demo.boards;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.demo.common.CursorPage;
+import com.demo.common.SingleFlight;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * BoardQueryCache 클래스
+ * BoardService 읽기 결과(목록 페이지, 게시글 상세)를 보관하는 크기/TTL 제한 인메모리 캐시입니다.
+ * 쓰기 시에는 해당 게시글 상세와, 그 게시글이 포함될 수 있는 목록(전체, 같은 카테고리, 같은 작성자)만 무효화합니다.
+ * 같은 키의 동시 조회는 SingleFlight 로 하나의 DB 조회를 공유하되, 조회는 맵 내부 잠금(synchronized) 밖에서 호출한 스레드가 직접 수행합니다.
+ * (가상 스레드가 JDBC 대기 중 캐리어 스레드에 고정되지 않도록)
+ */
+@Component
+public class BoardQueryCache {
+
+    private final AsyncCache<ListKey, CursorPage<BoardSummary>> listCache; // 목록 페이지 캐시
+    private final AsyncCache<Long, BoardEntity> detailCache; // 게시글 상세 캐시
+    private final SingleFlight<ListKey, CursorPage<BoardSummary>> listFlight; // 목록 동시 조회 합치기
+    private final SingleFlight<Long, BoardEntity> detailFlight; // 상세 동시 조회 합치기
+
+    public BoardQueryCache(@Value("${cafe.board-cache.list-max-size:1000}") long listMaxSize,
+                           @Value("${cafe.board-cache.detail-max-size:10000}") long detailMaxSize,
+                           @Value("${cafe.board-cache.ttl:30s}") Duration ttl,
+                           @Value("${cafe.board-cache.coalesce-timeout:5s}") Duration coalesceTimeout) {
+        this.listCache = Caffeine.newBuilder()
+                .maximumSize(listMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(detailMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.listFlight = SingleFlight.caching(listCache, coalesceTimeout);
+        this.detailFlight = SingleFlight.caching(detailCache, coalesceTimeout);
+    }
+
+    // 목록 페이지 조회 (없으면 loader 로 조회 후 저장)
+    public CursorPage<BoardSummary> getList(ListKey key, Function<ListKey, CursorPage<BoardSummary>> loader) {
+        return listFlight.execute(key, loader);
+    }
+
+    // 게시글 상세 조회 (없으면 loader 로 조회 후 저장)
+    public BoardEntity getDetail(Long boardNumber, Function<Long, BoardEntity> loader) {
+        return detailFlight.execute(boardNumber, loader);
+    }
+
+    /**
+     * 게시글 변경에 따른 캐시 무효화
+     * 즉시 한 번, 트랜잭션이 있으면 커밋 후 한 번 더 무효화하여 커밋 전에 다시 채워진 값도 제거합니다.
+     * @param boardNumber 변경된 게시글 번호 (신규 작성이면 null)
+     * @param category 게시글 카테고리 (모르면 null, 모든 카테고리 목록 무효화)
+     * @param userId 작성자 ID (모르면 null, 모든 작성자 목록 무효화)
+     */
+    public void evictBoard(Long boardNumber, Integer category, String userId) {
+        evictNowAndAfterCommit(() -> {
+            if (boardNumber != null) {
+                detailCache.synchronous().invalidate(boardNumber);
+            }
+            listCache.asMap().keySet().removeIf(key -> key.isAffectedBy(category, userId));
+        });
+    }
+
+    /**
+     * 작성자 정보(닉네임) 변경에 따른 캐시 무효화
+     * 해당 작성자의 게시글 상세와, 그 작성자의 게시글이 포함될 수 있는 모든 목록을 무효화합니다.
+     * @param userId 작성자 ID
+     */
+    public void evictAuthor(String userId) {
+        evictNowAndAfterCommit(() -> {
+            detailCache.synchronous().asMap().values()
+                    .removeIf(board -> board.getUser() != null && userId.equals(board.getUser().getUserId()));
+            listCache.asMap().keySet().removeIf(key -> key.isAffectedBy(null, userId));
+        });
+    }
+
+    // 즉시 한 번, 트랜잭션이 있으면 커밋 후 한 번 더 무효화 (커밋 전에 다시 채워진 값도 제거)
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    // 캐시에 있는 게시글 상세 (없으면 null, DB 조회 안 함)
+    public BoardEntity peekDetail(Long boardNumber) {
+        return detailCache.synchronous().getIfPresent(boardNumber);
+    }
+
+    // 게시글 상세만 무효화 (목록에 영향 없는 변경, 예: 조회수 반영)
+    public void evictDetails(Collection<Long> boardNumbers) {
+        detailCache.synchronous().invalidateAll(boardNumbers);
+    }
+
+    // 전체 캐시 무효화
+    public void evictAll() {
+        listCache.synchronous().invalidateAll();
+        detailCache.synchronous().invalidateAll();
+    }
+
+    // 캐시별 적중/미스 통계
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put("list", toMap(listCache.synchronous().stats(), listCache.synchronous().estimatedSize()));
+        stats.put("detail", toMap(detailCache.synchronous().stats(), detailCache.synchronous().estimatedSize()));
+        return stats;
+    }
+
+    public Cache<ListKey, CursorPage<BoardSummary>> getListCache() {
+        return listCache.synchronous();
+    }
+
+    public Cache<Long, BoardEntity> getDetailCache() {
+        return detailCache.synchronous();
+    }
+
+    public SingleFlight<ListKey, CursorPage<BoardSummary>> getListFlight() {
+        return listFlight;
+    }
+
+    public SingleFlight<Long, BoardEntity> getDetailFlight() {
+        return detailFlight;
+    }
+
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", size);
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictionCount", stats.evictionCount());
+        map.put("averageLoadPenaltyNanos", stats.averageLoadPenalty());
+        return map;
+    }
+
+    // 목록 조회 범위
+    public enum Scope {
+        ALL, // 전체 게시글
+        CATEGORY, // 카테고리별 게시글
+        USER // 작성자별 게시글
+    }
+
+    // 목록 캐시 키 (조회 범위 + 커서 + 페이지 크기)
+    public static final class ListKey {
+
+        private final Scope scope;
+        private final String value; // 카테고리 ID 또는 사용자 ID
+        private final String cursor;
+        private final int size;
+
+        public ListKey(Scope scope, String value, String cursor, int size) {
+            this.scope = scope;
+            this.value = value;
+            this.cursor = cursor;
+            this.size = size;
+        }
+
+        public Scope getScope() {
+            return scope;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getCursor() {
+            return cursor;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        // 해당 카테고리/작성자의 게시글 변경이 이 목록에 영향을 주는지 여부
+        boolean isAffectedBy(Integer category, String userId) {
+            switch (scope) {
+                case CATEGORY:
+                    return category == null || value.equals(String.valueOf(category));
+                case USER:
+                    return userId == null || value.equals(userId);
+                default:
+                    return true;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ListKey)) {
+                return false;
+            }
+            ListKey other = (ListKey) o;
+            return size == other.size && scope == other.scope
+                    && Objects.equals(value, other.value) && Objects.equals(cursor, other.cursor);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, value, cursor, size);
+        }
+    }
+}
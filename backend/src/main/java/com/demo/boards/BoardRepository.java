@@ -1,13 +1,36 @@
 package com.demo.boards;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.QueryHint;
 
 public interface BoardRepository extends JpaRepository<BoardEntity, Long> {
 
+    // 내보내기 커서 한 번에 가져올 행 수 (Oracle 드라이버 기본값 10)
+    String EXPORT_FETCH_SIZE = "500";
+
+    // 내보내기 프로젝션 SELECT 절
+    String EXPORT_SELECT = "SELECT new com.demo.boards.BoardExportRow(b.boardNumber, b.boardCategory, b.boardTitle, "
+            + "b.boardWrite, b.user.userId, b.createdDate, b.createdBy, b.updatedDate, b.updatedBy) FROM BoardEntity b ";
+
+    // 목록 프로젝션 SELECT 절 (작성자 LOB 컬럼은 조회하지 않음)
+    String SUMMARY_SELECT = "SELECT new com.demo.boards.BoardSummary(b.boardNumber, b.boardCategory, b.boardTitle, "
+            + "SUBSTRING(b.boardWrite, 1, 30), u.userId, u.userNickname, b.createdDate, b.updatedDate) "
+            + "FROM BoardEntity b JOIN b.user u ";
+
     // 특정 사용자의 게시글 개수를 반환하는 쿼리
     @Query("SELECT COUNT(b) FROM BoardEntity b WHERE b.user.userId = :userId")
     int countPostsByUserId(@Param("userId") String userId);
@@ -25,4 +48,99 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Long> {
 
     // 모든 게시글 리스트 반환
     List<BoardEntity> findAll();
+
+    // 게시글 상세 조회 (작성자 정보 포함, 단일 쿼리)
+    @Query("SELECT b FROM BoardEntity b JOIN FETCH b.user WHERE b.boardNumber = :boardNumber")
+    Optional<BoardEntity> findDetailById(@Param("boardNumber") Long boardNumber);
+
+    // 전체 게시글 첫 페이지 (최신순, 키셋 페이지네이션)
+    @Query(SUMMARY_SELECT + "ORDER BY b.createdDate DESC, b.boardNumber DESC")
+    List<BoardSummary> findPage(Pageable pageable);
+
+    // 전체 게시글 커서 이후 페이지
+    @Query(SUMMARY_SELECT
+            + "WHERE b.createdDate < :createdDate OR (b.createdDate = :createdDate AND b.boardNumber < :boardNumber) "
+            + "ORDER BY b.createdDate DESC, b.boardNumber DESC")
+    List<BoardSummary> findPageAfter(@Param("createdDate") LocalDateTime createdDate,
+                                     @Param("boardNumber") Long boardNumber, Pageable pageable);
+
+    // 카테고리별 게시글 첫 페이지
+    @Query(SUMMARY_SELECT + "WHERE b.boardCategory = :category "
+            + "ORDER BY b.createdDate DESC, b.boardNumber DESC")
+    List<BoardSummary> findPageByCategory(@Param("category") Integer category, Pageable pageable);
+
+    // 카테고리별 게시글 커서 이후 페이지
+    @Query(SUMMARY_SELECT + "WHERE b.boardCategory = :category "
+            + "AND (b.createdDate < :createdDate OR (b.createdDate = :createdDate AND b.boardNumber < :boardNumber)) "
+            + "ORDER BY b.createdDate DESC, b.boardNumber DESC")
+    List<BoardSummary> findPageByCategoryAfter(@Param("category") Integer category,
+                                               @Param("createdDate") LocalDateTime createdDate,
+                                               @Param("boardNumber") Long boardNumber, Pageable pageable);
+
+    // 특정 사용자의 게시글 첫 페이지
+    @Query(SUMMARY_SELECT + "WHERE u.userId = :userId "
+            + "ORDER BY b.createdDate DESC, b.boardNumber DESC")
+    List<BoardSummary> findPageByUserId(@Param("userId") String userId, Pageable pageable);
+
+    // 특정 사용자의 게시글 커서 이후 페이지
+    @Query(SUMMARY_SELECT + "WHERE u.userId = :userId "
+            + "AND (b.createdDate < :createdDate OR (b.createdDate = :createdDate AND b.boardNumber < :boardNumber)) "
+            + "ORDER BY b.createdDate DESC, b.boardNumber DESC")
+    List<BoardSummary> findPageByUserIdAfter(@Param("userId") String userId,
+                                             @Param("createdDate") LocalDateTime createdDate,
+                                             @Param("boardNumber") Long boardNumber, Pageable pageable);
+
+    // 일괄 작업 대상 사용자들의 게시글 번호
+    @Query("SELECT b.boardNumber FROM BoardEntity b WHERE b.user.userId IN :userIds")
+    List<Long> findBoardNumbersByUserIds(@Param("userIds") Collection<String> userIds);
+
+    // 사용자들의 게시글 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM BoardEntity b WHERE b.user.userId IN :userIds")
+    int deleteAllByUserIds(@Param("userIds") Collection<String> userIds);
+
+    // 사용자들의 게시글을 다른 사용자에게 일괄 이전 (내용이 바뀌지 않아도 버전 증가로 진행 중인 수정과 충돌 처리)
+    @Modifying
+    @Query(value = "UPDATE BOARD_TB SET USER_ID = :target, UDT_DT = :now, UDT_USER = :updatedBy, VERSION = VERSION + 1 "
+            + "WHERE USER_ID IN (:userIds)", nativeQuery = true)
+    int reassignAllByUserIds(@Param("userIds") Collection<String> userIds, @Param("target") String target,
+                             @Param("now") LocalDateTime now, @Param("updatedBy") String updatedBy);
+
+    // 게시글 번호 목록의 검색 색인 문서 (일괄 이전 후 색인 갱신)
+    @Query("SELECT new com.demo.boards.BoardSearchDocument(b.boardNumber, b.boardCategory, b.boardTitle, b.boardWrite, "
+            + "u.userId, u.userNickname, b.createdDate, b.updatedDate) "
+            + "FROM BoardEntity b JOIN b.user u WHERE b.boardNumber IN :boardNumbers")
+    List<BoardSearchDocument> findSearchDocumentsIn(@Param("boardNumbers") Collection<Long> boardNumbers);
+
+    // 부분 수정 실패 시 원인 확인용 현재 버전과 작성자 (version, userId)
+    @Query("SELECT b.version, b.user.userId FROM BoardEntity b WHERE b.boardNumber = :boardNumber")
+    List<Object[]> findVersionAndOwner(@Param("boardNumber") Long boardNumber);
+
+    // 게시글 한 건의 검색 색인 문서 (부분 수정 후 상세 캐시에 없을 때)
+    @Query("SELECT new com.demo.boards.BoardSearchDocument(b.boardNumber, b.boardCategory, b.boardTitle, b.boardWrite, "
+            + "u.userId, u.userNickname, b.createdDate, b.updatedDate) "
+            + "FROM BoardEntity b JOIN b.user u WHERE b.boardNumber = :boardNumber")
+    Optional<BoardSearchDocument> findSearchDocument(@Param("boardNumber") Long boardNumber);
+
+    // 검색 색인 구축용 게시글 조회 (게시글 번호 순 키셋)
+    @Query("SELECT new com.demo.boards.BoardSearchDocument(b.boardNumber, b.boardCategory, b.boardTitle, b.boardWrite, "
+            + "u.userId, u.userNickname, b.createdDate, b.updatedDate) "
+            + "FROM BoardEntity b JOIN b.user u WHERE b.boardNumber > :after ORDER BY b.boardNumber")
+    List<BoardSearchDocument> findSearchDocuments(@Param("after") Long after, Pageable pageable);
+
+    // 전체 게시글 내보내기 (정방향 커서 스트림, 트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT)
+    Stream<BoardExportRow> streamForExport();
+
+    // 특정 시각 이후 수정된 게시글 내보내기 (증분 백업, 수정 날짜 순)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT + "WHERE b.updatedDate > :since ORDER BY b.updatedDate, b.boardNumber")
+    Stream<BoardExportRow> streamForExportSince(@Param("since") LocalDateTime since);
 }
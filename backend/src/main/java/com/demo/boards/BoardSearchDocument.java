@@ -0,0 +1,70 @@
+package com.demo.boards;
+
+import java.time.LocalDateTime;
+
+/**
+ * BoardSearchDocument 클래스
+ * 검색 인덱스에 넣을 게시글 정보입니다. 인덱스 초기 구축 시 프로젝션 쿼리로 조회됩니다.
+ */
+public class BoardSearchDocument {
+
+    private final Long boardNumber; // 게시글 번호
+    private final Integer boardCategory; // 게시글 카테고리
+    private final String boardTitle; // 게시글 제목
+    private final String boardWrite; // 게시글 내용
+    private final String userId; // 작성자 아이디
+    private final String userNickname; // 작성자 닉네임 (모르면 null, 기존 값 유지)
+    private final LocalDateTime createdDate; // 생성 날짜
+    private final LocalDateTime updatedDate; // 수정 날짜
+
+    public BoardSearchDocument(Long boardNumber, Integer boardCategory, String boardTitle, String boardWrite,
+                               String userId, String userNickname, LocalDateTime createdDate, LocalDateTime updatedDate) {
+        this.boardNumber = boardNumber;
+        this.boardCategory = boardCategory;
+        this.boardTitle = boardTitle;
+        this.boardWrite = boardWrite;
+        this.userId = userId;
+        this.userNickname = userNickname;
+        this.createdDate = createdDate;
+        this.updatedDate = updatedDate;
+    }
+
+    // 엔티티로부터 문서 생성 (작성자 프록시는 ID 만 사용)
+    public static BoardSearchDocument of(BoardEntity board, String userNickname) {
+        String userId = board.getUser() != null ? board.getUser().getUserId() : board.getCreatedBy();
+        return new BoardSearchDocument(board.getBoardNumber(), board.getBoardCategory(), board.getBoardTitle(),
+                board.getBoardWrite(), userId, userNickname, board.getCreatedDate(), board.getUpdatedDate());
+    }
+
+    public Long getBoardNumber() {
+        return boardNumber;
+    }
+
+    public Integer getBoardCategory() {
+        return boardCategory;
+    }
+
+    public String getBoardTitle() {
+        return boardTitle;
+    }
+
+    public String getBoardWrite() {
+        return boardWrite;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+}
@@ -0,0 +1,24 @@
+package com.demo.boards;
+
+/**
+ * BoardSearchHit 클래스
+ * 검색 결과 한 건 (목록 프로젝션 + 관련도 점수)입니다.
+ */
+public class BoardSearchHit {
+
+    private final BoardSummary board; // 게시글 요약 정보
+    private final double score; // 관련도 점수
+
+    public BoardSearchHit(BoardSummary board, double score) {
+        this.board = board;
+        this.score = score;
+    }
+
+    public BoardSummary getBoard() {
+        return board;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,530 @@
+package com.demo.boards;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * BoardSearchIndex 클래스
+ * 게시글 제목과 내용에 대한 인메모리 역색인입니다.
+ * - 한국어처럼 띄어쓰기만으로 단어를 나누기 어려운 텍스트를 위해 2-gram 으로 토큰화
+ * - 애플리케이션 시작 후 별도 스레드에서 BoardRepository 로 전체 구축, 이후 BoardService 의 생성/수정/삭제 시 증분 갱신
+ *   (구축 중에는 이미 색인된 게시글만 검색됨)
+ * - 질의의 모든 토큰을 포함하는 게시글만 일치로 보며, 가장 드문 토큰의 색인 목록부터 교집합을 구해
+ *   검색 비용이 테이블 크기가 아니라 결과 크기에 비례하도록 함
+ * - 2-gram 이 없는 한 글자 검색어는 그 글자를 포함하는 2-gram 과 한 글자 단어의 색인 목록을 합쳐 검색
+ * 메모리: 색인 목록은 토큰마다 게시글 번호(long[])와 가중치(short[]) 정렬 배열로, 게시글은 제목/미리보기와
+ * 공유 토큰 배열만 보관합니다. (닉네임은 작성자별 한 번만 보관)
+ * 힙 사용량은 게시글당 약 0.6KB (local 프로필 가상 데이터 기준, 고유 토큰 수에 비례) 로 100만 건에 약 0.55GB,
+ * 500만 건이면 약 2.7GB 가 필요합니다.
+ */
+@Component
+public class BoardSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardSearchIndex.class);
+    private static final int TITLE_WEIGHT = 3; // 제목 일치 가중치
+    private static final int BUILD_BATCH_SIZE = 1000; // 초기 구축 시 한 번에 읽는 게시글 수
+    private static final int PREVIEW_LENGTH = 30; // 목록 미리보기 길이 (BoardRepository 프로젝션과 동일)
+
+    private final BoardRepository boardRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>(); // 토큰 -> 게시글 번호순 (게시글 번호, 가중 빈도)
+    private final Map<Long, IndexedBoard> documents = new HashMap<>(); // 게시글 번호 -> 색인된 문서
+    private final Map<Character, Set<String>> bigramsByChar = new HashMap<>(); // 글자 -> 그 글자를 포함하는 2-gram (한 글자 검색용)
+    private final Map<String, Author> authors = new HashMap<>(); // 작성자 ID -> 작성자 (문서가 공유, 닉네임은 작성자별 한 번만 보관)
+    private final Set<Long> removedDuringBuild = new HashSet<>(); // 초기 구축 중 삭제된 게시글
+    private volatile boolean building;
+
+    public BoardSearchIndex(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    // 애플리케이션 기동 후 별도 스레드에서 색인 구축 (기동과 요청 처리를 막지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        building = true; // 스레드 시작 전부터 삭제를 기록
+        Thread thread = new Thread(this::rebuild, "board-search-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 전체 게시글로 색인 구축 (게시글 번호 순 키셋 조회)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        building = true;
+        try {
+            Long after = 0L;
+            int indexed = 0;
+            while (true) {
+                List<BoardSearchDocument> batch = boardRepository.findSearchDocuments(after, PageRequest.of(0, BUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lock.writeLock().lock();
+                try {
+                    for (BoardSearchDocument doc : batch) {
+                        if (!removedDuringBuild.contains(doc.getBoardNumber())) {
+                            upsertLocked(doc, true);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                indexed += batch.size();
+                after = batch.get(batch.size() - 1).getBoardNumber();
+            }
+            log.info("게시글 검색 색인 구축 완료: {}건, {}ms", indexed, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 색인 구축 실패 (이후 변경분만 색인됨)", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                removedDuringBuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 게시글 추가 또는 갱신
+     * @param doc 게시글 문서 (닉네임이 null 이면 기존 값 유지)
+     */
+    public void index(BoardSearchDocument doc) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(doc, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 제거
+     * @param boardNumber 게시글 번호
+     */
+    public void remove(Long boardNumber) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(boardNumber);
+            if (building) {
+                removedDuringBuild.add(boardNumber);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 작성자 닉네임 변경 반영 (작성자별로 한 번만 보관하므로 게시글은 다시 색인하지 않음)
+     * @param userId 작성자 ID
+     * @param nickname 새 닉네임
+     */
+    public void updateAuthorNickname(String userId, String nickname) {
+        lock.writeLock().lock();
+        try {
+            Author author = authors.get(userId);
+            if (author != null) { // 색인된 게시글이 없는 작성자는 무시
+                author.nickname = nickname;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * @param query 검색어
+     * @param category 카테고리 필터 (null 이면 전체)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 관련도순 검색 결과 페이지
+     */
+    public BoardSearchResult search(String query, Integer category, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return new BoardSearchResult(Collections.emptyList(), 0, page, size);
+        }
+
+        lock.readLock().lock();
+        try {
+            // 색인 목록이 짧은(드문) 토큰부터 교집합
+            List<Postings> lists = new ArrayList<>();
+            for (String term : terms) {
+                Postings list = term.length() == 1 ? charPostingsLocked(term) : postings.get(term);
+                if (list == null) {
+                    return new BoardSearchResult(Collections.emptyList(), 0, page, size);
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Postings::size));
+
+            // 현재 페이지까지 필요한 상위 결과 수 (큰 페이지 번호의 int 오버플로 방지, 색인된 게시글 수를 넘지 않음)
+            int limit = (int) Math.min(((long) page + 1) * size, Math.max(1, documents.size()));
+            PriorityQueue<Candidate> top = new PriorityQueue<>(CANDIDATE_RANKING.reversed());
+            int total = 0;
+            int documentCount = Math.max(1, documents.size());
+            Postings rarest = lists.get(0);
+            for (int i = 0; i < rarest.size; i++) {
+                long boardNumber = rarest.boards[i];
+                IndexedBoard board = documents.get(boardNumber);
+                if (category != null && category != board.category) {
+                    continue;
+                }
+                double score = 0;
+                boolean matched = true;
+                for (Postings list : lists) {
+                    int weight = list.weightOf(boardNumber);
+                    if (weight == 0) {
+                        matched = false;
+                        break;
+                    }
+                    score += weight * Math.log(1.0 + (double) documentCount / list.size()); // 가중 빈도 x IDF
+                }
+                if (!matched) {
+                    continue;
+                }
+                total++;
+                top.offer(new Candidate(boardNumber, board, score));
+                if (top.size() > limit) {
+                    top.poll(); // 가장 낮은 순위 제거
+                }
+            }
+
+            List<Candidate> rankedCandidates = new ArrayList<>(top);
+            rankedCandidates.sort(CANDIDATE_RANKING);
+            List<BoardSearchHit> ranked = new ArrayList<>(rankedCandidates.size());
+            for (Candidate candidate : rankedCandidates) {
+                ranked.add(new BoardSearchHit(toSummary(candidate.boardNumber, candidate.board), candidate.score));
+            }
+            int from = (int) Math.min((long) page * size, ranked.size());
+            return new BoardSearchResult(List.copyOf(ranked.subList(from, ranked.size())), total, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 게시글 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수 내림차순, 같으면 최신 게시글 우선
+    private static final Comparator<Candidate> CANDIDATE_RANKING = Comparator
+            .comparingDouble((Candidate candidate) -> candidate.score).reversed()
+            .thenComparing(candidate -> candidate.boardNumber, Comparator.reverseOrder());
+
+    /**
+     * 텍스트를 2-gram 토큰으로 분리
+     * 글자/숫자가 아닌 문자로 단어를 나누고, 한 글자 단어는 그대로, 두 글자 이상은 2-gram 으로 분리합니다.
+     * @param text 원문
+     * @return 토큰 목록 (중복 포함)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else {
+                addWordTokens(word, tokens);
+            }
+        }
+        addWordTokens(word, tokens);
+        return tokens;
+    }
+
+    private static void addWordTokens(StringBuilder word, List<String> tokens) {
+        if (word.length() == 1) {
+            tokens.add(word.toString());
+        } else {
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        word.setLength(0);
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 문서 추가/갱신
+    private void upsertLocked(BoardSearchDocument doc, boolean fromBuild) {
+        long boardNumber = doc.getBoardNumber();
+        IndexedBoard existing = documents.get(boardNumber);
+        if (fromBuild && existing != null && doc.getUpdatedDate() != null
+                && existing.updatedDate > toEpochNanos(doc.getUpdatedDate())) {
+            return; // 구축 중 먼저 반영된 최신 변경 유지
+        }
+        Author author = doc.getUserId() != null || existing == null
+                ? authorOf(doc.getUserId(), doc.getUserNickname())
+                : existing.author;
+        removeLocked(boardNumber);
+
+        Map<String, Integer> weights = new HashMap<>();
+        for (String token : tokenize(doc.getBoardTitle())) {
+            weights.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(doc.getBoardWrite())) {
+            weights.merge(token, 1, Integer::sum);
+        }
+        String[] terms = new String[weights.size()];
+        int t = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            Postings list = postings.get(entry.getKey());
+            if (list == null) {
+                list = new Postings(entry.getKey());
+                postings.put(entry.getKey(), list);
+                linkBigram(list.term);
+                terms[t++] = entry.getKey();
+            } else {
+                terms[t++] = list.term; // 토큰 문자열은 색인 목록과 공유
+            }
+            list.put(boardNumber, entry.getValue());
+        }
+
+        String body = doc.getBoardWrite() != null ? doc.getBoardWrite() : "";
+        documents.put(boardNumber, new IndexedBoard(terms, doc.getBoardCategory(), doc.getBoardTitle(),
+                body.length() > PREVIEW_LENGTH ? body.substring(0, PREVIEW_LENGTH) : body, author,
+                toEpochNanos(doc.getCreatedDate()), toEpochNanos(doc.getUpdatedDate())));
+    }
+
+    // 작성자별 공유 정보 (닉네임이 null 이면 기존 값 유지)
+    private Author authorOf(String userId, String nickname) {
+        if (userId == null) {
+            return null;
+        }
+        Author author = authors.computeIfAbsent(userId, Author::new);
+        if (nickname != null) {
+            author.nickname = nickname;
+        }
+        return author;
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 문서 제거
+    private void removeLocked(Long boardNumber) {
+        IndexedBoard existing = documents.remove(boardNumber);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.terms) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                list.remove(boardNumber);
+                if (list.size == 0) {
+                    postings.remove(term);
+                    unlinkBigram(term);
+                }
+            }
+        }
+    }
+
+    // 한 글자 검색어의 색인 목록 (한 글자 단어와 그 글자를 포함하는 2-gram 의 합집합, 가중 빈도는 합산)
+    private Postings charPostingsLocked(String term) {
+        List<Postings> matched = new ArrayList<>();
+        Postings unigram = postings.get(term);
+        if (unigram != null) {
+            matched.add(unigram);
+        }
+        for (String bigram : bigramsByChar.getOrDefault(term.charAt(0), Collections.emptySet())) {
+            matched.add(postings.get(bigram));
+        }
+        if (matched.size() <= 1) {
+            return matched.isEmpty() ? null : matched.get(0);
+        }
+        Map<Long, Integer> weights = new HashMap<>();
+        for (Postings list : matched) {
+            for (int i = 0; i < list.size; i++) {
+                weights.merge(list.boards[i], (int) list.weights[i], Integer::sum);
+            }
+        }
+        long[] boards = weights.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        Postings union = new Postings(term);
+        for (long boardNumber : boards) {
+            union.put(boardNumber, weights.get(boardNumber)); // 정렬 순서라 항상 끝에 추가
+        }
+        return union;
+    }
+
+    // 2-gram 을 두 글자 각각의 목록에 등록/해제
+    private void linkBigram(String term) {
+        if (term.length() == 2) {
+            bigramsByChar.computeIfAbsent(term.charAt(0), c -> new HashSet<>()).add(term);
+            bigramsByChar.computeIfAbsent(term.charAt(1), c -> new HashSet<>()).add(term);
+        }
+    }
+
+    private void unlinkBigram(String term) {
+        if (term.length() == 2) {
+            for (int i = 0; i < 2; i++) {
+                Set<String> bigrams = bigramsByChar.get(term.charAt(i));
+                if (bigrams != null && bigrams.remove(term) && bigrams.isEmpty()) {
+                    bigramsByChar.remove(term.charAt(i));
+                }
+            }
+        }
+    }
+
+    // 결과 표시용 요약 (닉네임은 작성자별 최신 값)
+    private BoardSummary toSummary(long boardNumber, IndexedBoard board) {
+        return new BoardSummary(boardNumber, board.category, board.title, board.preview,
+                board.author != null ? board.author.userId : null, board.author != null ? board.author.nickname : null,
+                fromEpochNanos(board.createdDate), fromEpochNanos(board.updatedDate));
+    }
+
+    // 날짜를 long 하나로 보관 (UTC 기준 에포크 나노초, 정밀도 손실 없음, null 은 Long.MIN_VALUE)
+    private static long toEpochNanos(LocalDateTime time) {
+        if (time == null) {
+            return Long.MIN_VALUE;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime fromEpochNanos(long nanos) {
+        if (nanos == Long.MIN_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    // 토큰 하나의 색인 목록 (게시글 번호 오름차순 정렬 배열, 구축과 신규 작성은 대부분 끝에 추가됨)
+    static final class Postings {
+
+        private final String term; // 문서가 공유하는 토큰 문자열
+        private long[] boards = new long[2];
+        private short[] weights = new short[2];
+        private int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        int size() {
+            return size;
+        }
+
+        // 가중 빈도 (없으면 0)
+        int weightOf(long boardNumber) {
+            int index = Arrays.binarySearch(boards, 0, size, boardNumber);
+            return index >= 0 ? weights[index] : 0;
+        }
+
+        void put(long boardNumber, int weight) {
+            short value = (short) Math.min(weight, Short.MAX_VALUE);
+            if (size > 0 && boards[size - 1] >= boardNumber) {
+                int index = Arrays.binarySearch(boards, 0, size, boardNumber);
+                if (index >= 0) {
+                    weights[index] = value;
+                    return;
+                }
+                insertAt(-index - 1, boardNumber, value);
+                return;
+            }
+            insertAt(size, boardNumber, value);
+        }
+
+        void remove(long boardNumber) {
+            int index = Arrays.binarySearch(boards, 0, size, boardNumber);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(boards, index + 1, boards, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+            if (size > 16 && size < boards.length / 4) { // 많이 줄어든 목록은 배열도 축소
+                boards = Arrays.copyOf(boards, boards.length / 2);
+                weights = Arrays.copyOf(weights, weights.length / 2);
+            }
+        }
+
+        private void insertAt(int index, long boardNumber, short weight) {
+            if (size == boards.length) {
+                int capacity = size + (size >> 1) + 1;
+                boards = Arrays.copyOf(boards, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            System.arraycopy(boards, index, boards, index + 1, size - index);
+            System.arraycopy(weights, index, weights, index + 1, size - index);
+            boards[index] = boardNumber;
+            weights[index] = weight;
+            size++;
+        }
+    }
+
+    // 색인된 게시글 (결과 표시용 필드 + 제거용 토큰 목록)
+    private static final class IndexedBoard {
+
+        private final String[] terms;
+        private final int category;
+        private final String title;
+        private final String preview;
+        private final Author author;
+        private final long createdDate;
+        private final long updatedDate;
+
+        private IndexedBoard(String[] terms, Integer category, String title, String preview, Author author,
+                             long createdDate, long updatedDate) {
+            this.terms = terms;
+            this.category = category != null ? category : 0;
+            this.title = title;
+            this.preview = preview;
+            this.author = author;
+            this.createdDate = createdDate;
+            this.updatedDate = updatedDate;
+        }
+    }
+
+    // 작성자 (같은 작성자의 게시글이 공유, 닉네임 변경은 여기만 갱신)
+    private static final class Author {
+
+        private final String userId;
+        private String nickname; // 쓰기 잠금 안에서만 변경
+
+        private Author(String userId) {
+            this.userId = userId;
+        }
+    }
+
+    // 검색 후보 (상위 결과만 요약으로 변환)
+    private static final class Candidate {
+
+        private final long boardNumber;
+        private final IndexedBoard board;
+        private final double score;
+
+        private Candidate(long boardNumber, IndexedBoard board, double score) {
+            this.boardNumber = boardNumber;
+            this.board = board;
+            this.score = score;
+        }
+    }
+}
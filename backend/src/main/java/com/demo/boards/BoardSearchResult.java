@@ -0,0 +1,42 @@
+package com.demo.boards;
+
+import java.util.List;
+
+/**
+ * BoardSearchResult 클래스
+ * 검색 결과 페이지 (관련도순)입니다.
+ */
+public class BoardSearchResult {
+
+    private final List<BoardSearchHit> items; // 현재 페이지 검색 결과
+    private final int total; // 전체 일치 건수
+    private final int page; // 페이지 번호 (0부터)
+    private final int size; // 페이지 크기
+
+    public BoardSearchResult(List<BoardSearchHit> items, int total, int page, int size) {
+        this.items = items;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    public List<BoardSearchHit> getItems() {
+        return items;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return ((long) page + 1) * size < total;
+    }
+}
@@ -1,46 +1,109 @@
 package com.demo.boards;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.demo.boards.BoardQueryCache.ListKey;
+import com.demo.boards.BoardQueryCache.Scope;
+import com.demo.common.CursorPage;
+import com.demo.common.SingleFlight;
+import com.demo.common.TransactionCallbacks;
 import com.demo.users.UserEntity;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
 @Service // 이 클래스가 서비스 레이어의 컴포넌트임을 나타냄
 public class BoardService {
 
+    public static final int DEFAULT_PAGE_SIZE = 10; // 기본 페이지 크기
+    public static final int MAX_PAGE_SIZE = 50; // 한 번에 조회 가능한 최대 게시글 수
+
     private final BoardRepository boardRepository;
+    private final BoardQueryCache boardQueryCache; // 목록/상세 조회 캐시
+    private final BoardSearchIndex boardSearchIndex; // 제목/내용 검색 색인
+    private final BoardEventHub boardEventHub; // 게시글 변경 알림 (SSE)
+    private final BoardViewCounter boardViewCounter; // 조회수 (메모리 누적 후 일괄 반영)
+    private final TransactionTemplate readTransaction; // 캐시 미스 조회용 읽기 전용 트랜잭션 (복제 DB 라우팅 대상)
+    private final SingleFlight<String, Integer> postCountFlight; // 작성자별 게시글 수 동시 조회 합치기 (결과는 보관하지 않음)
 
-    public BoardService(BoardRepository boardRepository) {
+    @PersistenceContext
+    private EntityManager entityManager; // 부분 수정 UPDATE 생성용
+
+    public BoardService(BoardRepository boardRepository, BoardQueryCache boardQueryCache,
+                        BoardSearchIndex boardSearchIndex, BoardEventHub boardEventHub,
+                        BoardViewCounter boardViewCounter, PlatformTransactionManager transactionManager,
+                        @Value("${cafe.board-cache.coalesce-timeout:5s}") Duration coalesceTimeout) {
         this.boardRepository = boardRepository;
+        this.boardQueryCache = boardQueryCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardEventHub = boardEventHub;
+        this.boardViewCounter = boardViewCounter;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setName(BoardService.class.getName() + ".read"); // 라우팅 시 서비스 트랜잭션 구분용
+        this.postCountFlight = new SingleFlight<>(coalesceTimeout);
     }
 
-    // 모든 게시글 리스트 반환
-    public List<BoardEntity> getAllBoards() {
-        return boardRepository.findAll(); // 모든 게시글을 데이터베이스에서 조회하여 반환
+    // 모든 게시글 페이지 반환 (최신순, 커서 기반)
+    public CursorPage<BoardSummary> getAllBoards(String cursor, int size) {
+        return getPage(new ListKey(Scope.ALL, null, normalizeCursor(cursor), clampPageSize(size)));
     }
 
-    // 특정 사용자의 게시글 개수 반환
+    // 게시글 내보내기 스트림 (since 가 있으면 그 이후 수정분만, 호출자의 트랜잭션 안에서 소비)
+    public Stream<BoardExportRow> streamForExport(LocalDateTime since) {
+        return since == null ? boardRepository.streamForExport() : boardRepository.streamForExportSince(since);
+    }
+
+    // 특정 사용자의 게시글 개수 반환 (합류한 호출자는 커넥션 없이 대기하도록 트랜잭션은 조회하는 쪽에서만 시작)
     public int getPostCountByUserId(String userId) {
-        return boardRepository.countPostsByUserId(userId); // 사용자 ID에 해당하는 게시글 개수 반환
+        return postCountFlight.execute(userId, id -> readTransaction.execute(
+                status -> boardRepository.countPostsByUserId(id))); // 사용자 ID에 해당하는 게시글 개수 반환
     }
 
-    // 특정 사용자의 게시글 리스트 반환
-    public List<BoardEntity> getPostsByUserId(String userId) {
-        return boardRepository.findByUserUserId(userId); // 사용자 ID에 해당하는 모든 게시글 반환
+    // 특정 사용자의 게시글 페이지 반환 (최신순, 커서 기반)
+    public CursorPage<BoardSummary> getPostsByUserId(String userId, String cursor, int size) {
+        return getPage(new ListKey(Scope.USER, userId, normalizeCursor(cursor), clampPageSize(size)));
     }
 
     // 게시글 저장 (생성 또는 수정)
     @Transactional
     public BoardEntity saveBoard(BoardEntity board, String loggedInUser) {
-        if (board.getBoardNumber() == null) { // 새 게시글인 경우
+        boolean isNew = board.getBoardNumber() == null;
+        if (isNew) { // 새 게시글인 경우
             board.setCreatedBy(loggedInUser);
+            board.setViewCount(0); // 요청 본문의 조회수는 무시
         }
         board.setUpdatedBy(loggedInUser);
         board.setUpdatedDate(LocalDateTime.now());
-        return boardRepository.save(board);
+        BoardEntity saved = boardRepository.save(board);
+        if (isNew) {
+            boardQueryCache.evictBoard(null, saved.getBoardCategory(), loggedInUser);
+        } else {
+            boardQueryCache.evictBoard(saved.getBoardNumber(), null, null); // 카테고리가 바뀌었을 수 있으므로 모든 목록 무효화
+        }
+        BoardSearchDocument doc = BoardSearchDocument.of(saved, null);
+        BoardEvent event = BoardEvent.of(isNew ? BoardEvent.CREATED : BoardEvent.UPDATED, saved);
+        TransactionCallbacks.afterCommit(() -> {
+            boardSearchIndex.index(doc); // 커밋 후 검색 색인 반영
+            boardEventHub.publish(event); // 커밋 후 구독자에게 알림
+        });
+        return saved;
     }
 
 
@@ -51,12 +114,38 @@ public class BoardService {
         board.setUpdatedDate(LocalDateTime.now()); // 현재 시간을 수정 날짜로 설정
         board.setCreatedBy(user.getUserId()); // 작성자를 사용자 ID로 설정
         board.setUpdatedBy(user.getUserId()); // 수정자를 사용자 ID로 설정
+        board.setViewCount(0); // 요청 본문의 조회수는 무시
         boardRepository.save(board); // 게시글 저장
+        boardQueryCache.evictBoard(null, board.getBoardCategory(), user.getUserId()); // 새 글이 포함될 목록 무효화
+        boardSearchIndex.index(BoardSearchDocument.of(board, user.getUserNickname())); // 검색 색인 반영
+        publishAfterCommit(BoardEvent.of(BoardEvent.CREATED, board));
     }
 
-    // 카테고리별 게시물 목록 반환
-    public List<BoardEntity> getBoardsByCategory(int category) {
-        return boardRepository.findByBoardCategory(category); // 카테고리에 해당하는 모든 게시글 반환
+    // 카테고리별 게시물 페이지 반환 (최신순, 커서 기반)
+    public CursorPage<BoardSummary> getBoardsByCategory(int category, String cursor, int size) {
+        return getPage(new ListKey(Scope.CATEGORY, String.valueOf(category), normalizeCursor(cursor), clampPageSize(size)));
+    }
+
+    // 카테고리 이름별 게시물 페이지 반환 ("all" 이면 전체 게시글)
+    public CursorPage<BoardSummary> getBoardsByCategoryName(String category, String cursor, int size) {
+        if (category.equals("all")) {
+            return getAllBoards(cursor, size);
+        }
+        return getBoardsByCategory(toCategoryId(category), cursor, size);
+    }
+
+    // 카테고리 이름을 카테고리 ID 로 변환
+    public static int toCategoryId(String category) {
+        switch (category) {
+            case "free":
+                return 2;
+            case "questions":
+                return 3;
+            case "notice":
+                return 4;
+            default:
+                return 1; // 기본값 설정
+        }
     }
 
     // 특정 게시글 ID로 게시글 반환
@@ -64,10 +153,17 @@ public class BoardService {
         return boardRepository.findById(boardNumber).orElse(null); // ID로 게시글 조회, 없으면 null 반환
     }
 
-    // 게시글 상세 정보 반환
+    // 게시글 상세 정보 반환 (작성자 정보를 함께 조회하는 유일한 경로)
     public BoardEntity getBoardDetail(Long boardNumber) {
-        return boardRepository.findById(boardNumber)
-            .orElseThrow(() -> new RuntimeException("게시물을 찾을 수 없습니다.")); // 게시글 조회, 없으면 예외 발생
+        return boardQueryCache.getDetail(boardNumber, key -> readTransaction.execute(status -> boardRepository.findDetailById(key)
+            .orElseThrow(() -> new RuntimeException("게시물을 찾을 수 없습니다.")))); // 게시글 조회, 없으면 예외 발생
+    }
+
+    // 게시글 열람 (조회수 1 증가 후, DB 조회수 + 반영 대기 증가분을 담은 사본 반환)
+    public BoardEntity viewBoard(Long boardNumber) {
+        BoardEntity board = getBoardDetail(boardNumber);
+        boardViewCounter.record(boardNumber);
+        return board.withViewCount(board.getViewCount() + boardViewCounter.pending(boardNumber));
     }
 
     // 게시글 수정
@@ -77,11 +173,173 @@ public class BoardService {
         board.setBoardTitle(updatedBoard.getBoardTitle()); // 제목 업데이트
         board.setBoardWrite(updatedBoard.getBoardWrite()); // 내용 업데이트
         board.setUpdatedDate(LocalDateTime.now()); // 수정 날짜 갱신
-        return boardRepository.save(board); // 게시글 저장
+        BoardEntity saved = boardRepository.save(board); // 게시글 저장
+        boardQueryCache.evictBoard(boardNumber, board.getBoardCategory(), board.getUser().getUserId());
+        boardSearchIndex.index(BoardSearchDocument.of(saved, null)); // 검색 색인 갱신 (닉네임은 기존 값 유지)
+        publishAfterCommit(BoardEvent.of(BoardEvent.UPDATED, saved));
+        return saved;
+    }
+
+    /**
+     * 게시글 부분 수정 (변경된 컬럼만, 버전 조건부 UPDATE 한 문장, 사전 조회 없음)
+     * UPDATE BOARD_TB SET ..., VERSION = VERSION + 1 WHERE BOARD_NUMBER = ? AND VERSION = ? [AND USER_ID = ?]
+     * 갱신된 행이 없을 때만 원인(없음/권한/충돌)을 확인하기 위해 조회합니다.
+     * @param boardNumber 게시글 번호
+     * @param patch 변경할 항목과 기대 버전
+     * @param userId 수정하는 사용자 ID
+     * @param admin 관리자 여부 (관리자는 작성자가 아니어도 수정 가능)
+     * @return 수정 결과
+     */
+    @Transactional
+    public BoardPatchResult patchBoard(Long boardNumber, BoardPatchRequest patch, String userId, boolean admin) {
+        BoardEntity cached = boardQueryCache.peekDetail(boardNumber); // 색인/알림 갱신용 (같은 버전일 때만 사용)
+        LocalDateTime now = LocalDateTime.now();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<BoardEntity> update = cb.createCriteriaUpdate(BoardEntity.class);
+        Root<BoardEntity> root = update.from(BoardEntity.class);
+        if (patch.getBoardCategory() != null) {
+            update.set(root.<Integer>get("boardCategory"), patch.getBoardCategory());
+        }
+        if (patch.getBoardTitle() != null) {
+            update.set(root.<String>get("boardTitle"), patch.getBoardTitle());
+        }
+        if (patch.getBoardWrite() != null) {
+            update.set(root.<String>get("boardWrite"), patch.getBoardWrite());
+        }
+        update.set(root.<LocalDateTime>get("updatedDate"), now);
+        update.set(root.<String>get("updatedBy"), userId);
+        Path<Long> version = root.get("version");
+        update.set(version, cb.sum(version, 1L));
+        Predicate matches = cb.and(cb.equal(root.get("boardNumber"), boardNumber), cb.equal(version, patch.getVersion()));
+        if (!admin) {
+            matches = cb.and(matches, cb.equal(root.get("user").get("userId"), userId)); // 외래 키 비교 (조인 없음)
+        }
+        update.where(matches);
+
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            return diagnosePatchFailure(boardNumber, userId, admin);
+        }
+
+        long newVersion = patch.getVersion() + 1;
+        boolean categoryChanged = patch.getBoardCategory() != null
+                && (cached == null || !patch.getBoardCategory().equals(cached.getBoardCategory()));
+        if (cached != null && cached.getVersion() == patch.getVersion() && !categoryChanged) {
+            boardQueryCache.evictBoard(boardNumber, cached.getBoardCategory(), cached.getUser().getUserId());
+        } else {
+            boardQueryCache.evictBoard(boardNumber, null, null); // 이전 카테고리/작성자를 모르므로 모든 목록 무효화
+        }
+
+        // 캐시된 상세가 수정 전 버전이면 변경 항목을 합쳐 색인 문서를 만들고, 없으면 커밋 후 한 건 조회
+        BoardSearchDocument merged = cached != null && cached.getVersion() == patch.getVersion()
+                ? new BoardSearchDocument(boardNumber,
+                        patch.getBoardCategory() != null ? patch.getBoardCategory() : cached.getBoardCategory(),
+                        patch.getBoardTitle() != null ? patch.getBoardTitle() : cached.getBoardTitle(),
+                        patch.getBoardWrite() != null ? patch.getBoardWrite() : cached.getBoardWrite(),
+                        cached.getUser().getUserId(), null, cached.getCreatedDate(), now)
+                : null;
+        TransactionCallbacks.afterCommit(() -> {
+            BoardSearchDocument doc = merged != null ? merged : boardRepository.findSearchDocument(boardNumber).orElse(null);
+            if (doc != null) {
+                boardSearchIndex.index(doc);
+                boardEventHub.publish(new BoardEvent(BoardEvent.UPDATED, boardNumber, doc.getBoardCategory(),
+                        doc.getBoardTitle(), doc.getUserId(), now));
+            }
+        });
+        return new BoardPatchResult(BoardPatchResult.Status.UPDATED, boardNumber, newVersion, now);
+    }
+
+    // 부분 수정이 한 행도 갱신하지 못한 원인 확인
+    private BoardPatchResult diagnosePatchFailure(Long boardNumber, String userId, boolean admin) {
+        List<Object[]> rows = boardRepository.findVersionAndOwner(boardNumber);
+        if (rows.isEmpty()) {
+            return new BoardPatchResult(BoardPatchResult.Status.NOT_FOUND, boardNumber, null, null);
+        }
+        Long currentVersion = ((Number) rows.get(0)[0]).longValue();
+        String owner = (String) rows.get(0)[1];
+        if (!admin && !owner.equals(userId)) {
+            return new BoardPatchResult(BoardPatchResult.Status.FORBIDDEN, boardNumber, currentVersion, null);
+        }
+        return new BoardPatchResult(BoardPatchResult.Status.CONFLICT, boardNumber, currentVersion, null);
     }
 
     // 게시글 삭제
     public void deleteBoard(Long boardNumber) {
-        boardRepository.deleteById(boardNumber); // ID로 게시글 삭제
+        boardRepository.findById(boardNumber).ifPresent(board -> {
+            boardRepository.delete(board); // 게시글 삭제
+            boardQueryCache.evictBoard(boardNumber, board.getBoardCategory(), board.getUser().getUserId());
+            boardSearchIndex.remove(boardNumber); // 검색 색인에서 제거
+            boardViewCounter.discard(boardNumber); // 반영 대기 중인 조회수 폐기
+            publishAfterCommit(BoardEvent.of(BoardEvent.DELETED, board));
+        });
+    }
+
+    // 게시글 제목/내용 검색 (관련도순, 페이지 단위)
+    public BoardSearchResult searchBoards(String query, Integer category, int page, int size) {
+        return boardSearchIndex.search(query, category, Math.max(page, 0), clampPageSize(size));
+    }
+
+    public SingleFlight<String, Integer> getPostCountFlight() {
+        return postCountFlight;
+    }
+
+    // 게시글 변경 알림 (트랜잭션이 있으면 커밋 후, 없으면 즉시)
+    private void publishAfterCommit(BoardEvent event) {
+        TransactionCallbacks.afterCommit(() -> boardEventHub.publish(event));
+    }
+
+    // 목록 페이지 조회 (캐시 우선, 없으면 DB 조회)
+    private CursorPage<BoardSummary> getPage(ListKey key) {
+        BoardCursor after = BoardCursor.decode(key.getCursor()); // 잘못된 커서는 캐시 조회 전에 거부
+        return boardQueryCache.getList(key, k -> readTransaction.execute(status -> loadPage(k, after)));
+    }
+
+    // 목록 페이지 DB 조회
+    private CursorPage<BoardSummary> loadPage(ListKey key, BoardCursor after) {
+        int pageSize = key.getSize();
+        Pageable limit = PageRequest.of(0, pageSize + 1); // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<BoardSummary> rows;
+        switch (key.getScope()) {
+            case CATEGORY:
+                Integer category = Integer.valueOf(key.getValue());
+                rows = after == null
+                        ? boardRepository.findPageByCategory(category, limit)
+                        : boardRepository.findPageByCategoryAfter(category, after.getCreatedDate(), after.getBoardNumber(), limit);
+                break;
+            case USER:
+                rows = after == null
+                        ? boardRepository.findPageByUserId(key.getValue(), limit)
+                        : boardRepository.findPageByUserIdAfter(key.getValue(), after.getCreatedDate(), after.getBoardNumber(), limit);
+                break;
+            default:
+                rows = after == null
+                        ? boardRepository.findPage(limit)
+                        : boardRepository.findPageAfter(after.getCreatedDate(), after.getBoardNumber(), limit);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    // 빈 커서는 첫 페이지(null)로 통일
+    private String normalizeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : cursor;
+    }
+
+    // 페이지 크기를 허용 범위로 보정
+    private int clampPageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // pageSize + 1 건 조회 결과를 페이지와 다음 커서로 변환
+    private CursorPage<BoardSummary> toPage(List<BoardSummary> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null, pageSize);
+        }
+        List<BoardSummary> items = rows.subList(0, pageSize);
+        BoardSummary last = items.get(pageSize - 1);
+        String nextCursor = new BoardCursor(last.getCreatedDate(), last.getBoardNumber()).encode();
+        return new CursorPage<>(List.copyOf(items), nextCursor, pageSize);
     }
 }
@@ -0,0 +1,64 @@
+package com.demo.boards;
+
+import java.time.LocalDateTime;
+
+/**
+ * BoardSummary 클래스
+ * 게시글 목록 조회 전용 읽기 프로젝션입니다.
+ * 작성자 엔티티(이미지 LOB, 비밀번호 포함)를 로딩하지 않고 단일 쿼리로 필요한 컬럼만 조회합니다.
+ */
+public class BoardSummary {
+
+    private final Long boardNumber; // 게시글 번호
+    private final Integer boardCategory; // 게시글 카테고리
+    private final String boardTitle; // 게시글 제목
+    private final String boardPreview; // 게시글 내용 미리보기 (앞부분 일부)
+    private final String userId; // 작성자 아이디
+    private final String userNickname; // 작성자 닉네임
+    private final LocalDateTime createdDate; // 생성 날짜
+    private final LocalDateTime updatedDate; // 수정 날짜
+
+    public BoardSummary(Long boardNumber, Integer boardCategory, String boardTitle, String boardPreview,
+                        String userId, String userNickname, LocalDateTime createdDate, LocalDateTime updatedDate) {
+        this.boardNumber = boardNumber;
+        this.boardCategory = boardCategory;
+        this.boardTitle = boardTitle;
+        this.boardPreview = boardPreview;
+        this.userId = userId;
+        this.userNickname = userNickname;
+        this.createdDate = createdDate;
+        this.updatedDate = updatedDate;
+    }
+
+    public Long getBoardNumber() {
+        return boardNumber;
+    }
+
+    public Integer getBoardCategory() {
+        return boardCategory;
+    }
+
+    public String getBoardTitle() {
+        return boardTitle;
+    }
+
+    public String getBoardPreview() {
+        return boardPreview;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+}
@@ -0,0 +1,172 @@
+package com.demo.boards;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * BoardViewCounter 클래스
+ * 게시글 조회수를 메모리에서 모았다가 주기적으로 DB 에 일괄 반영합니다. (write-behind)
+ * - 조회마다 UPDATE 하지 않으므로 인기 게시글 행에 대한 잠금 경합이 없음
+ * - 게시글별 LongAdder(스트라이프 카운터)에 누적, 증가와 빈 카운터 정리는 ConcurrentHashMap.compute 로 직렬화하여
+ *   정리된 카운터에 증가분이 남지 않도록 함 (같은 게시글의 기록만 짧게 직렬화되고 반영 중에도 막히지 않음)
+ * - 반영은 게시글 번호 순으로 정렬한 배치 UPDATE 한 번 (VIEW_COUNT = VIEW_COUNT + ? 이므로 여러 서버가 동시에 반영해도 안전)
+ * - 반영 실패 시 증가분을 되돌려 다음 주기에 다시 시도하고, 종료 시(@PreDestroy) 남은 증가분을 반영
+ * 표시되는 조회수는 DB 값 + 아직 반영되지 않은 증가분이며, 반영 직후 잠시 어긋날 수 있는 근사값입니다.
+ */
+@Component
+public class BoardViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardViewCounter.class);
+    private static final String INCREMENT_SQL = "UPDATE BOARD_TB SET VIEW_COUNT = VIEW_COUNT + ? WHERE BOARD_NUMBER = ?";
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final BoardQueryCache boardQueryCache; // 반영 후 상세 캐시의 조회수 갱신
+    private final int batchSize; // 한 번에 실행할 UPDATE 수
+    private final ReentrantLock flushLock = new ReentrantLock(); // 주기 반영과 종료 시 반영이 겹치지 않도록
+    private final LongAdder flushedRows = new LongAdder(); // 누적 UPDATE 행 수
+    private final LongAdder recordedViews = new LongAdder(); // 누적 조회 수
+
+    public BoardViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            BoardQueryCache boardQueryCache,
+                            @Value("${cafe.board-views.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.boardQueryCache = boardQueryCache;
+        this.batchSize = batchSize;
+    }
+
+    // 조회 1회 기록
+    public void record(Long boardNumber) {
+        counters.compute(boardNumber, (key, counter) -> {
+            Counter current = counter != null ? counter : new Counter();
+            current.pending.increment();
+            return current;
+        });
+        recordedViews.increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분 (반영 중인 값 포함)
+    public long pending(Long boardNumber) {
+        Counter counter = counters.get(boardNumber);
+        return counter == null ? 0 : counter.pending.sum() + counter.flushing.get();
+    }
+
+    // 삭제된 게시글의 증가분 폐기
+    public void discard(Long boardNumber) {
+        counters.remove(boardNumber);
+    }
+
+    // 주기적으로 증가분을 DB 에 반영
+    @Scheduled(fixedDelayString = "${cafe.board-views.flush-millis:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 정상 종료 시 남은 증가분 반영 (DataSource 보다 먼저 종료됨)
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        long remaining = counters.values().stream().mapToLong(counter -> counter.pending.sum()).sum();
+        if (remaining > 0) {
+            log.warn("종료 중 반영하지 못한 조회수 증가분: {}", remaining);
+        }
+    }
+
+    public long getPendingPosts() {
+        return counters.size();
+    }
+
+    public long getFlushedRows() {
+        return flushedRows.sum();
+    }
+
+    public long getRecordedViews() {
+        return recordedViews.sum();
+    }
+
+    private void flushPending() {
+        // 게시글 번호 순으로 증가분을 꺼냄 (여러 서버의 반영이 같은 순서로 행 잠금을 잡도록)
+        Map<Long, Long> deltas = new TreeMap<>();
+        List<Long> idle = new ArrayList<>();
+        counters.forEach((boardNumber, counter) -> {
+            long delta = counter.pending.sumThenReset();
+            if (delta > 0) {
+                counter.flushing.addAndGet(delta);
+                deltas.put(boardNumber, delta);
+            } else {
+                idle.add(boardNumber);
+            }
+        });
+        // 조회가 없던 게시글 정리 (record 와 같은 잠금 안에서 다시 확인하므로 그 사이 들어온 증가분은 유지)
+        for (Long boardNumber : idle) {
+            counters.computeIfPresent(boardNumber, (key, counter) -> counter.isIdle() ? null : counter);
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((boardNumber, delta) -> args.add(new Object[] { delta, boardNumber }));
+        try {
+            transaction.executeWithoutResult(status -> {
+                for (int from = 0; from < args.size(); from += batchSize) {
+                    jdbcTemplate.batchUpdate(INCREMENT_SQL, args.subList(from, Math.min(from + batchSize, args.size())));
+                }
+            });
+            flushedRows.add(args.size());
+            boardQueryCache.evictDetails(deltas.keySet()); // 다음 상세 조회에서 반영된 조회수를 읽도록
+            deltas.forEach((boardNumber, delta) -> release(boardNumber, delta));
+        } catch (RuntimeException e) {
+            // 반영 실패: 증가분을 되돌려 다음 주기에 재시도 (반영 중 폐기된 게시글은 되돌리지 않음)
+            log.error("조회수 반영 실패 ({}건), 다음 주기에 재시도합니다.", deltas.size(), e);
+            deltas.forEach((boardNumber, delta) -> {
+                Counter counter = counters.get(boardNumber);
+                if (counter != null) {
+                    counter.flushing.addAndGet(-delta);
+                    counter.pending.add(delta);
+                }
+            });
+        }
+    }
+
+    private void release(Long boardNumber, long delta) {
+        Counter counter = counters.get(boardNumber);
+        if (counter != null) {
+            counter.flushing.addAndGet(-delta);
+        }
+    }
+
+    // 게시글별 카운터 (반영 대기 증가분, 반영 중인 증가분)
+    private static final class Counter {
+        private final LongAdder pending = new LongAdder();
+        private final AtomicLong flushing = new AtomicLong();
+
+        private boolean isIdle() {
+            return pending.sum() == 0 && flushing.get() == 0;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.demo.common;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.demo.auth.AuthUser;
+import com.demo.auth.LoginUserArgumentResolver;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * AdmissionControlFilter 클래스
+ * 요청을 처리하기 전에 허용 여부를 판단하여, 한 클라이언트나 한 종류의 느린 요청이 서버 전체를 점유하지 못하게 합니다.
+ * - 클라이언트별 토큰 버킷 (로그인 사용자는 사용자 ID, 아니면 IP 기준): 초과 시 429 + Retry-After
+ * - 요청 종류별 동시 처리 수 제한(bulkhead): 무거운 조회(READ), 쓰기(WRITE), 인증(AUTH) 각각 별도 한도, 초과 시 대기 없이 503 + Retry-After
+ *   가벼운 조회(상세, 현재 사용자 등)는 동시 처리 제한 없이 토큰 버킷만 적용
+ * 비동기 응답(내보내기, 로그인)은 응답이 끝날 때 동시 처리 허가를 반납하며, SSE 구독은 제외합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "cafe.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    // 동시 처리 제한 구분
+    public enum Lane {
+        READ, // 목록/검색/내보내기/관리자 목록/앱 첫 화면
+        WRITE, // 작성/수정/삭제
+        AUTH // 로그인/가입/계정 찾기
+    }
+
+    private final LoginUserArgumentResolver loginUserResolver;
+    private final double clientRate;
+    private final int clientBurst;
+    private final Cache<String, TokenBucket> buckets; // 클라이언트별 토큰 버킷 (일정 시간 요청이 없으면 제거)
+    private final Map<Lane, Semaphore> bulkheads = new EnumMap<>(Lane.class);
+    private final Map<Lane, Integer> limits = new EnumMap<>(Lane.class);
+    private final Map<Lane, LongAdder> bulkheadRejected = new EnumMap<>(Lane.class);
+    private final LongAdder rateLimited = new LongAdder();
+
+    public AdmissionControlFilter(LoginUserArgumentResolver loginUserResolver,
+                                  @Value("${cafe.admission.client-rate:20}") double clientRate,
+                                  @Value("${cafe.admission.client-burst:40}") int clientBurst,
+                                  @Value("${cafe.admission.client-idle:10m}") Duration clientIdle,
+                                  @Value("${cafe.admission.bulkhead.read:100}") int readLimit,
+                                  @Value("${cafe.admission.bulkhead.write:50}") int writeLimit,
+                                  @Value("${cafe.admission.bulkhead.auth:20}") int authLimit) {
+        this.loginUserResolver = loginUserResolver;
+        this.clientRate = clientRate;
+        this.clientBurst = clientBurst;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(clientIdle)
+                .maximumSize(100_000)
+                .build();
+        limits.put(Lane.READ, readLimit);
+        limits.put(Lane.WRITE, writeLimit);
+        limits.put(Lane.AUTH, authLimit);
+        limits.forEach((lane, limit) -> {
+            bulkheads.put(lane, new Semaphore(limit));
+            bulkheadRejected.put(lane, new LongAdder());
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod()) // CORS 사전 요청
+                || request.getRequestURI().equals("/boards/stream"); // 장시간 유지되는 SSE 구독
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long waitNanos = buckets.get(clientKey(request), key -> new TokenBucket(clientRate, clientBurst)).tryAcquire();
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1,
+                    "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        Lane lane = classify(request);
+        if (lane == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Semaphore bulkhead = bulkheads.get(lane);
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejected.get(lane).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        Runnable release = releaseOnce(bulkhead);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(release)); // 비동기 응답 완료 시 반납
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    // 토큰 버킷 기준 (로그인 사용자는 여러 IP 에서도 하나, 비로그인은 IP 별)
+    private String clientKey(HttpServletRequest request) {
+        AuthUser user = loginUserResolver.resolve(request);
+        return user != null ? "user:" + user.getUserId() : "ip:" + request.getRemoteAddr();
+    }
+
+    // 요청 종류 분류 (null 이면 동시 처리 제한 없음)
+    private static Lane classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        if ("POST".equals(method) && (uri.equals("/users/login") || uri.equals("/users/register")
+                || uri.equals("/users/find-id") || uri.equals("/users/find-password")
+                || uri.equals("/users/reset-password"))) {
+            return Lane.AUTH; // 비밀번호 해시 계산
+        }
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return Lane.WRITE;
+        }
+        if (uri.startsWith("/boards/category/") || uri.startsWith("/boards/user/") || uri.equals("/boards/search")
+                || uri.endsWith("/export") || uri.startsWith("/users/admin") || uri.equals("/app/bootstrap")) {
+            return Lane.READ;
+        }
+        return null;
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(message);
+    }
+
+    private static Runnable releaseOnce(Semaphore bulkhead) {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        };
+    }
+
+    public int getActive(Lane lane) {
+        return limits.get(lane) - bulkheads.get(lane).availablePermits();
+    }
+
+    public int getLimit(Lane lane) {
+        return limits.get(lane);
+    }
+
+    // 동시 처리 한도 초과로 거절된 요청 수
+    public long getBulkheadRejected(Lane lane) {
+        return bulkheadRejected.get(lane).sum();
+    }
+
+    // 토큰 버킷 초과로 거절된 요청 수
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long getTrackedClients() {
+        return buckets.estimatedSize();
+    }
+
+    // 비동기 응답 종료(완료/오류/시간 초과) 시 허가 반납
+    private static final class ReleasingListener implements AsyncListener {
+
+        private final Runnable release;
+
+        private ReleasingListener(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this); // 다시 시작된 비동기 처리에도 유지
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.demo.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * CountingBloomFilter 클래스
+ * 삭제를 지원하는 블룸 필터입니다. (비트 대신 8비트 카운터 사용)
+ * - mightContain 이 false 면 확실히 없는 값, true 면 있을 수도 있는 값 (오탐률은 생성 시 지정)
+ * - remove 는 실제로 추가했던 값에만 호출해야 하며, 255 에 도달한 카운터는 더 이상 감소시키지 않음
+ */
+public class CountingBloomFilter {
+
+    private static final int MAX_COUNT = 0xFF;
+
+    private final byte[] counters; // 부호 없는 8비트 카운터
+    private final int hashCount; // 값마다 갱신하는 카운터 수
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 목표 오탐률 (예: 0.01)
+     */
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 8))];
+        this.hashCount = Math.max(1, (int) Math.round((double) counters.length / n * Math.log(2)));
+    }
+
+    /**
+     * 값 추가
+     * @param value 추가할 값
+     */
+    public void add(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1; // 두 번째 해시는 홀수로 (이중 해싱)
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(h1, h2, i);
+                int count = counters[index] & MAX_COUNT;
+                if (count < MAX_COUNT) {
+                    counters[index] = (byte) (count + 1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 값 제거 (추가했던 값에만 호출)
+     * @param value 제거할 값
+     */
+    public void remove(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(h1, h2, i);
+                int count = counters[index] & MAX_COUNT;
+                if (count > 0 && count < MAX_COUNT) { // 포화된 카운터는 실제 개수를 알 수 없으므로 유지
+                    counters[index] = (byte) (count - 1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 포함 가능성 확인
+     * @param value 확인할 값
+     * @return false 면 확실히 없음, true 면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < hashCount; i++) {
+                if (counters[index(h1, h2, i)] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 카운터 배열 크기 (바이트)
+    public int size() {
+        return counters.length;
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Math.floorMod(h1 + i * h2, (long) counters.length);
+    }
+
+    // UTF-8 바이트에 대한 FNV-1a 64비트 해시 후 비트 혼합
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93E3A12FE53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,38 @@
+package com.demo.common;
+
+import java.util.List;
+
+/**
+ * CursorPage 클래스
+ * 키셋(커서) 기반 페이지 조회 결과를 담는 응답 객체입니다.
+ * - items: 현재 페이지 항목 (최신순)
+ * - nextCursor: 다음 페이지 조회에 사용할 불투명 커서 (마지막 페이지면 null)
+ */
+public class CursorPage<T> {
+
+    private final List<T> items; // 현재 페이지 항목
+    private final String nextCursor; // 다음 페이지 커서
+    private final int size; // 요청한 페이지 크기
+
+    public CursorPage(List<T> items, String nextCursor, int size) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.demo.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+
+/**
+ * ETags 클래스
+ * 수정 날짜(UDT_DT) 기반 조건부 GET 용 ETag/Last-Modified 값을 만듭니다.
+ * 압축 여부와 관계없이 같은 값이 되도록 약한(W/) ETag 를 사용합니다.
+ */
+public final class ETags {
+
+    // 브라우저가 저장하되 매번 ETag 로 재검증하도록 지정
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * 단일 항목 ETag
+     * @param kind 항목 종류 (예: "board")
+     * @param id 항목 ID
+     * @param updatedDate 수정 날짜
+     * @return 약한 ETag
+     */
+    public static String of(String kind, Object id, LocalDateTime updatedDate) {
+        return "W/\"" + kind + "-" + id + "-" + toEpochMillis(updatedDate) + "\"";
+    }
+
+    /**
+     * 목록 ETag (항목별 버전 문자열을 이어 붙인 값의 해시)
+     * @param kind 목록 종류
+     * @param versions 항목별 버전 문자열 (ID, 수정 날짜 등)
+     * @return 약한 ETag
+     */
+    public static String ofList(String kind, CharSequence versions) {
+        return "W/\"" + kind + "-" + DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Last-Modified 용 밀리초 (날짜가 없으면 -1)
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.demo.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * NdjsonExporter 클래스
+ * 조회 결과를 한 줄에 한 건씩(NDJSON) 응답으로 스트리밍합니다.
+ * - 읽기 전용 트랜잭션 안에서 Stream 쿼리를 열어 행을 읽는 즉시 직렬화 (목록 전체를 메모리에 올리지 않음)
+ * - gzip 요청 시 .ndjson.gz 파일로 압축하여 전송
+ */
+@Component
+public class NdjsonExporter {
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ObjectMapper objectMapper; // 날짜 형식 등 API 응답과 동일한 직렬화 설정
+    private final TransactionTemplate readOnlyTransaction; // Stream 쿼리는 트랜잭션 안에서만 열 수 있음
+
+    public NdjsonExporter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * NDJSON 다운로드 응답 생성
+     * @param name 파일 이름 (날짜와 확장자가 붙음)
+     * @param query 행 스트림을 여는 쿼리 (응답 스레드의 트랜잭션 안에서 호출)
+     * @param gzip 압축 여부
+     * @return 스트리밍 응답
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, Supplier<Stream<T>> query, boolean gzip) {
+        String filename = name + "-" + LocalDate.now() + (gzip ? ".ndjson.gz" : ".ndjson");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(gzip ? GZIP : NDJSON);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+
+        StreamingResponseBody body = out -> {
+            GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 8192) : null;
+            writeRows(gzipOut != null ? gzipOut : out, query);
+            if (gzipOut != null) {
+                gzipOut.finish(); // 응답 스트림은 컨테이너가 닫음
+            }
+        };
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    // 트랜잭션 안에서 행을 하나씩 읽어 한 줄씩 기록
+    private <T> void writeRows(OutputStream out, Supplier<Stream<T>> query) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.get();
+                     JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    for (T row : (Iterable<T>) rows::iterator) {
+                        objectMapper.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 종료 등: 커서를 닫고 중단
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
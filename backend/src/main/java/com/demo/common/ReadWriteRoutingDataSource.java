@@ -0,0 +1,200 @@
+package com.demo.common;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ReadWriteRoutingDataSource 클래스
+ * 읽기 전용 서비스 트랜잭션을 복제(replica) DB 로, 나머지는 주(primary) DB 로 보냅니다.
+ * - 복제 DB 로 가는 조건: 읽기 전용 트랜잭션이고, 트랜잭션 이름(최외곽 @Transactional 메서드)이 지정한 서비스로 시작하며,
+ *   현재 요청이 주 DB 로 고정(read-your-writes)되지 않은 경우
+ *   (리포지토리 기본 메서드의 읽기 전용 트랜잭션이나 쓰기 트랜잭션 안의 조회는 주 DB 유지)
+ * - 정상 상태인 복제 DB 를 라운드 로빈으로 선택하고, 커넥션 획득에 실패하면 해당 DB 를 제외하고 다음 DB, 최종적으로 주 DB 로 전환
+ * - 주기적으로 복제 DB 상태를 확인하여 복구되면 다시 포함
+ * 트랜잭션의 읽기 전용 여부가 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>(); // 현재 요청의 주 DB 고정 여부
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final List<String> routedPrefixes; // 복제 DB 로 보낼 트랜잭션 이름 접두어 (서비스 클래스명)
+    private final AtomicInteger next = new AtomicInteger(); // 라운드 로빈 위치
+    private final LongAdder primaryReads = new LongAdder(); // 주 DB 로 처리된 대상 읽기 (고정 또는 전환)
+    private final LongAdder failovers = new LongAdder(); // 복제 DB 커넥션 실패로 전환된 횟수
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, List<String> routedPrefixes) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.routedPrefixes = List.copyOf(routedPrefixes);
+    }
+
+    // 현재 스레드(요청)의 읽기를 주 DB 로 고정 (본인 쓰기 직후)
+    public static void pinPrimary(boolean pinned) {
+        if (pinned) {
+            PRIMARY_PINNED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    // 현재 스레드의 주 DB 고정 여부 (작업 스레드로 넘길 때 사용)
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (!isReplicaRead()) {
+            return source.get(primary);
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = source.get(replica.dataSource);
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException e) {
+                failovers.increment();
+                replica.markDown(e); // 다음 상태 확인에서 복구 여부 판단
+            }
+        }
+        primaryReads.increment(); // 사용 가능한 복제 DB 없음
+        return source.get(primary);
+    }
+
+    // 복제 DB 로 보낼 읽기인지 여부
+    private boolean isReplicaRead() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (name == null || routedPrefixes.stream().noneMatch(name::startsWith)) {
+            return false;
+        }
+        if (isPrimaryPinned()) {
+            primaryReads.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // 복제 DB 상태 확인 (실패한 DB 의 복구 감지)
+    @Scheduled(fixedDelayString = "${cafe.datasource.replicas.health-check-millis:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    // 복제 DB 별 처리한 읽기 수
+    public Map<String, Long> getReplicaReads() {
+        Map<String, Long> reads = new LinkedHashMap<>();
+        replicas.forEach(replica -> reads.put(replica.name, replica.reads.sum()));
+        return reads;
+    }
+
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    public long getFailovers() {
+        return failovers.sum();
+    }
+
+    // 커넥션 풀 종료 (빈 소멸 시)
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) dataSource).close();
+            } catch (Exception e) {
+                log.warn("커넥션 풀 종료 실패", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder reads = new LongAdder();
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markDown(SQLException cause) {
+            if (healthy) {
+                log.warn("복제 DB 제외: {} ({})", name, cause != null ? cause.getMessage() : "연결 검증 실패");
+            }
+            healthy = false;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                log.info("복제 DB 복구: {}", name);
+            }
+            healthy = true;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.demo.common;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.demo.auth.AuthUser;
+import com.demo.auth.LoginUserArgumentResolver;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * ReadYourWritesFilter 클래스
+ * 로그인 사용자가 쓰기 요청(POST/PUT/PATCH/DELETE)을 한 뒤 일정 시간 동안은 그 사용자의 읽기를 주 DB 로 고정합니다.
+ * 복제 지연 때문에 방금 작성/수정한 내용이 보이지 않는 일을 막습니다. (복제 DB 라우팅 사용 시에만 등록)
+ */
+@Component
+@ConditionalOnProperty(name = "cafe.datasource.replicas.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final LoginUserArgumentResolver loginUserResolver;
+    private final Cache<String, Boolean> recentWriters; // 최근 쓰기 사용자 (고정 시간이 지나면 만료)
+
+    public ReadYourWritesFilter(LoginUserArgumentResolver loginUserResolver,
+                                @Value("${cafe.datasource.replicas.read-your-writes-window:5s}") Duration window) {
+        this.loginUserResolver = loginUserResolver;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AuthUser user = loginUserResolver.resolve(request);
+        String userId = user != null ? user.getUserId() : null;
+        ReadWriteRoutingDataSource.pinPrimary(userId != null && recentWriters.getIfPresent(userId) != null);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingDataSource.pinPrimary(false);
+            if (userId != null && isWrite(request.getMethod()) && response.getStatus() < 400) {
+                recentWriters.put(userId, Boolean.TRUE); // 완료 시점부터 고정 시간 시작
+            }
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+}
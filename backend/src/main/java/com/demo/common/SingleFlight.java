@@ -0,0 +1,140 @@
+package com.demo.common;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+/**
+ * SingleFlight 클래스
+ * 같은 키의 동시 조회를 하나로 합칩니다. 먼저 온 호출자가 직접(잠금 밖에서) 조회하고, 그동안 도착한 호출자는 그 결과를 함께 받습니다.
+ * - 조회 중 예외는 기다리던 모든 호출자에게 같은 예외로 전달
+ * - 기다리는 호출자는 제한 시간이 지나면 포기 (조회 자체는 계속 진행)
+ * - 기본은 조회가 끝나면 결과를 버리고(요청 동안만 공유), caching() 으로 만들면 결과를 AsyncCache 에 남김
+ *   (캐시 무효화로 제거된 조회 중 항목은 끝나도 저장되지 않음)
+ * @param <K> 키
+ * @param <V> 결과
+ */
+public class SingleFlight<K, V> {
+
+    private final BiFunction<K, CompletableFuture<V>, CompletableFuture<V>> register; // 조회 중 표시 등록 (이미 있으면 기존 것 반환)
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight; // 조회가 끝나면 제거할 맵 (캐시 사용 시 null)
+    private final long timeoutNanos;
+    private final LongAdder loads = new LongAdder(); // 실제 조회 수
+    private final LongAdder collapsed = new LongAdder(); // 다른 호출자의 조회에 합류한 수
+    private final LongAdder timeouts = new LongAdder(); // 합류 후 제한 시간 초과 수
+    private final LongAdder failures = new LongAdder(); // 실패한 조회 수
+
+    /**
+     * 결과를 보관하지 않는 단일 조회
+     * @param timeout 합류한 호출자의 최대 대기 시간
+     */
+    public SingleFlight(Duration timeout) {
+        this(null, timeout);
+    }
+
+    private SingleFlight(AsyncCache<K, V> cache, Duration timeout) {
+        if (cache != null) {
+            this.inFlight = null;
+            this.register = (key, loading) -> cache.get(key, (k, executor) -> loading);
+        } else {
+            ConcurrentMap<K, CompletableFuture<V>> map = new ConcurrentHashMap<>();
+            this.inFlight = map;
+            this.register = (key, loading) -> {
+                CompletableFuture<V> existing = map.putIfAbsent(key, loading);
+                return existing != null ? existing : loading;
+            };
+        }
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * 결과를 AsyncCache 에 보관하는 단일 조회 (캐시에 있으면 조회 없이 반환)
+     * @param cache 결과 캐시
+     * @param timeout 합류한 호출자의 최대 대기 시간
+     */
+    public static <K, V> SingleFlight<K, V> caching(AsyncCache<K, V> cache, Duration timeout) {
+        return new SingleFlight<>(cache, timeout);
+    }
+
+    /**
+     * 조회 (같은 키로 조회 중이면 그 결과를 기다림)
+     * @param key 키
+     * @param loader 조회 함수 (호출한 스레드에서 실행)
+     * @return 조회 결과
+     */
+    public V execute(K key, Function<K, V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> current = register.apply(key, loading);
+        if (current != loading) {
+            return await(current);
+        }
+        loads.increment();
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (Throwable e) {
+            failures.increment();
+            loading.completeExceptionally(e); // 기다리는 호출자에도 같은 예외 전달 (캐시에서는 실패한 항목이 자동 제거됨)
+            throw e;
+        } finally {
+            if (inFlight != null) {
+                inFlight.remove(key, loading);
+            }
+        }
+    }
+
+    // 저장된 값 또는 다른 호출자가 조회 중인 값
+    private V await(CompletableFuture<V> current) {
+        if (current.isDone()) {
+            return join(current, 0);
+        }
+        collapsed.increment();
+        return join(current, timeoutNanos);
+    }
+
+    private V join(CompletableFuture<V> future, long waitNanos) {
+        try {
+            return waitNanos > 0 ? future.get(waitNanos, TimeUnit.NANOSECONDS) : future.get();
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new RuntimeException("동시 조회 대기 시간 초과", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("동시 조회 대기 중 인터럽트", e);
+        }
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getCollapsed() {
+        return collapsed.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,44 @@
+package com.demo.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TokenBucket 클래스
+ * 잠금 없는 토큰 버킷입니다. (GCRA: 토큰 수 대신 "버킷이 다시 가득 차는 이론상 시각" 하나만 CAS 로 갱신)
+ * 초당 rate 개씩 채워지고 최대 burst 개까지 몰아서 허용합니다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos; // 토큰 하나가 채워지는 시간
+    private final long toleranceNanos; // 몰아서 허용하는 양 ((burst - 1) * interval)
+    private final AtomicLong theoreticalArrival; // 다음 요청의 이론상 도착 시각 (System.nanoTime 기준)
+
+    /**
+     * @param ratePerSecond 초당 허용 요청 수
+     * @param burst 한 번에 허용하는 최대 요청 수
+     */
+    public TokenBucket(double ratePerSecond, int burst) {
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.toleranceNanos = intervalNanos * (Math.max(1, burst) - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime()); // 가득 찬 상태로 시작
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 시간(나노초)
+     */
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long start = current - now > 0 ? current : now; // 버킷이 가득 찼으면 현재 시각부터
+            long ahead = start - now;
+            if (ahead > toleranceNanos) {
+                return ahead - toleranceNanos; // 버킷이 비어 있음
+            }
+            if (theoreticalArrival.compareAndSet(current, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.demo.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * TransactionCallbacks 클래스
+ * 트랜잭션 커밋 이후에 실행해야 하는 후속 작업(인메모리 인덱스 갱신 등)을 등록합니다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업 실행 (트랜잭션이 없으면 즉시 실행)
+     * 롤백된 변경이 인메모리 구조에 반영되지 않도록 합니다.
+     * @param action 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
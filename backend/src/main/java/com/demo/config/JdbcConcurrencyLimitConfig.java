@@ -0,0 +1,50 @@
+package com.demo.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.demo.common.ConcurrencyLimitingDataSource;
+import com.demo.common.ReadWriteRoutingDataSource;
+
+/**
+ * JdbcConcurrencyLimitConfig 클래스
+ * cafe.jdbc.concurrency-limit.enabled=true 이면 DataSource 를 ConcurrencyLimitingDataSource 로 감쌉니다.
+ * 가상 스레드 실행 모드(virtual 프로파일)에서 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cafe.jdbc.concurrency-limit.enabled", havingValue = "true")
+public class JdbcConcurrencyLimitConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcConcurrencyLimitConfig.class);
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 생성되어야 하므로 static 으로 등록
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 복제 DB 라우팅 사용 시에는 최종 DataSource(지연 프록시)에만 적용
+                if (!(bean instanceof DataSource) || bean instanceof ConcurrencyLimitingDataSource
+                        || bean instanceof ReadWriteRoutingDataSource) {
+                    return bean;
+                }
+                // 기본값은 커넥션 풀 최대 크기 (Hikari 기본 10)
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrency = environment.getProperty("cafe.jdbc.concurrency-limit.max-concurrency", Integer.class, poolSize);
+                Duration acquireTimeout = environment.getProperty("cafe.jdbc.concurrency-limit.acquire-timeout",
+                        Duration.class, Duration.ofSeconds(2));
+                log.info("DB 동시 사용 제한 적용: {} (최대 {}, 대기 {})", beanName, maxConcurrency, acquireTimeout);
+                return new ConcurrencyLimitingDataSource((DataSource) bean, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+}
@@ -0,0 +1,195 @@
+package com.demo.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.demo.app.AppBootstrapService;
+import com.demo.auth.PasswordVerificationExecutor;
+import com.demo.boards.BoardEventHub;
+import com.demo.boards.BoardQueryCache;
+import com.demo.boards.BoardSearchIndex;
+import com.demo.boards.BoardService;
+import com.demo.boards.BoardViewCounter;
+import com.demo.common.AdmissionControlFilter;
+import com.demo.common.ConcurrencyLimitingDataSource;
+import com.demo.common.ReadWriteRoutingDataSource;
+import com.demo.common.SingleFlight;
+import com.demo.users.CurrentUserCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * MetricsConfig 클래스
+ * 애플리케이션 자체 구성 요소의 지표를 Micrometer 에 등록합니다.
+ * HTTP 요청 지연/오류율, 커넥션 풀(Hikari), Hibernate 통계는 Spring Boot Actuator 가 자동으로 등록합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 게시글 조회 캐시 적중률, 크기, 제거 수
+    @Bean
+    public MeterBinder boardQueryCacheMetrics(BoardQueryCache boardQueryCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, boardQueryCache.getListCache(), "board.list");
+            CaffeineCacheMetrics.monitor(registry, boardQueryCache.getDetailCache(), "board.detail");
+        };
+    }
+
+    // 요청 인증 재검증 캐시 적중률 (미적중마다 사용자 키 조회 1회)
+    @Bean
+    public MeterBinder currentUserCacheMetrics(CurrentUserCache currentUserCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, currentUserCache.getCache(), "auth.current-user");
+    }
+
+    // 같은 키 동시 조회 합치기 (실제 조회 수, 합류 수, 대기 시간 초과, 실패)
+    @Bean
+    public MeterBinder boardCoalescingMetrics(BoardQueryCache boardQueryCache, BoardService boardService) {
+        return registry -> {
+            bindSingleFlight(registry, boardQueryCache.getListFlight(), "list");
+            bindSingleFlight(registry, boardQueryCache.getDetailFlight(), "detail");
+            bindSingleFlight(registry, boardService.getPostCountFlight(), "post-count");
+        };
+    }
+
+    private static void bindSingleFlight(MeterRegistry registry, SingleFlight<?, ?> flight, String read) {
+        Tags tags = Tags.of("read", read);
+        FunctionCounter.builder("board.coalesce.loads", flight, SingleFlight::getLoads)
+                .tags(tags).description("실제 DB 조회 수").register(registry);
+        FunctionCounter.builder("board.coalesce.collapsed", flight, SingleFlight::getCollapsed)
+                .tags(tags).description("진행 중인 같은 조회에 합류한 호출 수").register(registry);
+        FunctionCounter.builder("board.coalesce.timeouts", flight, SingleFlight::getTimeouts)
+                .tags(tags).register(registry);
+        FunctionCounter.builder("board.coalesce.failures", flight, SingleFlight::getFailures)
+                .tags(tags).register(registry);
+    }
+
+    // 검색 색인 문서 수
+    @Bean
+    public MeterBinder boardSearchIndexMetrics(BoardSearchIndex boardSearchIndex) {
+        return registry -> Gauge.builder("board.search.index.documents", boardSearchIndex, BoardSearchIndex::size)
+                .description("검색 색인에 포함된 게시글 수")
+                .register(registry);
+    }
+
+    // 게시글 변경 알림 구독자 수 및 대기열 초과 수
+    @Bean
+    public MeterBinder boardEventHubMetrics(BoardEventHub boardEventHub) {
+        return registry -> {
+            Gauge.builder("board.stream.subscribers", boardEventHub, BoardEventHub::getSubscriberCount)
+                    .description("SSE 구독자 수").register(registry);
+            FunctionCounter.builder("board.stream.overflows", boardEventHub, BoardEventHub::getOverflowCount)
+                    .description("대기열 초과로 resync 로 대체된 횟수").register(registry);
+        };
+    }
+
+    // 조회수 누적/반영 현황 (조회 수 대비 UPDATE 행 수로 일괄 반영 효과 확인)
+    @Bean
+    public MeterBinder boardViewCounterMetrics(BoardViewCounter boardViewCounter) {
+        return registry -> {
+            FunctionCounter.builder("board.views.recorded", boardViewCounter, BoardViewCounter::getRecordedViews)
+                    .description("기록된 게시글 조회 수").register(registry);
+            FunctionCounter.builder("board.views.flushed.rows", boardViewCounter, BoardViewCounter::getFlushedRows)
+                    .description("조회수 반영 UPDATE 행 수").register(registry);
+            Gauge.builder("board.views.pending.posts", boardViewCounter, BoardViewCounter::getPendingPosts)
+                    .description("반영 대기 중인 게시글 수").register(registry);
+        };
+    }
+
+    // 로그인 해시 검증 스레드 풀 (실행 중, 대기열, 완료 수) 및 거절 수
+    @Bean
+    public MeterBinder passwordVerificationMetrics(PasswordVerificationExecutor passwordVerificationExecutor) {
+        return registry -> {
+            new ExecutorServiceMetrics(passwordVerificationExecutor.getExecutor(), "password.verify", Tags.empty())
+                    .bindTo(registry);
+            FunctionCounter.builder("password.verify.rejected", passwordVerificationExecutor,
+                            executor -> ((Number) executor.stats().get("rejected")).doubleValue())
+                    .description("대기열 초과로 거절된 로그인 검증 수")
+                    .register(registry);
+        };
+    }
+
+    // DB 동시 사용 제한 (virtual 프로파일에서만 적용됨)
+    @Bean
+    public MeterBinder jdbcConcurrencyLimitMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .filter(ConcurrencyLimitingDataSource.class::isInstance)
+                .map(ConcurrencyLimitingDataSource.class::cast)
+                .findFirst()
+                .ifPresent(limiter -> {
+                    Gauge.builder("jdbc.limit.active", limiter, ConcurrencyLimitingDataSource::getActive)
+                            .description("사용 중인 DB 허가 수").register(registry);
+                    Gauge.builder("jdbc.limit.waiting", limiter, ConcurrencyLimitingDataSource::getWaiting)
+                            .description("DB 허가를 기다리는 스레드 수").register(registry);
+                    Gauge.builder("jdbc.limit.max", limiter, ConcurrencyLimitingDataSource::getMaxConcurrency)
+                            .register(registry);
+                    FunctionCounter.builder("jdbc.limit.rejected", limiter, ConcurrencyLimitingDataSource::getRejected)
+                            .description("대기 시간 초과로 거절된 커넥션 요청 수").register(registry);
+                });
+    }
+
+    // 요청 허용 제어 (클라이언트별 토큰 버킷, 요청 종류별 동시 처리 제한)
+    @Bean
+    public MeterBinder admissionControlMetrics(ObjectProvider<AdmissionControlFilter> admissionControl) {
+        return registry -> admissionControl.ifAvailable(filter -> {
+            FunctionCounter.builder("http.admission.rejected", filter, AdmissionControlFilter::getRateLimited)
+                    .tags(Tags.of("reason", "rate", "lane", "all"))
+                    .description("허용 제어로 거절된 요청 수").register(registry);
+            Gauge.builder("http.admission.clients", filter, AdmissionControlFilter::getTrackedClients)
+                    .description("토큰 버킷을 가진 클라이언트 수").register(registry);
+            for (AdmissionControlFilter.Lane lane : AdmissionControlFilter.Lane.values()) {
+                String name = lane.name().toLowerCase();
+                FunctionCounter.builder("http.admission.rejected", filter, f -> f.getBulkheadRejected(lane))
+                        .tags(Tags.of("reason", "bulkhead", "lane", name)).register(registry);
+                Gauge.builder("http.admission.active", filter, f -> f.getActive(lane))
+                        .tags(Tags.of("lane", name)).register(registry);
+                Gauge.builder("http.admission.limit", filter, f -> f.getLimit(lane))
+                        .tags(Tags.of("lane", name)).register(registry);
+            }
+        });
+    }
+
+    // 복제 DB 읽기 라우팅 (사용하는 경우만)
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ObjectProvider<ReadWriteRoutingDataSource> routing) {
+        return registry -> routing.ifAvailable(dataSource -> {
+            Gauge.builder("jdbc.replicas.healthy", dataSource, ReadWriteRoutingDataSource::getHealthyReplicaCount)
+                    .description("읽기에 사용 중인 복제 DB 수").register(registry);
+            Gauge.builder("jdbc.replicas.total", dataSource, ReadWriteRoutingDataSource::getReplicaCount)
+                    .register(registry);
+            dataSource.getReplicaReads().keySet().forEach(name ->
+                    FunctionCounter.builder("jdbc.routing.reads", dataSource, ds -> ds.getReplicaReads().get(name))
+                            .tags(Tags.of("target", name)).register(registry));
+            FunctionCounter.builder("jdbc.routing.reads", dataSource, ReadWriteRoutingDataSource::getPrimaryReads)
+                    .tags(Tags.of("target", "primary"))
+                    .description("라우팅 대상 읽기 중 주 DB 로 처리된 수 (본인 쓰기 직후 고정 또는 복제 DB 장애)")
+                    .register(registry);
+            FunctionCounter.builder("jdbc.routing.failovers", dataSource, ReadWriteRoutingDataSource::getFailovers)
+                    .description("복제 DB 커넥션 실패로 전환된 수").register(registry);
+        });
+    }
+
+    // 앱 첫 화면 병렬 조회 스레드 풀 (활성/대기 작업 수, 완료 수)
+    @Bean
+    public MeterBinder appBootstrapMetrics(AppBootstrapService appBootstrapService) {
+        return registry -> new ExecutorServiceMetrics(appBootstrapService.getExecutor(), "app.bootstrap", Tags.empty())
+                .bindTo(registry);
+    }
+
+    // 가상 스레드 고정 감지 수 (감시가 켜진 경우만)
+    @Bean
+    public MeterBinder virtualThreadPinningMetrics(ObjectProvider<VirtualThreadPinningAudit> pinningAudit) {
+        return registry -> pinningAudit.ifAvailable(audit ->
+                FunctionCounter.builder("jvm.threads.virtual.pinned", audit, VirtualThreadPinningAudit::getPinnedCount)
+                        .description("기준 시간 이상 캐리어 스레드에 고정된 가상 스레드 수")
+                        .register(registry));
+    }
+}
@@ -0,0 +1,78 @@
+package com.demo.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.demo.common.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * ReplicaRoutingConfig 클래스
+ * cafe.datasource.replicas.enabled=true 이면 주 DB(spring.datasource)와 복제 DB(cafe.datasource.replicas.urls)
+ * 커넥션 풀을 만들고, 읽기 전용 서비스 트랜잭션을 복제 DB 로 보내는 DataSource 를 등록합니다.
+ * 커넥션 풀 설정(spring.datasource.hikari.*)은 모든 풀에 같이 적용됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cafe.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingConfig.class);
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            DataSourceProperties properties, Environment environment,
+            @Value("${cafe.datasource.replicas.urls}") List<String> urls,
+            @Value("${cafe.datasource.replicas.username:${spring.datasource.username}}") String username,
+            @Value("${cafe.datasource.replicas.password:${spring.datasource.password}}") String password,
+            @Value("${cafe.datasource.replicas.routed-prefixes:com.demo.boards.BoardService,com.demo.users.UserService}")
+            List<String> routedPrefixes) {
+        String driver = properties.determineDriverClassName();
+        HikariDataSource primary = pool(environment, "primary", properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), driver);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, pool(environment, name, urls.get(i).trim(), username, password, driver));
+        }
+        log.info("복제 DB 읽기 라우팅 사용: 복제 DB {}개, 대상 {}", replicas.size(), routedPrefixes);
+        return new ReadWriteRoutingDataSource(primary, replicas, routedPrefixes);
+    }
+
+    // 트랜잭션의 읽기 전용 여부가 정해진 뒤(첫 SQL 실행 시점)에 실제 커넥션을 선택하도록 지연 프록시로 감쌈
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    private static HikariDataSource pool(Environment environment, String name, String url, String username,
+                                         String password, String driver) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config)); // 공통 풀 설정
+        config.setPoolName("cafe-" + name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        if (driver != null) {
+            config.setDriverClassName(driver);
+        }
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,182 @@
+package com.demo.config;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.auth.PasswordHasher;
+import com.demo.boards.BoardImportRequest;
+import com.demo.boards.BoardImportService;
+import com.demo.users.UserEntity;
+import com.demo.users.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * SyntheticDataGenerator 클래스
+ * 부하 테스트/벤치마크용 가상 데이터를 생성합니다. (cafe.seed.enabled=true 이면 기동 시 빈 DB 에 한 번 생성)
+ * - 사용자: user0(관리자) ~ user{N-1}, 비밀번호는 모두 같은 값 (해시는 한 번만 계산), 가입일은 최근 2년에 분산
+ * - 게시글: 카테고리(1:50%, 2:30%, 3:15%, 4:5%)와 작성자(앞쪽 소수 사용자에 집중)가 치우친 분포, 작성일은 최근 1년에 분산
+ * 같은 시드면 같은 데이터가 생성되므로 실행 간 결과를 비교할 수 있습니다.
+ * 애플리케이션 시작 완료(검색 색인/사용자 필터 구축) 전에 실행됩니다.
+ */
+@Component
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final int USER_CHUNK = 1000; // 사용자 트랜잭션 단위
+    private static final int BOARD_CHUNK = 5000; // 게시글 가져오기 단위
+    private static final long SEED = 42;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final UserRepository userRepository;
+    private final BoardImportService boardImportService;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize; // flush/clear 주기 (JDBC 배치 크기와 동일)
+    private final boolean enabled;
+    private final int users;
+    private final int boards;
+    private final String password;
+
+    public SyntheticDataGenerator(UserRepository userRepository, BoardImportService boardImportService,
+                                  PasswordHasher passwordHasher, PlatformTransactionManager transactionManager,
+                                  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                                  @Value("${cafe.seed.enabled:false}") boolean enabled,
+                                  @Value("${cafe.seed.users:100000}") int users,
+                                  @Value("${cafe.seed.boards:1000000}") int boards,
+                                  @Value("${cafe.seed.password:local-password}") String password) {
+        this.userRepository = userRepository;
+        this.boardImportService = boardImportService;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.enabled = enabled;
+        this.users = users;
+        this.boards = boards;
+        this.password = password;
+    }
+
+    // 가상 데이터 사용자 ID (0 번은 관리자)
+    public static String userId(int index) {
+        return "user" + index;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        if (userRepository.count() > 0) {
+            log.info("가상 데이터 생성 생략: 이미 사용자가 있음");
+            return;
+        }
+        generate(users, boards, password);
+    }
+
+    /**
+     * 가상 데이터 생성
+     * @param userCount 사용자 수
+     * @param boardCount 게시글 수
+     * @param rawPassword 모든 사용자의 비밀번호
+     */
+    public void generate(int userCount, int boardCount, String rawPassword) {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(SEED);
+        generateUsers(userCount, passwordHasher.hash(rawPassword), random);
+        log.info("가상 사용자 생성: {}명, {}ms", userCount, System.currentTimeMillis() - started);
+        generateBoards(userCount, boardCount, random);
+        log.info("가상 데이터 생성 완료: 사용자 {}명, 게시글 {}건, {}ms", userCount, boardCount,
+                System.currentTimeMillis() - started);
+    }
+
+    private void generateUsers(int userCount, String passwordHash, SplittableRandom random) {
+        LocalDateTime start = LocalDateTime.now().minusDays(730);
+        for (int from = 0; from < userCount; from += USER_CHUNK) {
+            int to = Math.min(from + USER_CHUNK, userCount);
+            int first = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = first; i < to; i++) {
+                    UserEntity user = new UserEntity();
+                    user.setUserId(userId(i));
+                    user.setUserName("사용자" + i);
+                    user.setUserNickname("닉네임" + i);
+                    user.setUserPassword(passwordHash);
+                    user.setUserLevel(i == 0 ? 4 : level(random.nextDouble()));
+                    user.setCreatedDate(start.plusSeconds((long) i * 730 * 24 * 3600 / Math.max(1, userCount)));
+                    user.setCreatedBy("seed");
+                    user.setUpdatedBy("seed");
+                    entityManager.persist(user); // ID 를 직접 지정하므로 save()(merge) 대신 persist 로 조회 없이 INSERT
+                    if ((i - first + 1) % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            });
+        }
+    }
+
+    private void generateBoards(int userCount, int boardCount, SplittableRandom random) {
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        List<BoardImportRequest> chunk = new ArrayList<>(BOARD_CHUNK);
+        for (int i = 0; i < boardCount; i++) {
+            BoardImportRequest request = new BoardImportRequest();
+            request.setBoardCategory(category(random.nextDouble()));
+            request.setUserId(userId((int) (userCount * Math.pow(random.nextDouble(), 3)))); // 앞쪽 사용자에 집중
+            request.setBoardTitle("게시글 제목 " + i);
+            request.setBoardWrite(body(random, i));
+            request.setCreatedDate(start.plusSeconds((long) i * 365 * 24 * 3600 / Math.max(1, boardCount)));
+            chunk.add(request);
+            if (chunk.size() == BOARD_CHUNK) {
+                boardImportService.importBoards(chunk, "seed");
+                chunk.clear();
+            }
+            if ((i + 1) % 100_000 == 0) {
+                log.info("가상 게시글 생성 중: {}/{}", i + 1, boardCount);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            boardImportService.importBoards(chunk, "seed");
+        }
+    }
+
+    private static int level(double r) {
+        if (r < 0.80) {
+            return 1;
+        }
+        return r < 0.95 ? 2 : 3;
+    }
+
+    private static int category(double r) {
+        if (r < 0.50) {
+            return 1;
+        }
+        if (r < 0.80) {
+            return 2;
+        }
+        return r < 0.95 ? 3 : 4;
+    }
+
+    // 100~600자 분량의 본문
+    private static String body(SplittableRandom random, int i) {
+        int length = 100 + random.nextInt(500);
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            text.append("카페 게시판 가상 데이터 본문 ").append(i).append(' ');
+        }
+        return text.substring(0, length);
+    }
+}
@@ -0,0 +1,78 @@
+package com.demo.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * VirtualThreadPinningAudit 클래스
+ * JFR 의 jdk.VirtualThreadPinned 이벤트를 구독하여 가상 스레드가 캐리어 스레드에 고정된 채
+ * 블로킹된 지점(synchronized 안의 I/O, 네이티브 호출 등)을 스택과 함께 기록합니다.
+ * cafe.threads.pinning-audit.enabled=true 일 때만 동작합니다. (JDK 21 이상)
+ */
+@Component
+@ConditionalOnProperty(name = "cafe.threads.pinning-audit.enabled", havingValue = "true")
+public class VirtualThreadPinningAudit {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningAudit.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 12; // 로그에 남길 스택 깊이
+
+    private final Duration threshold; // 이 시간 이상 고정된 경우만 기록
+    private final LongAdder pinnedCount = new LongAdder(); // 기록된 고정 횟수
+    private RecordingStream stream;
+
+    public VirtualThreadPinningAudit(@Value("${cafe.threads.pinning-audit.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감시 시작 (기준 {})", threshold);
+    }
+
+    // 고정된 시간과 상위 스택 프레임 기록
+    private void report(RecordedEvent event) {
+        pinnedCount.increment();
+        String stack = "";
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            stack = frames.stream()
+                    .limit(STACK_DEPTH)
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+        }
+        log.warn("가상 스레드 고정 {}ms (스레드 {}){}", event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "?", stack);
+    }
+
+    // 기록된 고정 횟수 (메트릭용)
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
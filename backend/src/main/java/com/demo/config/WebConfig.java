@@ -1,22 +1,50 @@
 package com.demo.config;
 
+import java.util.List;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-// WebConfig 클래스: CORS 설정을 위한 Spring 설정 클래스
+import com.demo.auth.LoginUserArgumentResolver;
+
+// WebConfig 클래스: CORS 및 MVC 설정을 위한 Spring 설정 클래스
 @Configuration // 이 클래스가 Spring 설정 클래스임을 나타냄
 public class WebConfig implements WebMvcConfigurer {
 
-    // CORS 매핑을 추가하는 메서드
+    private final LoginUserArgumentResolver loginUserArgumentResolver; // @LoginUser 파라미터 처리
+
+    public WebConfig(LoginUserArgumentResolver loginUserArgumentResolver) {
+        this.loginUserArgumentResolver = loginUserArgumentResolver;
+    }
+
+    // CORS 필터 등록 (유량 제어 필터보다 먼저 실행되어 429/503 거절 응답에도 CORS 헤더가 붙도록 함)
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOrigins(List.of("http://localhost:3000")); // 허용할 출처 설정 (React 프론트엔드)
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE")); // 허용할 HTTP 메서드
+        config.setAllowedHeaders(List.of("*")); // 모든 헤더 허용
+        config.setExposedHeaders(List.of(HttpHeaders.RETRY_AFTER)); // 거절 응답의 재시도 시간을 브라우저 코드에서 읽을 수 있도록
+        config.setAllowCredentials(true); // 자격 증명(쿠키) 허용
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config); // 모든 경로 CORS 정책 적용
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE); // AdmissionControlFilter(HIGHEST_PRECEDENCE + 10) 보다 먼저
+        return registration;
+    }
+
+    // 컨트롤러 파라미터 리졸버 등록
     @Override
-    public void addCorsMappings(CorsRegistry registry) {
-        // 모든 경로에 대해 CORS 설정 적용
-        registry.addMapping("/**") // 모든 경로 CORS 정책 적용
-                .allowedOrigins("http://localhost:3000") // 허용할 출처 설정 (React 프론트엔드)
-                .allowedMethods("GET", "POST", "PUT", "DELETE") // 허용할 HTTP 메서드
-                .allowedHeaders("*") // 모든 헤더 허용
-                .allowCredentials(true); // 자격 증명(쿠키) 허용
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(loginUserArgumentResolver); // @LoginUser AuthUser 주입
     }
 }
-
@@ -0,0 +1,72 @@
+package com.demo.users;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.demo.auth.AuthUser;
+import com.demo.common.SingleFlight;
+import com.demo.common.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * CurrentUserCache 클래스
+ * 토큰/세션에 담긴 사용자 정보를 DB 의 현재 닉네임과 레벨로 바꿔 줍니다.
+ * 서명 토큰은 만료(기본 12시간)까지 유효하므로 레벨 변경이나 삭제가 토큰에 반영되지 않는 문제를 막습니다.
+ * - 사용자별 조회 결과를 짧은 시간(cafe.auth.revalidate-interval) 보관, 삭제된 사용자는 로그아웃 처리
+ * - 이 노드에서 변경한 사용자는 즉시와 커밋 후에 무효화, 다른 노드에는 보관 시간 안에 반영
+ * - 같은 사용자의 동시 조회는 SingleFlight 로 합치고, DB 조회는 캐시 내부 잠금 밖에서 호출한 스레드가 직접 수행
+ *   (조회 중 무효화된 결과는 저장되지 않음)
+ */
+@Component
+public class CurrentUserCache {
+
+    private final UserRepository userRepository;
+    private final AsyncCache<String, Optional<AuthUser>> cache; // 사용자 ID -> 현재 정보 (삭제된 사용자는 빈 값)
+    private final SingleFlight<String, Optional<AuthUser>> flight; // 같은 사용자 동시 조회 합치기
+
+    public CurrentUserCache(UserRepository userRepository,
+                            @Value("${cafe.auth.revalidate-interval:30s}") Duration interval,
+                            @Value("${cafe.auth.revalidate-max-size:100000}") long maxSize,
+                            @Value("${cafe.auth.revalidate-coalesce-timeout:5s}") Duration coalesceTimeout) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(interval)
+                .recordStats()
+                .buildAsync();
+        this.flight = SingleFlight.caching(cache, coalesceTimeout);
+    }
+
+    /**
+     * 토큰/세션 사용자를 현재 정보로 갱신
+     * @param claimed 토큰 또는 세션의 사용자 (null 가능)
+     * @return 현재 닉네임/레벨의 사용자 또는 null (삭제된 사용자)
+     */
+    public AuthUser refresh(AuthUser claimed) {
+        if (claimed == null || claimed.getUserId() == null) {
+            return null;
+        }
+        return flight.execute(claimed.getUserId(), userRepository::findAuthUserById).orElse(null);
+    }
+
+    // 사용자 정보 변경에 따른 무효화 (커밋 전에 다시 채워진 값도 지우도록 커밋 후 한 번 더)
+    public void evict(String userId) {
+        evictAll(List.of(userId));
+    }
+
+    public void evictAll(Collection<String> userIds) {
+        cache.synchronous().invalidateAll(userIds);
+        TransactionCallbacks.afterCommit(() -> cache.synchronous().invalidateAll(userIds));
+    }
+
+    public Cache<String, Optional<AuthUser>> getCache() {
+        return cache.synchronous();
+    }
+}
@@ -0,0 +1,43 @@
+package com.demo.users;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * LegacyProfileImageMigration 클래스
+ * 기존 USER_TB.USER_IMAGE 컬럼에 남아 있는 이미지를 애플리케이션 시작 시 이미지 저장소로 옮깁니다.
+ * cafe.image-store.migrate-legacy=true 일 때만 실행되며, 사용자별로 개별 트랜잭션에서 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "cafe.image-store.migrate-legacy", havingValue = "true")
+public class LegacyProfileImageMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyProfileImageMigration.class);
+
+    private final UserRepository userRepository;
+    private final UserImageService userImageService;
+
+    public LegacyProfileImageMigration(UserRepository userRepository, UserImageService userImageService) {
+        this.userRepository = userRepository;
+        this.userImageService = userImageService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int migrated = 0;
+        for (String userId : userRepository.findLegacyImageUserIds()) {
+            try {
+                if (userImageService.migrateLegacyImage(userId)) {
+                    migrated++;
+                }
+            } catch (Exception e) {
+                log.warn("프로필 이미지 이관 실패: userId={}", userId, e); // 실패한 사용자는 다음 실행 때 재시도
+            }
+        }
+        log.info("기존 프로필 이미지 이관 완료: {}건", migrated);
+    }
+}
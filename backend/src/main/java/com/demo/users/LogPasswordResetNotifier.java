@@ -0,0 +1,25 @@
+package com.demo.users;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * LogPasswordResetNotifier 클래스
+ * 로컬 프로필 전용 전달 방식입니다. 코드 발급 사실(사용자 ID, 만료 시각)만 로그에 남기고 코드 원문은 기록하지 않습니다.
+ * 다른 프로필에서는 메일/문자 발송 등 PasswordResetNotifier 를 구현한 빈이 있어야 기동됩니다.
+ */
+@Component
+@Profile("local")
+public class LogPasswordResetNotifier implements PasswordResetNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(LogPasswordResetNotifier.class);
+
+    @Override
+    public void send(String userId, String code, LocalDateTime expiresAt) {
+        log.info("비밀번호 재설정 코드 발급 (로컬 프로필, 코드는 전달되지 않음): userId={}, 만료={}", userId, expiresAt);
+    }
+}
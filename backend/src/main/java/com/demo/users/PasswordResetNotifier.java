@@ -0,0 +1,20 @@
+package com.demo.users;
+
+import java.time.LocalDateTime;
+
+/**
+ * PasswordResetNotifier 인터페이스
+ * 비밀번호 재설정 코드를 요청 응답이 아닌 별도 경로(메일, 문자 등)로 사용자에게 전달합니다.
+ * 구현 빈이 없으면 UserService 를 만들 수 없어 기동에 실패합니다. (local 프로필은 LogPasswordResetNotifier)
+ * 구현은 코드 원문을 로그 등 다른 곳에 남기지 않아야 합니다.
+ */
+public interface PasswordResetNotifier {
+
+    /**
+     * 재설정 코드 전달
+     * @param userId 사용자 ID
+     * @param code 재설정 코드 (원문, 저장소에는 해시만 보관)
+     * @param expiresAt 만료 시각
+     */
+    void send(String userId, String code, LocalDateTime expiresAt);
+}
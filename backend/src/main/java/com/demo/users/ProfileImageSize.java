@@ -0,0 +1,39 @@
+package com.demo.users;
+
+/**
+ * ProfileImageSize 열거형
+ * 프로필 이미지 엔드포인트가 제공하는 미리 생성된 이미지 크기입니다.
+ * maxDimension 이 0 이면 원본을 그대로 제공합니다.
+ */
+public enum ProfileImageSize {
+
+    THUMB("thumb", 64), // 목록, 사이드바용 썸네일
+    MEDIUM("medium", 200), // 프로필 화면용 중간 크기
+    ORIGINAL("orig", 0); // 업로드된 원본
+
+    private final String key; // 요청 파라미터 및 DB 저장 값
+    private final int maxDimension; // 긴 변 기준 최대 픽셀 수
+
+    ProfileImageSize(String key, int maxDimension) {
+        this.key = key;
+        this.maxDimension = maxDimension;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    // 요청 파라미터 값으로 크기 조회, 알 수 없는 값이면 예외 발생
+    public static ProfileImageSize fromKey(String key) {
+        for (ProfileImageSize size : values()) {
+            if (size.key.equalsIgnoreCase(key)) {
+                return size;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 크기입니다: " + key);
+    }
+}
@@ -0,0 +1,178 @@
+package com.demo.users;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProfileImageStore 클래스
+ * 프로필 이미지를 내용 해시(SHA-256)를 키로 하는 디스크 저장소에 보관합니다.
+ * - 업로드 스트림을 읽는 동안 해시를 계산하며 NIO 채널로 임시 파일에 기록
+ * - 같은 내용의 이미지는 한 번만 저장 (중복 제거)
+ * - 최대 크기를 넘는 업로드는 버퍼링 전에 거부
+ */
+@Component
+public class ProfileImageStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024; // 스트리밍 버퍼 크기
+
+    private final Path root; // 저장소 루트 디렉터리
+    private final long maxBytes; // 허용하는 최대 이미지 크기
+
+    public ProfileImageStore(@Value("${cafe.image-store.path:./data/profile-images}") String root,
+                             @Value("${cafe.image-store.max-bytes:5242880}") long maxBytes) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath();
+        this.maxBytes = maxBytes;
+        Files.createDirectories(this.root.resolve("tmp"));
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * 업로드 스트림을 저장소에 기록
+     * @param in 업로드 입력 스트림
+     * @param declaredSize 요청에 선언된 크기 (모르면 -1)
+     * @return 저장된 이미지의 해시와 크기
+     */
+    public StoredImage ingest(InputStream in, long declaredSize) throws IOException {
+        if (declaredSize > maxBytes) {
+            throw new IllegalArgumentException("이미지 크기가 허용 범위를 초과했습니다.");
+        }
+
+        MessageDigest digest = newDigest();
+        Path temp = Files.createTempFile(root.resolve("tmp"), "upload-", ".part");
+        long length = 0;
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                length += buffer.remaining();
+                if (length > maxBytes) { // 선언된 크기와 달리 실제 스트림이 큰 경우
+                    throw new IllegalArgumentException("이미지 크기가 허용 범위를 초과했습니다.");
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+            target.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest());
+        commit(temp, hash);
+        return new StoredImage(hash, length);
+    }
+
+    /**
+     * 메모리에 있는 작은 이미지(썸네일 등)를 저장소에 기록
+     * @param bytes 이미지 바이트
+     * @return 저장된 이미지의 해시와 크기
+     */
+    public StoredImage put(byte[] bytes) throws IOException {
+        MessageDigest digest = newDigest();
+        String hash = HexFormat.of().formatHex(digest.digest(bytes));
+        if (!Files.exists(pathOf(hash))) {
+            Path temp = Files.createTempFile(root.resolve("tmp"), "variant-", ".part");
+            Files.write(temp, bytes);
+            commit(temp, hash);
+        }
+        return new StoredImage(hash, bytes.length);
+    }
+
+    // 해시에 해당하는 파일 경로 (앞 4자리로 2단계 디렉터리 분산)
+    public Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    // 저장된 이미지 삭제 (검증에 실패한 업로드 정리)
+    public void discard(String hash) throws IOException {
+        Files.deleteIfExists(pathOf(hash));
+    }
+
+    public boolean exists(String hash) {
+        return Files.exists(pathOf(hash));
+    }
+
+    /**
+     * 저장된 이미지를 출력 스트림으로 전송 (FileChannel.transferTo 로 힙 복사 최소화)
+     * @param hash 이미지 해시
+     * @param out 응답 출력 스트림
+     */
+    public void writeTo(String hash, OutputStream out) throws IOException {
+        try (FileChannel source = FileChannel.open(pathOf(hash), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            long size = source.size();
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    // 임시 파일을 해시 경로로 이동, 이미 같은 내용이 있으면 임시 파일만 삭제 (중복 제거)
+    private void commit(Path temp, String hash) throws IOException {
+        Path target = pathOf(hash);
+        if (Files.exists(target)) {
+            Files.deleteIfExists(temp);
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(temp); // 동시에 같은 이미지가 저장된 경우
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 저장 결과 (내용 해시, 바이트 수)
+    public static class StoredImage {
+
+        private final String hash;
+        private final long length;
+
+        public StoredImage(String hash, long length) {
+            this.hash = hash;
+            this.length = length;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public long getLength() {
+            return length;
+        }
+    }
+}
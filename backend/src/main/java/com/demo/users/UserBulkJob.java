@@ -0,0 +1,105 @@
+package com.demo.users;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * UserBulkJob 클래스
+ * 관리자 일괄 작업의 진행 상황입니다. 작업 스레드가 청크마다 갱신하고, 진행 조회 API 가 그대로 반환합니다.
+ * 작업은 하나의 트랜잭션이므로 실패하면 처리된 청크까지 모두 롤백됩니다.
+ */
+public class UserBulkJob {
+
+    public enum Status {
+        RUNNING, // 진행 중
+        COMPLETED, // 커밋 완료
+        FAILED // 롤백됨
+    }
+
+    private final String jobId; // 작업 ID
+    private final UserBulkRequest.Action action; // 작업 종류
+    private final int total; // 대상 사용자 수 (중복 제거 후)
+    private final String requestedBy; // 요청한 관리자 ID
+    private final LocalDateTime startedAt; // 시작 시각
+    private final AtomicInteger processed = new AtomicInteger(); // 처리한 대상 사용자 수
+    private final AtomicInteger affectedUsers = new AtomicInteger(); // 실제 삭제/변경된 사용자 수
+    private final AtomicInteger affectedPosts = new AtomicInteger(); // 삭제/이전된 게시글 수
+    private volatile Status status = Status.RUNNING;
+    private volatile String error; // 실패 사유
+    private volatile LocalDateTime finishedAt; // 종료 시각
+
+    public UserBulkJob(String jobId, UserBulkRequest.Action action, int total, String requestedBy) {
+        this.jobId = jobId;
+        this.action = action;
+        this.total = total;
+        this.requestedBy = requestedBy;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // 청크 하나 처리 완료
+    void chunkDone(int chunkSize, int users, int posts) {
+        processed.addAndGet(chunkSize);
+        affectedUsers.addAndGet(users);
+        affectedPosts.addAndGet(posts);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public UserBulkRequest.Action getAction() {
+        return action;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public String getRequestedBy() {
+        return requestedBy;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    public int getAffectedUsers() {
+        return affectedUsers.get();
+    }
+
+    public int getAffectedPosts() {
+        return affectedPosts.get();
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    // 진행률 (0~100)
+    public int getPercent() {
+        return total == 0 ? 100 : (int) (processed.get() * 100L / total);
+    }
+}
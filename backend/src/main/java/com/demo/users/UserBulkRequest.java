@@ -0,0 +1,66 @@
+package com.demo.users;
+
+import java.util.List;
+
+/**
+ * UserBulkRequest 클래스
+ * 관리자 일괄 작업 요청입니다. (여러 사용자 삭제 또는 레벨 변경)
+ */
+public class UserBulkRequest {
+
+    public enum Action {
+        DELETE, // 사용자 삭제
+        RELEVEL // 사용자 레벨 변경
+    }
+
+    public enum PostAction {
+        REASSIGN, // 게시글을 다른 사용자에게 이전
+        DELETE // 게시글 함께 삭제
+    }
+
+    private Action action; // 작업 종류
+    private List<String> userIds; // 대상 사용자 ID 목록
+    private Integer userLevel; // 변경할 레벨 (RELEVEL)
+    private PostAction postAction; // 삭제 대상 사용자의 게시글 처리 방법 (DELETE)
+    private String reassignTo; // 게시글을 이전받을 사용자 ID (REASSIGN)
+
+    public Action getAction() {
+        return action;
+    }
+
+    public void setAction(Action action) {
+        this.action = action;
+    }
+
+    public List<String> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<String> userIds) {
+        this.userIds = userIds;
+    }
+
+    public Integer getUserLevel() {
+        return userLevel;
+    }
+
+    public void setUserLevel(Integer userLevel) {
+        this.userLevel = userLevel;
+    }
+
+    public PostAction getPostAction() {
+        return postAction;
+    }
+
+    public void setPostAction(PostAction postAction) {
+        this.postAction = postAction;
+    }
+
+    public String getReassignTo() {
+        return reassignTo;
+    }
+
+    public void setReassignTo(String reassignTo) {
+        this.reassignTo = reassignTo;
+    }
+}
@@ -0,0 +1,234 @@
+package com.demo.users;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.boards.BoardEventHub;
+import com.demo.boards.BoardQueryCache;
+import com.demo.boards.BoardRepository;
+import com.demo.boards.BoardSearchIndex;
+import com.demo.boards.BoardViewCounter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * UserBulkService 클래스
+ * 관리자 일괄 작업(여러 사용자 삭제/레벨 변경)을 처리합니다.
+ * - 대상 ID 를 청크(IN 목록 500개)로 나누어 청크마다 집합 단위 UPDATE/DELETE 몇 문장만 실행 (사용자별 조회 없음)
+ * - 작업 전체가 하나의 트랜잭션이며, 실패 시 모두 롤백
+ * - 별도 스레드에서 실행하고 청크마다 진행 상황(UserBulkJob)을 갱신
+ * - 삭제 시 게시글은 다른 사용자에게 이전하거나 함께 삭제하여 BOARD_TB 에 고아 행을 남기지 않음
+ * 인메모리 구조(중복 확인 필터, 검색 색인, 조회 캐시)는 커밋 후에 반영합니다.
+ */
+@Service
+public class UserBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserBulkService.class);
+    private static final int CHUNK_SIZE = 500; // IN 목록 크기 (Oracle 최대 1000)
+    private static final int MAX_USERS = 100000; // 한 번에 처리할 수 있는 최대 사용자 수
+    private static final int MAX_JOBS = 20; // 진행 조회용으로 보관할 최근 작업 수
+    private static final int MAX_LEVEL = 4; // 최대 사용자 레벨
+
+    private final UserRepository userRepository;
+    private final UserImageRepository userImageRepository;
+    private final BoardRepository boardRepository;
+    private final UserExistenceFilter userExistenceFilter;
+    private final BoardQueryCache boardQueryCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardEventHub boardEventHub;
+    private final CurrentUserCache currentUserCache;
+    private final TransactionTemplate transaction;
+    private final ExecutorService executor; // 일괄 작업은 한 번에 하나씩 실행
+    private final Map<String, UserBulkJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, UserBulkJob> eldest) {
+            return size() > MAX_JOBS;
+        }
+    });
+    private volatile UserBulkJob running; // 진행 중인 작업
+
+    public UserBulkService(UserRepository userRepository, UserImageRepository userImageRepository,
+                           BoardRepository boardRepository, UserExistenceFilter userExistenceFilter,
+                           BoardQueryCache boardQueryCache, BoardSearchIndex boardSearchIndex,
+                           BoardViewCounter boardViewCounter, BoardEventHub boardEventHub,
+                           CurrentUserCache currentUserCache, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userImageRepository = userImageRepository;
+        this.boardRepository = boardRepository;
+        this.userExistenceFilter = userExistenceFilter;
+        this.boardQueryCache = boardQueryCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardViewCounter = boardViewCounter;
+        this.boardEventHub = boardEventHub;
+        this.currentUserCache = currentUserCache;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-bulk");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 일괄 작업 시작
+     * @param request 작업 요청
+     * @param adminId 요청한 관리자 ID (자기 자신은 대상에서 제외해야 함)
+     * @return 시작된 작업 (다른 작업이 진행 중이면 null)
+     */
+    public synchronized UserBulkJob start(UserBulkRequest request, String adminId) {
+        List<String> userIds = validate(request, adminId);
+        if (running != null) {
+            return null;
+        }
+        UserBulkJob job = new UserBulkJob(UUID.randomUUID().toString(), request.getAction(), userIds.size(), adminId);
+        jobs.put(job.getJobId(), job);
+        running = job;
+        executor.execute(() -> run(job, request, userIds));
+        return job;
+    }
+
+    // 작업 진행 상황 (없거나 오래되어 정리된 작업이면 null)
+    public UserBulkJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow(); // 진행 중인 트랜잭션은 롤백됨
+    }
+
+    // 요청 검증 후 중복을 제거한 대상 ID 목록 반환
+    private List<String> validate(UserBulkRequest request, String adminId) {
+        if (request.getAction() == null) {
+            throw new RuntimeException("작업 종류(action)가 필요합니다.");
+        }
+        if (request.getUserIds() == null || request.getUserIds().isEmpty()) {
+            throw new RuntimeException("대상 사용자가 없습니다.");
+        }
+        LinkedHashSet<String> unique = new LinkedHashSet<>(request.getUserIds());
+        unique.remove(null);
+        if (unique.size() > MAX_USERS) {
+            throw new RuntimeException("한 번에 최대 " + MAX_USERS + "명까지 처리할 수 있습니다.");
+        }
+        if (unique.contains(adminId)) {
+            throw new RuntimeException("자기 자신은 일괄 작업 대상에 포함할 수 없습니다.");
+        }
+        if (request.getAction() == UserBulkRequest.Action.RELEVEL) {
+            if (request.getUserLevel() == null || request.getUserLevel() < 1 || request.getUserLevel() > MAX_LEVEL) {
+                throw new RuntimeException("레벨은 1~" + MAX_LEVEL + "까지 가능합니다.");
+            }
+        } else {
+            if (request.getPostAction() == null) {
+                throw new RuntimeException("게시글 처리 방법(postAction)이 필요합니다.");
+            }
+            if (request.getPostAction() == UserBulkRequest.PostAction.REASSIGN) {
+                String target = request.getReassignTo();
+                if (target == null || unique.contains(target) || !userRepository.existsById(target)) {
+                    throw new RuntimeException("게시글을 이전받을 사용자가 없거나 삭제 대상에 포함되어 있습니다.");
+                }
+            }
+        }
+        return new ArrayList<>(unique);
+    }
+
+    // 작업 실행 (하나의 트랜잭션, 청크 단위 진행 갱신)
+    private void run(UserBulkJob job, UserBulkRequest request, List<String> userIds) {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, String> deletedUsers = new LinkedHashMap<>(); // 삭제된 사용자 ID -> 닉네임 (커밋 후 필터 반영)
+        List<Long> affectedBoards = new ArrayList<>(); // 삭제/이전된 게시글 번호 (커밋 후 색인 반영)
+        try {
+            try {
+                execute(job, request, userIds, now, deletedUsers, affectedBoards);
+            } catch (RuntimeException e) {
+                log.error("사용자 일괄 작업 실패 (롤백): {}", job.getJobId(), e);
+                job.fail(e.getMessage());
+                return;
+            }
+            applyAfterCommit(request, userIds, deletedUsers, affectedBoards);
+        } finally {
+            running = null; // 커밋 후 반영까지 끝난 뒤에 다음 작업 허용
+        }
+        job.complete();
+        log.info("사용자 일괄 작업 완료: {} {}명 중 {}명, 게시글 {}건, {}ms", job.getAction(), job.getTotal(),
+                job.getAffectedUsers(), job.getAffectedPosts(), System.currentTimeMillis() - started);
+    }
+
+    // 전체 청크를 하나의 트랜잭션으로 실행
+    private void execute(UserBulkJob job, UserBulkRequest request, List<String> userIds, LocalDateTime now,
+                         Map<String, String> deletedUsers, List<Long> affectedBoards) {
+        transaction.executeWithoutResult(status -> {
+            for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+                List<String> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+                if (request.getAction() == UserBulkRequest.Action.RELEVEL) {
+                    int users = userRepository.updateLevelIn(chunk, request.getUserLevel(), now, job.getRequestedBy());
+                    job.chunkDone(chunk.size(), users, 0);
+                } else {
+                    deleteChunk(job, request, chunk, now, deletedUsers, affectedBoards);
+                }
+            }
+        });
+    }
+
+    // 사용자 청크 삭제 (게시글 처리 -> 이미지 메타데이터 -> 사용자 순)
+    private void deleteChunk(UserBulkJob job, UserBulkRequest request, List<String> chunk, LocalDateTime now,
+                             Map<String, String> deletedUsers, List<Long> affectedBoards) {
+        List<Object[]> existing = userRepository.findIdAndNicknameIn(chunk);
+        if (existing.isEmpty()) {
+            job.chunkDone(chunk.size(), 0, 0);
+            return;
+        }
+        List<String> ids = new ArrayList<>(existing.size());
+        for (Object[] row : existing) {
+            ids.add((String) row[0]);
+            deletedUsers.put((String) row[0], (String) row[1]);
+        }
+
+        affectedBoards.addAll(boardRepository.findBoardNumbersByUserIds(ids));
+        int posts = request.getPostAction() == UserBulkRequest.PostAction.REASSIGN
+                ? boardRepository.reassignAllByUserIds(ids, request.getReassignTo(), now, job.getRequestedBy())
+                : boardRepository.deleteAllByUserIds(ids);
+        userImageRepository.deleteAllByUserIdIn(ids);
+        int users = userRepository.deleteAllByUserIdIn(ids);
+        job.chunkDone(chunk.size(), users, posts);
+    }
+
+    // 커밋 후 인메모리 구조 반영
+    private void applyAfterCommit(UserBulkRequest request, List<String> userIds, Map<String, String> deletedUsers,
+                                  List<Long> affectedBoards) {
+        currentUserCache.evictAll(userIds); // 레벨이 바뀌거나 삭제된 사용자의 기존 토큰 재검증
+        deletedUsers.forEach(userExistenceFilter::removeUser);
+        if (affectedBoards.isEmpty()) {
+            return;
+        }
+        if (request.getPostAction() == UserBulkRequest.PostAction.DELETE) {
+            for (Long boardNumber : affectedBoards) {
+                boardSearchIndex.remove(boardNumber);
+                boardViewCounter.discard(boardNumber);
+            }
+        } else {
+            // 이전된 게시글은 작성자 정보만 바뀌므로 청크 단위로 다시 읽어 색인 갱신
+            for (int from = 0; from < affectedBoards.size(); from += CHUNK_SIZE) {
+                boardRepository.findSearchDocumentsIn(affectedBoards.subList(from, Math.min(from + CHUNK_SIZE, affectedBoards.size())))
+                        .forEach(boardSearchIndex::index);
+            }
+        }
+        boardQueryCache.evictAll(); // 여러 작성자/카테고리에 걸친 변경이므로 전체 무효화
+        boardEventHub.publishResync();
+    }
+}
@@ -1,21 +1,43 @@
 package com.demo.users;
 
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.format.annotation.DateTimeFormat; // 날짜 파라미터 형식
+import org.springframework.http.CacheControl; // 캐시 제어 헤더 생성 클래스
+import org.springframework.http.HttpHeaders; // HTTP 헤더 이름 정의
 import org.springframework.http.HttpStatus; // HTTP 상태 코드 정의
+import org.springframework.http.MediaType; // 응답 콘텐츠 타입
 import org.springframework.http.ResponseEntity; // HTTP 응답 생성 클래스
 import org.springframework.web.bind.annotation.*; // 다양한 Spring MVC 애너테이션 포함
+import org.springframework.web.context.request.WebRequest; // 조건부 요청(ETag) 처리를 위한 클래스
 import org.springframework.web.multipart.MultipartFile; // 파일 업로드를 위한 클래스
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody; // 응답 스트리밍 클래스
 
+import com.demo.auth.AuthTokenService;
+import com.demo.auth.AuthUser;
+import com.demo.auth.LoginUser;
+import com.demo.auth.LoginUserArgumentResolver;
+import com.demo.auth.PasswordVerificationExecutor;
+import com.demo.common.ETags;
+import com.demo.common.NdjsonExporter;
+
+import jakarta.servlet.http.HttpServletRequest; // HTTP 요청 클래스
 import jakarta.servlet.http.HttpSession; // HTTP 세션 관리 클래스
 
 /**
  * UserController 클래스: 사용자 관련 요청을 처리하는 REST 컨트롤러
  * 주요 기능:
  * - 사용자 CRUD 처리
- * - 로그인, 로그아웃 및 세션 관리
+ * - 로그인, 로그아웃 및 인증 토큰(또는 세션) 관리
  * - 사용자 검색 및 인증
  */
 
@@ -23,9 +45,24 @@ import jakarta.servlet.http.HttpSession; // HTTP 세션 관리 클래스
 @RequestMapping("/users") // "/users" 경로로 들어오는 모든 요청을 처리
 public class UserController {
     private final UserService userService; // 사용자 관련 비즈니스 로직을 처리
+    private final UserImageService userImageService; // 프로필 이미지 조회 및 스트리밍
+    private final AuthTokenService authTokenService; // 서명 토큰 발급
+    private final LoginUserArgumentResolver loginUserResolver; // 인증 모드(token/session) 확인
+    private final NdjsonExporter ndjsonExporter; // 사용자 내보내기 스트리밍
+    private final PasswordVerificationExecutor passwordVerificationExecutor; // 로그인 검증 스레드 풀 통계
+    private final UserBulkService userBulkService; // 관리자 일괄 작업
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserImageService userImageService,
+                          AuthTokenService authTokenService, LoginUserArgumentResolver loginUserResolver,
+                          NdjsonExporter ndjsonExporter, PasswordVerificationExecutor passwordVerificationExecutor,
+                          UserBulkService userBulkService) {
         this.userService = userService;
+        this.userImageService = userImageService;
+        this.authTokenService = authTokenService;
+        this.loginUserResolver = loginUserResolver;
+        this.ndjsonExporter = ndjsonExporter;
+        this.passwordVerificationExecutor = passwordVerificationExecutor;
+        this.userBulkService = userBulkService;
     }
 
     /**
@@ -38,6 +75,58 @@ public class UserController {
         return userService.getAllUsers(); // 모든 사용자 반환
     }
 
+    /**
+     * 관리자 사용자 목록 (키셋 페이지, 비밀번호/이미지 제외)
+     *
+     * @param sort 정렬 기준 (created: 가입일 최신순, level: 레벨 높은순)
+     * @param field 접두어 필터 대상 (id 또는 nickname)
+     * @param q 접두어 (선택)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @param loginUser 로그인 사용자
+     * @return 사용자 페이지
+     */
+    @GetMapping("/admin")
+    public ResponseEntity<?> getUserPage(@RequestParam(value = "sort", defaultValue = "created") String sort,
+                                         @RequestParam(value = "field", defaultValue = "id") String field,
+                                         @RequestParam(value = "q", required = false) String q,
+                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "size", defaultValue = "20") int size,
+                                         @LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 조회할 수 있습니다.");
+        }
+        if (!"id".equals(field) && !"nickname".equals(field)) {
+            return ResponseEntity.badRequest().body("field 는 id 또는 nickname 이어야 합니다.");
+        }
+        try {
+            UserCursor.Sort userSort = UserCursor.Sort.valueOf(sort.toUpperCase(Locale.ROOT));
+            return ResponseEntity.ok(userService.getUserPage(userSort, "nickname".equals(field),
+                    q != null ? q.trim() : null, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage()); // 잘못된 정렬 기준 또는 커서
+        }
+    }
+
+    /**
+     * 사용자 내보내기 (관리자 전용)
+     * 한 줄에 한 명씩 NDJSON 으로 스트리밍하며 비밀번호와 이미지는 포함하지 않습니다.
+     *
+     * @param since 이 시각 이후 수정된 사용자만 (선택, ISO-8601)
+     * @param gzip 압축 여부
+     * @return NDJSON 스트리밍 응답
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportUsers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 내보내기를 실행할 수 있습니다.");
+        }
+        return ndjsonExporter.export("users", () -> userService.streamForExport(since), gzip);
+    }
+
     /**
      * 사용자 생성 (회원가입 처리)
      * 
@@ -64,48 +153,132 @@ public class UserController {
 
     /**
      * 사용자 로그인 처리
+     * token 모드에서는 서명 토큰을 발급해 HttpOnly 쿠키와 응답 본문으로 전달하고,
+     * session 모드에서는 최소 사용자 정보(AuthUser)만 세션에 저장합니다.
      * 
      * @param user 사용자 로그인 정보
-     * @param session HTTP 세션 객체
+     * @param request HTTP 요청 객체
      * @return 로그인 성공 또는 실패 응답
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody UserEntity user, HttpSession session) {
-        UserEntity authenticatedUser = userService.authenticate(user.getUserId(), user.getUserPassword());
-        if (authenticatedUser == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("아이디 또는 비밀번호가 잘못되었습니다.");
-        }
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody UserEntity user, HttpServletRequest request) {
+        // 해시 검증은 전용 스레드 풀에서 수행하고 요청 스레드는 바로 반환
+        return userService.authenticate(user.getUserId(), user.getUserPassword())
+                .<ResponseEntity<?>>thenApply(authUser -> {
+                    if (authUser == null) {
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("아이디 또는 비밀번호가 잘못되었습니다.");
+                    }
+                    return loginResponse(authUser, request, "로그인 성공");
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof RejectedExecutionException) {
+                        // 검증 대기열 초과: 다른 요청 처리를 위해 즉시 거절
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+                    }
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("로그인 중 오류 발생: " + cause.getMessage());
+                });
+    }
 
-        // 로그인 성공 시 세션에 사용자 정보 저장
-        session.setAttribute("user", authenticatedUser);
-        return ResponseEntity.ok("로그인 성공");
+    /**
+     * 로그인 검증 스레드 풀 통계 (관리자 전용)
+     *
+     * @param loginUser 로그인 사용자
+     * @return 실행 중/대기/거절 건수 등
+     */
+    @GetMapping("/login/stats")
+    public ResponseEntity<?> getLoginStats(@LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 조회할 수 있습니다.");
+        }
+        return ResponseEntity.ok(passwordVerificationExecutor.stats());
     }
 
     /**
      * 사용자 로그아웃 처리
      * 
-     * @param session HTTP 세션 객체
+     * @param request HTTP 요청 객체
      * @return 로그아웃 성공 응답
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpSession session) {
-        session.invalidate(); // 세션 무효화
-        return ResponseEntity.ok("로그아웃 성공");
+    public ResponseEntity<?> logout(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate(); // 세션 모드의 세션 무효화
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, authTokenService.clearCookie().toString()) // 토큰 쿠키 삭제
+                .body("로그아웃 성공");
     }
 
     /**
      * 현재 로그인된 사용자 정보 반환
      * 
-     * @param session HTTP 세션 객체
-     * @return 로그인된 사용자 정보 또는 인증 필요 응답
+     * @param loginUser 로그인 사용자 (토큰 또는 세션)
+     * @param webRequest 조건부 요청(If-None-Match) 확인용
+     * @return 로그인된 사용자 정보, 변경이 없으면 304, 또는 인증 필요 응답
      */
     @GetMapping("/current-user")
-    public ResponseEntity<?> getCurrentUser(HttpSession session) {
-        UserEntity user = (UserEntity) session.getAttribute("user"); // 세션에서 사용자 정보 조회
+    public ResponseEntity<?> getCurrentUser(@LoginUser AuthUser loginUser, WebRequest webRequest) {
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        UserEntity user = userService.getUserById(loginUser.getUserId()); // 최신 사용자 정보 조회
         if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
-        return ResponseEntity.ok(user); // 사용자 정보 반환
+        String etag = ETags.of("user", user.getUserId(), user.getUpdatedDate()); // 수정 날짜 기반 ETag
+        long lastModified = ETags.toEpochMillis(user.getUpdatedDate());
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(ETags.REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).lastModified(lastModified).cacheControl(ETags.REVALIDATE).body(user); // 사용자 정보 반환
+    }
+
+    /**
+     * 사용자 프로필 이미지 조회
+     * 미리 생성된 크기별 이미지를 강한 ETag 와 Cache-Control 헤더와 함께 스트리밍합니다.
+     * If-None-Match 가 일치하면 이미지 바이트를 읽지 않고 304 를 반환합니다.
+     * 
+     * @param id 사용자 ID
+     * @param size 이미지 크기 (thumb, medium, orig)
+     * @param webRequest 조건부 요청 처리를 위한 요청 객체
+     * @return 이미지 스트림, 304 또는 404 응답
+     */
+    @GetMapping("/{id}/image")
+    public ResponseEntity<StreamingResponseBody> getProfileImage(
+        @PathVariable String id,
+        @RequestParam(value = "size", defaultValue = "thumb") String size,
+        WebRequest webRequest) {
+
+        ProfileImageSize imageSize;
+        try {
+            imageSize = ProfileImageSize.fromKey(size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // 지원하지 않는 크기
+        }
+
+        UserImageMeta meta = userImageService.getImageMeta(id, imageSize);
+        if (meta == null) {
+            return ResponseEntity.notFound().build(); // 등록된 이미지 없음
+        }
+
+        String etag = "\"" + meta.getEtag() + "\""; // 이미지 내용 해시 기반 강한 ETag
+        CacheControl cacheControl = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        StreamingResponseBody body = out -> userImageService.writeImage(meta.getEtag(), out);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(meta.getContentType())) // 업로드 시 내용으로 판별한 타입
+                .header("X-Content-Type-Options", "nosniff") // 브라우저가 다른 타입으로 해석하지 않도록
+                .contentLength(meta.getImageLength())
+                .body(body);
     }
 
     /**
@@ -117,7 +290,8 @@ public class UserController {
      * @param password 새 비밀번호
      * @param userLevel (선택적) 새 사용자 레벨
      * @param profileImage (선택적) 새 프로필 이미지
-     * @param session HTTP 세션 객체
+     * @param loginUser 로그인 사용자
+     * @param request HTTP 요청 객체
      * @return 업데이트 결과 응답
      */
     @PutMapping("/{id}")
@@ -128,18 +302,38 @@ public class UserController {
         @RequestParam("userPassword") String password,
         @RequestParam(value = "userLevel", required = false) Integer userLevel,
         @RequestParam(value = "profileImage", required = false) MultipartFile profileImage,
-        HttpSession session) {
+        @LoginUser AuthUser loginUser,
+        HttpServletRequest request) {
             
         try {
             // 로그인된 사용자 확인
-            UserEntity loggedInUser = (UserEntity) session.getAttribute("user");
-            if (loggedInUser == null) {
+            if (loginUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
             }
 
-            // 사용자 정보 업데이트
-            userService.updateUserProfile(id, nickname, name, password, userLevel, profileImage);
+            boolean self = loginUser.getUserId().equals(id);
+            if (!self && !loginUser.isAdmin()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("본인 정보만 수정할 수 있습니다.");
+            }
+            if (userLevel != null && !loginUser.isAdmin()) {
+                // 수정 화면은 현재 레벨을 그대로 보내므로 값이 바뀐 경우만 거부
+                UserEntity current = userService.getUserById(id);
+                if (current == null || !userLevel.equals(current.getUserLevel())) {
+                    return ResponseEntity.status(HttpStatus.FORBIDDEN).body("사용자 레벨은 관리자만 변경할 수 있습니다.");
+                }
+            }
+
+            // 사용자 정보 업데이트 (레벨은 관리자 요청만 반영)
+            UserEntity updated = userService.updateUserProfile(id, nickname, name, password,
+                    loginUser.isAdmin() ? userLevel : null, profileImage);
+            if (self) {
+                // 본인 정보가 바뀌었으므로 저장된 사용자 정보로 토큰(세션)의 닉네임, 레벨 갱신
+                AuthUser refreshed = new AuthUser(updated.getUserId(), updated.getUserNickname(), updated.getUserLevel());
+                return loginResponse(refreshed, request, "프로필이 업데이트되었습니다.");
+            }
             return ResponseEntity.ok("프로필이 업데이트되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage()); // 허용하지 않는 이미지 등
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("프로필 업데이트 실패: " + e.getMessage());
         }
@@ -150,18 +344,21 @@ public class UserController {
      * 
      * @param id 사용자 ID
      * @param newPassword 새 비밀번호
-     * @param session HTTP 세션 객체
+     * @param loginUser 로그인 사용자
      * @return 업데이트 성공 또는 실패 응답
      */
     @PutMapping("/{id}/password")
-    public ResponseEntity<?> updatePassword(@PathVariable String id, @RequestBody String newPassword, HttpSession session) {
+    public ResponseEntity<?> updatePassword(@PathVariable String id, @RequestBody String newPassword, @LoginUser AuthUser loginUser) {
         try {
             // 로그인된 사용자 확인
-            UserEntity loggedInUser = (UserEntity) session.getAttribute("user");
-            if (loggedInUser == null) {
+            if (loginUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
             }
 
+            if (!loginUser.getUserId().equals(id) && !loginUser.isAdmin()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("본인 비밀번호만 변경할 수 있습니다.");
+            }
+
             // 비밀번호 업데이트 처리
             userService.updatePassword(id, newPassword);
             return ResponseEntity.ok("비밀번호 업데이트 성공");
@@ -171,13 +368,17 @@ public class UserController {
     }
 
     /**
-     * 사용자 삭제
+     * 사용자 삭제 (관리자 전용)
      * 
      * @param userId 삭제할 사용자 ID
+     * @param loginUser 로그인 사용자
      * @return 성공 또는 실패 응답
      */
     @DeleteMapping("/delete/{userId}")
-    public ResponseEntity<Void> deleteUser(@PathVariable String userId) {
+    public ResponseEntity<?> deleteUser(@PathVariable String userId, @LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 삭제할 수 있습니다.");
+        }
         try {
             userService.deleteUser(userId); // 사용자 삭제
             return ResponseEntity.noContent().build(); // 204 No Content 응답
@@ -207,35 +408,61 @@ public class UserController {
     }
 
     /**
-     * 닉네임과 아이디로 비밀번호 찾기
+     * 닉네임과 아이디로 비밀번호 재설정 코드 요청
+     * 코드는 응답으로 돌려주지 않고 별도 경로로 전달하며, 일치 여부와 관계없이 같은 응답을 반환합니다.
      * 
      * @param nickname 사용자 닉네임
      * @param userId 사용자 아이디
-     * @return 비밀번호 또는 실패 응답
+     * @return 안내 메시지
      */
     @PostMapping("/find-password")
     public ResponseEntity<?> findPasswordByNicknameAndId(@RequestParam String nickname, @RequestParam String userId) {
         try {
-            String userPassword = userService.findUserPasswordByNicknameAndId(nickname, userId);
-            if (userPassword != null) {
-                return ResponseEntity.ok("해당 닉네임과 아이디의 비밀번호는 " + userPassword + "입니다.");
-            } else {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("닉네임 또는 아이디가 일치하지 않습니다.");
-            }
+            userService.requestPasswordReset(nickname, userId);
+            return ResponseEntity.ok("입력한 정보가 일치하면 재설정 코드가 발급됩니다. 안내받은 코드로 비밀번호를 변경해 주세요.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("비밀번호 찾기 중 오류 발생: " + e.getMessage());
         }
     }
 
+    /**
+     * 재설정 코드로 비밀번호 변경
+     * 
+     * @param userId 사용자 아이디
+     * @param code 재설정 코드
+     * @param newPassword 새 비밀번호
+     * @return 변경 결과
+     */
+    @PostMapping("/reset-password")
+    public ResponseEntity<?> resetPassword(@RequestParam String userId, @RequestParam String code,
+                                           @RequestParam String newPassword) {
+        if (newPassword.isBlank()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("새 비밀번호를 입력하세요.");
+        }
+        try {
+            if (userService.resetPassword(userId, code, newPassword)) {
+                return ResponseEntity.ok("비밀번호가 변경되었습니다. 새 비밀번호로 로그인해 주세요.");
+            }
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("재설정 코드가 올바르지 않거나 만료되었습니다.");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("비밀번호 변경 중 오류 발생: " + e.getMessage());
+        }
+    }
+
     /**
      * 관리자에 의한 사용자 정보 업데이트
      * 
      * @param id 사용자 ID
      * @param userDetails 업데이트할 사용자 정보
+     * @param loginUser 로그인 사용자
      * @return 업데이트된 사용자 정보 또는 실패 응답
      */
     @PutMapping("/admin/{id}")
-    public ResponseEntity<?> updateUser(@PathVariable String id, @RequestBody UserEntity userDetails) {
+    public ResponseEntity<?> updateUser(@PathVariable String id, @RequestBody UserEntity userDetails,
+                                        @LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 수정할 수 있습니다.");
+        }
         try {
             UserEntity updatedUser = userService.updateUser(id, userDetails);
             return ResponseEntity.ok(updatedUser);
@@ -244,6 +471,48 @@ public class UserController {
         }
     }
 
+    /**
+     * 관리자 일괄 작업 시작 (여러 사용자 삭제 또는 레벨 변경, 하나의 트랜잭션)
+     *
+     * @param request 작업 요청
+     * @param loginUser 로그인 사용자
+     * @return 202 Accepted 와 작업 진행 상황 (Location 헤더로 진행 조회 경로 안내)
+     */
+    @PostMapping("/admin/bulk")
+    public ResponseEntity<?> startBulkJob(@RequestBody UserBulkRequest request, @LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 실행할 수 있습니다.");
+        }
+        try {
+            UserBulkJob job = userBulkService.start(request, loginUser.getUserId());
+            if (job == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("진행 중인 일괄 작업이 있습니다. 완료 후 다시 시도해 주세요.");
+            }
+            return ResponseEntity.accepted().location(URI.create("/users/admin/bulk/" + job.getJobId())).body(job);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 관리자 일괄 작업 진행 상황
+     *
+     * @param jobId 작업 ID
+     * @param loginUser 로그인 사용자
+     * @return 처리 건수, 진행률, 상태
+     */
+    @GetMapping("/admin/bulk/{jobId}")
+    public ResponseEntity<?> getBulkJob(@PathVariable String jobId, @LoginUser AuthUser loginUser) {
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("관리자만 조회할 수 있습니다.");
+        }
+        UserBulkJob job = userBulkService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("작업을 찾을 수 없습니다.");
+        }
+        return ResponseEntity.ok(job);
+    }
+
     /**
      * 아이디 또는 닉네임 중복 확인
      * 
@@ -261,4 +530,19 @@ public class UserController {
         
         return ResponseEntity.ok(response); // 중복 여부 반환
     }
+
+    // 로그인 상태 응답 생성 (token 모드: 토큰 쿠키 발급, session 모드: 세션에 AuthUser 저장)
+    private ResponseEntity<?> loginResponse(AuthUser authUser, HttpServletRequest request, String message) {
+        if (loginUserResolver.isSessionMode()) {
+            request.getSession().setAttribute(LoginUserArgumentResolver.SESSION_ATTRIBUTE, authUser);
+            return ResponseEntity.ok(Map.of("message", message));
+        }
+        String token = authTokenService.issue(authUser);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, authTokenService.createCookie(token).toString());
+        if (AuthTokenService.BODY_DELIVERY.equals(request.getHeader(AuthTokenService.DELIVERY_HEADER))) {
+            return response.body(Map.of("message", message, "token", token)); // 쿠키를 쓰지 않는 클라이언트가 요청한 경우만 본문에 토큰 포함
+        }
+        return response.body(Map.of("message", message));
+    }
 }
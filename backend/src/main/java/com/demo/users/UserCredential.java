@@ -0,0 +1,37 @@
+package com.demo.users;
+
+/**
+ * UserCredential 클래스
+ * 로그인 검증 전용 읽기 프로젝션입니다.
+ * 아이디, 비밀번호(해시), 토큰에 담을 닉네임과 레벨만 조회합니다.
+ */
+public class UserCredential {
+
+    private final String userId; // 사용자 아이디
+    private final String userPassword; // 저장된 비밀번호 (해시 또는 기존 평문)
+    private final String userNickname; // 사용자 닉네임
+    private final Integer userLevel; // 사용자 레벨
+
+    public UserCredential(String userId, String userPassword, String userNickname, Integer userLevel) {
+        this.userId = userId;
+        this.userPassword = userPassword;
+        this.userNickname = userNickname;
+        this.userLevel = userLevel;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserPassword() {
+        return userPassword;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public Integer getUserLevel() {
+        return userLevel;
+    }
+}
@@ -0,0 +1,83 @@
+package com.demo.users;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * UserCursor 클래스
+ * 관리자 사용자 목록 키셋 페이지네이션의 위치(정렬 기준 값, USER_ID)를 나타냅니다.
+ * 정렬 기준이 다른 커서는 사용할 수 없으며, 클라이언트에는 Base64(URL-safe) 문자열로만 노출됩니다.
+ */
+public class UserCursor {
+
+    private static final String SEPARATOR = "|";
+
+    // 정렬 기준
+    public enum Sort {
+        CREATED, // 가입일 최신순 (CRT_DT DESC, USER_ID DESC)
+        LEVEL // 레벨 높은순 (USER_LV DESC, USER_ID ASC)
+    }
+
+    private final Sort sort;
+    private final String sortValue; // 마지막으로 조회된 사용자의 가입일 또는 레벨
+    private final String userId; // 마지막으로 조회된 사용자 아이디
+
+    public UserCursor(Sort sort, String sortValue, String userId) {
+        this.sort = sort;
+        this.sortValue = sortValue;
+        this.userId = userId;
+    }
+
+    // 페이지의 마지막 사용자로부터 다음 페이지 커서 생성
+    public static UserCursor after(Sort sort, UserSummary last) {
+        String value = sort == Sort.LEVEL ? String.valueOf(last.getUserLevel()) : String.valueOf(last.getCreatedDate());
+        return new UserCursor(sort, value, last.getUserId());
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    public Integer getUserLevel() {
+        return Integer.valueOf(sortValue);
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    // 커서를 불투명 문자열로 인코딩
+    public String encode() {
+        String raw = sort + SEPARATOR + sortValue + SEPARATOR + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 불투명 문자열을 커서로 디코딩, 비어 있으면 null (첫 페이지)
+    public static UserCursor decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3); // 사용자 ID 에 구분자가 있어도 마지막 항목으로 유지
+            if (parts.length != 3 || Sort.valueOf(parts[0]) != sort) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            UserCursor decoded = new UserCursor(sort, parts[1], parts[2]);
+            if (sort == Sort.LEVEL) {
+                decoded.getUserLevel(); // 형식 검증
+            } else {
+                decoded.getCreatedDate();
+            }
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
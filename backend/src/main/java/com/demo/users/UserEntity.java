@@ -2,16 +2,25 @@ package com.demo.users;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity // 이 클래스가 JPA 엔티티임을 나타냄
-@Table(name = "USER_TB") // 데이터베이스에서 "USER_TB" 테이블과 매핑됨
+@Table(name = "USER_TB", indexes = { // 데이터베이스에서 "USER_TB" 테이블과 매핑됨
+        // 관리자 목록 키셋 페이지네이션(가입일순, 레벨순)용 인덱스
+        @Index(name = "USER_CRT_IDX", columnList = "CRT_DT DESC, USER_ID DESC"),
+        @Index(name = "USER_LV_IDX", columnList = "USER_LV DESC, USER_ID")
+})
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // 지연 로딩 프록시 직렬화 시 내부 필드 제외
 public class UserEntity {
 
     @Id // 기본 키 필드
@@ -24,17 +33,27 @@ public class UserEntity {
     @Column(name = "USER_NICKNAME", nullable = false, unique = true) // 사용자 닉네임 컬럼, 필수 및 유니크 제약 조건
     private String userNickname;
 
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY) // 요청으로만 받고 응답에는 포함하지 않음
     @Column(name = "USER_PW", nullable = false) // 사용자 비밀번호 컬럼, 필수
     private String userPassword;
 
-    @Lob // 대용량 데이터 타입 설정 (이미지 등)
-    @Column(name = "USER_IMAGE") // 사용자 이미지 컬럼
-    private byte[] userImage;
+    @JsonIgnore // 이미지는 /users/{id}/image 엔드포인트로만 제공
+    @Column(name = "USER_IMAGE_HASH", length = 64) // 프로필 원본 이미지의 저장소 키 (이미지 바이트는 ProfileImageStore 에 저장)
+    private String userImageHash;
 
     @Column(name = "USER_LV", nullable = false, columnDefinition = "NUMBER DEFAULT 1") // 사용자 레벨 컬럼, 필수, 기본값 1
     private Integer userLevel;
 
+    @JsonIgnore // 서버 내부에서만 사용
+    @Column(name = "RESET_CODE_HASH", length = 64) // 비밀번호 재설정 코드 해시 (발급된 코드가 없으면 null)
+    private String resetCodeHash;
+
+    @JsonIgnore
+    @Column(name = "RESET_EXPIRES_DT") // 비밀번호 재설정 코드 만료 시각
+    private LocalDateTime resetExpiresDate;
+
     @Column(name = "CRT_DT", nullable = false) // 생성 날짜 컬럼, 필수
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY) // 가입 요청으로는 지정할 수 없음
     private LocalDateTime createdDate;
 
     @Column(name = "CRT_USER", nullable = false) // 생성자 컬럼, 필수
@@ -48,7 +67,9 @@ public class UserEntity {
 
     @PrePersist // 엔티티가 처음 저장되기 전에 실행
     protected void onCreate() {
-        this.createdDate = LocalDateTime.now(); // 현재 시간으로 생성 날짜 설정
+        if (this.createdDate == null) { // 가져온 데이터는 지정된 생성 날짜 유지
+            this.createdDate = LocalDateTime.now(); // 현재 시간으로 생성 날짜 설정
+        }
         this.updatedDate = LocalDateTime.now(); // 현재 시간으로 수정 날짜 설정
         if (this.userLevel == null) {
             this.userLevel = 1; // userLevel 기본값 설정
@@ -93,12 +114,12 @@ public class UserEntity {
         this.userPassword = userPassword;
     }
 
-    public byte[] getUserImage() {
-        return userImage;
+    public String getUserImageHash() {
+        return userImageHash;
     }
 
-    public void setUserImage(byte[] userImage) {
-        this.userImage = userImage;
+    public void setUserImageHash(String userImageHash) {
+        this.userImageHash = userImageHash;
     }
 
     public Integer getUserLevel() {
@@ -109,6 +130,22 @@ public class UserEntity {
         this.userLevel = userLevel;
     }
 
+    public String getResetCodeHash() {
+        return resetCodeHash;
+    }
+
+    public void setResetCodeHash(String resetCodeHash) {
+        this.resetCodeHash = resetCodeHash;
+    }
+
+    public LocalDateTime getResetExpiresDate() {
+        return resetExpiresDate;
+    }
+
+    public void setResetExpiresDate(LocalDateTime resetExpiresDate) {
+        this.resetExpiresDate = resetExpiresDate;
+    }
+
     public LocalDateTime getCreatedDate() {
         return createdDate;
     }
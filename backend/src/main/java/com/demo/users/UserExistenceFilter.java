@@ -0,0 +1,175 @@
+package com.demo.users;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.demo.common.CountingBloomFilter;
+
+/**
+ * UserExistenceFilter 클래스
+ * 사용자 아이디와 닉네임에 대한 인메모리 블룸 필터입니다.
+ * 회원가입 중복 확인에서 "확실히 사용 가능"한 값은 DB 조회 없이 응답하고,
+ * 있을 수도 있는 값만 키 컬럼 조회로 확인합니다.
+ * - 애플리케이션 시작 시 UserRepository 에서 구축, 이후 UserService 의 저장/수정/삭제 커밋 후 갱신
+ * - 구축 전에는 항상 "있을 수 있음"으로 응답하여 DB 확인으로 넘김
+ */
+@Component
+public class UserExistenceFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserExistenceFilter.class);
+    private static final int BUILD_BATCH_SIZE = 1000; // 초기 구축 시 한 번에 읽는 사용자 수
+
+    private final UserRepository userRepository;
+    private final long expectedUsers; // 예상 사용자 수 (실제 사용자 수의 2배와 비교해 큰 값으로 생성)
+    private final double falsePositiveRate; // 목표 오탐률
+
+    private volatile Filters filters; // 구축 완료 전에는 null
+    private boolean building; // 구축 중 여부 (this 로 동기화)
+    private final List<String[]> addedDuringBuild = new ArrayList<>(); // 구축 중 추가된 (아이디, 닉네임)
+
+    public UserExistenceFilter(UserRepository userRepository,
+                               @Value("${cafe.user-filter.expected-users:100000}") long expectedUsers,
+                               @Value("${cafe.user-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // 애플리케이션 기동 후 전체 사용자로 필터 구축 (아이디 순 키셋 조회)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        synchronized (this) {
+            building = true;
+            addedDuringBuild.clear();
+        }
+        try {
+            long capacity = Math.max(expectedUsers, userRepository.count() * 2);
+            Filters built = new Filters(capacity, falsePositiveRate);
+            String after = "";
+            int loaded = 0;
+            while (true) {
+                List<Object[]> batch = userRepository.findUserKeys(after, PageRequest.of(0, BUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Object[] row : batch) {
+                    built.add((String) row[0], (String) row[1]);
+                }
+                loaded += batch.size();
+                after = (String) batch.get(batch.size() - 1)[0];
+            }
+
+            synchronized (this) {
+                // 구축 중 추가된 사용자 반영 (중복 추가는 오탐만 늘 뿐 누락은 생기지 않음)
+                for (String[] user : addedDuringBuild) {
+                    built.add(user[0], user[1]);
+                }
+                filters = built;
+                building = false;
+                addedDuringBuild.clear();
+            }
+            log.info("사용자 중복 확인 필터 구축 완료: {}명, {}바이트, {}ms",
+                    loaded, built.userIds.size() + built.nicknames.size(), System.currentTimeMillis() - started);
+        } finally {
+            synchronized (this) { // 구축 실패 시에도 구축 중 상태 해제
+                building = false;
+                addedDuringBuild.clear();
+            }
+        }
+    }
+
+    /**
+     * 아이디가 있을 수 있는지 확인
+     * @param userId 사용자 아이디
+     * @return false 면 확실히 없음
+     */
+    public boolean mightContainUserId(String userId) {
+        Filters current = filters;
+        return current == null || current.userIds.mightContain(userId);
+    }
+
+    /**
+     * 닉네임이 있을 수 있는지 확인
+     * @param nickname 사용자 닉네임
+     * @return false 면 확실히 없음
+     */
+    public boolean mightContainNickname(String nickname) {
+        Filters current = filters;
+        return current == null || current.nicknames.mightContain(nickname);
+    }
+
+    /**
+     * 사용자 추가 (저장 커밋 후 호출)
+     * @param userId 사용자 아이디
+     * @param nickname 사용자 닉네임
+     */
+    public synchronized void addUser(String userId, String nickname) {
+        if (filters != null) {
+            filters.add(userId, nickname);
+        }
+        if (building) {
+            addedDuringBuild.add(new String[] {userId, nickname});
+        }
+    }
+
+    /**
+     * 닉네임 변경 (수정 커밋 후 호출)
+     * @param oldNickname 이전 닉네임
+     * @param newNickname 새 닉네임
+     */
+    public synchronized void changeNickname(String oldNickname, String newNickname) {
+        if (filters != null) {
+            if (!building && oldNickname != null) {
+                filters.nicknames.remove(oldNickname); // 구축 중에는 새 필터에 포함됐는지 알 수 없으므로 제거하지 않음
+            }
+            filters.nicknames.add(newNickname);
+        }
+        if (building) {
+            addedDuringBuild.add(new String[] {null, newNickname});
+        }
+    }
+
+    /**
+     * 사용자 제거 (삭제 커밋 후 호출)
+     * 구축 중에는 제거하지 않습니다. (남은 값은 오탐으로만 나타나고 DB 확인에서 걸러짐)
+     * @param userId 사용자 아이디
+     * @param nickname 사용자 닉네임
+     */
+    public synchronized void removeUser(String userId, String nickname) {
+        if (filters != null && !building) {
+            filters.userIds.remove(userId);
+            if (nickname != null) {
+                filters.nicknames.remove(nickname);
+            }
+        }
+    }
+
+    // 아이디 필터와 닉네임 필터 묶음
+    private static final class Filters {
+        private final CountingBloomFilter userIds;
+        private final CountingBloomFilter nicknames;
+
+        private Filters(long capacity, double falsePositiveRate) {
+            this.userIds = new CountingBloomFilter(capacity, falsePositiveRate);
+            this.nicknames = new CountingBloomFilter(capacity, falsePositiveRate);
+        }
+
+        private void add(String userId, String nickname) {
+            if (userId != null) {
+                userIds.add(userId);
+            }
+            if (nickname != null) {
+                nicknames.add(nickname);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.demo.users;
+
+import java.time.LocalDateTime;
+
+/**
+ * UserExportRow 클래스
+ * 사용자 내보내기(NDJSON) 전용 읽기 프로젝션입니다.
+ * 비밀번호와 프로필 이미지는 포함하지 않습니다.
+ */
+public class UserExportRow {
+
+    private final String userId; // 사용자 아이디
+    private final String userName; // 사용자 이름
+    private final String userNickname; // 사용자 닉네임
+    private final Integer userLevel; // 사용자 레벨
+    private final LocalDateTime createdDate; // 생성 날짜
+    private final String createdBy; // 생성자
+    private final LocalDateTime updatedDate; // 수정 날짜
+    private final String updatedBy; // 수정자
+
+    public UserExportRow(String userId, String userName, String userNickname, Integer userLevel,
+                         LocalDateTime createdDate, String createdBy, LocalDateTime updatedDate, String updatedBy) {
+        this.userId = userId;
+        this.userName = userName;
+        this.userNickname = userNickname;
+        this.userLevel = userLevel;
+        this.createdDate = createdDate;
+        this.createdBy = createdBy;
+        this.updatedDate = updatedDate;
+        this.updatedBy = updatedBy;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public Integer getUserLevel() {
+        return userLevel;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public String getUpdatedBy() {
+        return updatedBy;
+    }
+}
@@ -0,0 +1,126 @@
+package com.demo.users;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+@Entity // 이 클래스가 JPA 엔티티임을 나타냄
+@Table(name = "USER_IMAGE_TB") // 사용자 프로필 이미지(크기별) 메타데이터 테이블, 바이트는 ProfileImageStore 에 저장
+@IdClass(UserImageEntity.Key.class) // 사용자 ID + 이미지 크기 복합 키
+public class UserImageEntity {
+
+    @Id
+    @Column(name = "USER_ID", nullable = false) // 사용자 아이디
+    private String userId;
+
+    @Id
+    @Column(name = "IMAGE_SIZE", nullable = false, length = 10) // 이미지 크기 (thumb, medium, orig)
+    private String imageSize;
+
+    @Column(name = "CONTENT_TYPE", nullable = false, length = 100) // 이미지 MIME 타입
+    private String contentType;
+
+    @Column(name = "IMAGE_LENGTH", nullable = false) // 이미지 바이트 수
+    private Long imageLength;
+
+    @Column(name = "ETAG", nullable = false, length = 64) // 이미지 내용의 SHA-256 해시 (저장소 키이자 강한 ETag)
+    private String etag;
+
+    @Column(name = "UDT_DT", nullable = false) // 수정 날짜 컬럼, 필수
+    private LocalDateTime updatedDate;
+
+    @PrePersist // 엔티티가 처음 저장되기 전에 실행
+    @PreUpdate // 엔티티가 업데이트되기 전에 실행
+    protected void onSave() {
+        this.updatedDate = LocalDateTime.now(); // 현재 시간으로 수정 날짜 갱신
+    }
+
+    // Getters and Setters
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getImageSize() {
+        return imageSize;
+    }
+
+    public void setImageSize(String imageSize) {
+        this.imageSize = imageSize;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getImageLength() {
+        return imageLength;
+    }
+
+    public void setImageLength(Long imageLength) {
+        this.imageLength = imageLength;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public void setUpdatedDate(LocalDateTime updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    // 복합 키 클래스
+    public static class Key implements Serializable {
+
+        private String userId;
+        private String imageSize;
+
+        public Key() {
+        }
+
+        public Key(String userId, String imageSize) {
+            this.userId = userId;
+            this.imageSize = imageSize;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(userId, other.userId) && Objects.equals(imageSize, other.imageSize);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, imageSize);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.demo.users;
+
+import java.time.LocalDateTime;
+
+/**
+ * UserImageMeta 클래스
+ * 프로필 이미지의 메타데이터(BLOB 제외) 프로젝션입니다.
+ * 조건부 요청(If-None-Match) 판단은 이 정보만으로 처리하여 이미지 바이트를 읽지 않습니다.
+ */
+public class UserImageMeta {
+
+    private final String userId; // 사용자 아이디
+    private final String imageSize; // 실제 제공되는 이미지 크기
+    private final String contentType; // 이미지 MIME 타입
+    private final Long imageLength; // 이미지 바이트 수
+    private final String etag; // 이미지 내용 해시
+    private final LocalDateTime updatedDate; // 수정 날짜
+
+    public UserImageMeta(String userId, String imageSize, String contentType, Long imageLength,
+                         String etag, LocalDateTime updatedDate) {
+        this.userId = userId;
+        this.imageSize = imageSize;
+        this.contentType = contentType;
+        this.imageLength = imageLength;
+        this.etag = etag;
+        this.updatedDate = updatedDate;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getImageSize() {
+        return imageSize;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Long getImageLength() {
+        return imageLength;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public LocalDateTime getUpdatedDate() {
+        return updatedDate;
+    }
+}
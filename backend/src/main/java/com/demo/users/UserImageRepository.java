@@ -0,0 +1,23 @@
+package com.demo.users;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// UserImageRepository 인터페이스: 사용자 프로필 이미지(크기별) 저장소
+public interface UserImageRepository extends JpaRepository<UserImageEntity, UserImageEntity.Key> {
+
+    // 사용자의 모든 크기별 이미지 메타데이터 조회 (BLOB 컬럼 제외)
+    @Query("SELECT new com.demo.users.UserImageMeta(i.userId, i.imageSize, i.contentType, i.imageLength, i.etag, i.updatedDate) "
+            + "FROM UserImageEntity i WHERE i.userId = :userId")
+    List<UserImageMeta> findMetaByUserId(@Param("userId") String userId);
+
+    // 사용자 일괄 삭제 시 이미지 메타데이터 제거 (저장소의 이미지 바이트는 해시로 공유될 수 있어 유지)
+    @Modifying
+    @Query("DELETE FROM UserImageEntity i WHERE i.userId IN :userIds")
+    int deleteAllByUserIdIn(@Param("userIds") Collection<String> userIds);
+}
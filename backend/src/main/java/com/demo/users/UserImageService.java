@@ -0,0 +1,249 @@
+package com.demo.users;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.users.ProfileImageStore.StoredImage;
+
+/**
+ * UserImageService 클래스
+ * 프로필 이미지를 크기별(썸네일, 중간, 원본)로 미리 생성해 저장하고,
+ * 이미지 엔드포인트에 메타데이터 조회와 스트리밍 전송 기능을 제공합니다.
+ * 이미지 바이트는 ProfileImageStore(내용 해시 기반 디스크 저장소)에 두고 DB 에는 메타데이터만 저장합니다.
+ * 업로드는 서버에서 디코딩할 수 있는 PNG/JPEG/GIF 만 받으며, 응답 타입도 요청에 선언된 값이 아니라 판별한 형식을 사용합니다.
+ * 압축률이 높은 작은 파일이 거대한 픽셀 버퍼로 풀리지 않도록 디코딩 전에 헤더의 가로/세로 크기를 확인합니다.
+ */
+@Service
+public class UserImageService {
+
+    // 허용하는 이미지 형식 (ImageIO 형식 이름 -> MIME 타입)
+    private static final Map<String, String> ALLOWED_FORMATS = Map.of(
+            "png", "image/png",
+            "jpeg", "image/jpeg",
+            "gif", "image/gif");
+
+    private final UserImageRepository userImageRepository; // 크기별 이미지 메타데이터 저장소
+    private final UserRepository userRepository; // 기존 USER_IMAGE 컬럼 이관용
+    private final ProfileImageStore profileImageStore; // 이미지 바이트 저장소
+    private final int maxDimension; // 허용하는 가로/세로 최대 픽셀 수
+    private final long maxPixels; // 허용하는 최대 픽셀 수 (가로 x 세로, 디코딩 시 픽셀당 약 4바이트)
+
+    public UserImageService(UserImageRepository userImageRepository, UserRepository userRepository,
+                            ProfileImageStore profileImageStore,
+                            @Value("${cafe.image-store.max-dimension:8000}") int maxDimension,
+                            @Value("${cafe.image-store.max-pixels:25000000}") long maxPixels) {
+        this.userImageRepository = userImageRepository;
+        this.userRepository = userRepository;
+        this.profileImageStore = profileImageStore;
+        this.maxDimension = maxDimension;
+        this.maxPixels = maxPixels;
+    }
+
+    // 허용하는 최대 이미지 크기
+    public long getMaxBytes() {
+        return profileImageStore.getMaxBytes();
+    }
+
+    /**
+     * 프로필 이미지 저장 (업로드 스트림을 그대로 저장소에 기록하고 크기별 이미지 생성)
+     * @param userId 사용자 ID
+     * @param in 업로드 입력 스트림
+     * @param declaredSize 업로드 크기 (모르면 -1)
+     * @param contentType 요청에 선언된 MIME 타입 (image/* 가 아니면 바로 거부, 저장되는 타입은 내용으로 판별)
+     * @return 원본 이미지의 저장소 키 (UserEntity.userImageHash)
+     */
+    @Transactional
+    public String storeImage(String userId, InputStream in, long declaredSize, String contentType) throws IOException {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다.");
+        }
+
+        StoredImage original = profileImageStore.ingest(in, declaredSize);
+        List<UserImageMeta> current = userImageRepository.findMetaByUserId(userId);
+        for (UserImageMeta meta : current) {
+            if (meta.getImageSize().equals(ProfileImageSize.ORIGINAL.getKey())
+                    && meta.getEtag().equals(original.getHash())) {
+                return original.getHash(); // 같은 이미지를 다시 올린 경우 크기별 이미지 재생성 생략
+            }
+        }
+
+        DecodedImage decoded;
+        try {
+            decoded = decode(profileImageStore.pathOf(original.getHash()));
+        } catch (IllegalArgumentException e) {
+            profileImageStore.discard(original.getHash()); // 크기 제한을 넘는 이미지
+            throw e;
+        }
+        if (decoded == null) {
+            profileImageStore.discard(original.getHash()); // 허용하지 않는 형식은 저장소에 남기지 않음
+            throw new IllegalArgumentException("PNG, JPEG, GIF 이미지만 업로드할 수 있습니다.");
+        }
+
+        List<UserImageEntity> images = new ArrayList<>();
+        images.add(toEntity(userId, ProfileImageSize.ORIGINAL, original, decoded.contentType));
+
+        BufferedImage source = decoded.image;
+        for (ProfileImageSize size : ProfileImageSize.values()) {
+            if (size == ProfileImageSize.ORIGINAL) {
+                continue;
+            }
+            boolean alpha = source.getColorModel().hasAlpha();
+            StoredImage resized = profileImageStore.put(resize(source, size.getMaxDimension(), alpha ? "png" : "jpg"));
+            images.add(toEntity(userId, size, resized, alpha ? "image/png" : "image/jpeg"));
+        }
+
+        userImageRepository.saveAll(images); // 기존 행은 갱신, 없는 행은 추가
+        return original.getHash();
+    }
+
+    /**
+     * 요청 크기의 이미지 메타데이터 조회 (해당 크기가 없으면 원본으로 대체)
+     * @param userId 사용자 ID
+     * @param size 요청 이미지 크기
+     * @return 이미지 메타데이터 또는 null (이미지 없음)
+     */
+    public UserImageMeta getImageMeta(String userId, ProfileImageSize size) {
+        UserImageMeta original = null;
+        for (UserImageMeta meta : userImageRepository.findMetaByUserId(userId)) {
+            if (meta.getImageSize().equals(size.getKey())) {
+                return meta;
+            }
+            if (meta.getImageSize().equals(ProfileImageSize.ORIGINAL.getKey())) {
+                original = meta;
+            }
+        }
+        return original;
+    }
+
+    /**
+     * 이미지 바이트를 출력 스트림으로 전송 (파일 채널에서 바로 전송, 힙에 올리지 않음)
+     * @param hash 이미지 저장소 키 (메타데이터의 etag)
+     * @param out 응답 출력 스트림
+     */
+    public void writeImage(String hash, OutputStream out) throws IOException {
+        profileImageStore.writeTo(hash, out);
+    }
+
+    /**
+     * 기존 USER_TB.USER_IMAGE 컬럼의 이미지를 저장소로 이관
+     * @param userId 사용자 ID
+     * @return 이관 여부
+     */
+    @Transactional
+    public boolean migrateLegacyImage(String userId) throws IOException {
+        Blob legacy = userRepository.findLegacyImage(userId);
+        if (legacy == null) {
+            return false;
+        }
+        try (InputStream in = legacy.getBinaryStream()) {
+            String hash = storeImage(userId, in, legacy.length(), "image/jpeg"); // 기존 화면이 JPEG 로 취급하던 데이터
+            userRepository.markLegacyImageMigrated(userId, hash);
+            return true;
+        } catch (SQLException e) {
+            throw new IOException("기존 프로필 이미지 이관 중 오류 발생", e);
+        }
+    }
+
+    // 저장된 파일의 실제 형식 판별 후 디코딩 (허용 형식이 아니거나 읽을 수 없으면 null, 크기 제한 초과 시 IllegalArgumentException)
+    private DecodedImage decode(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null; // 이미지가 아닌 내용 (SVG, HTML 등)
+            }
+            ImageReader reader = readers.next();
+            try {
+                String contentType = ALLOWED_FORMATS.get(reader.getFormatName().toLowerCase(Locale.ROOT));
+                if (contentType == null) {
+                    return null;
+                }
+                reader.setInput(input, true, true);
+                checkDimensions(reader.getWidth(0), reader.getHeight(0)); // 헤더만 읽음 (픽셀 버퍼 할당 전)
+                return new DecodedImage(reader.read(0), contentType);
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                return null; // 손상된 이미지
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void checkDimensions(int width, int height) {
+        if (width <= 0 || height <= 0 || width > maxDimension || height > maxDimension
+                || (long) width * height > maxPixels) {
+            throw new IllegalArgumentException("이미지 크기는 가로/세로 " + maxDimension + "픽셀, 전체 "
+                    + maxPixels + "픽셀 이하여야 합니다.");
+        }
+    }
+
+    private UserImageEntity toEntity(String userId, ProfileImageSize size, StoredImage stored, String contentType) {
+        UserImageEntity image = new UserImageEntity();
+        image.setUserId(userId);
+        image.setImageSize(size.getKey());
+        image.setContentType(contentType);
+        image.setImageLength(stored.getLength());
+        image.setEtag(stored.getHash());
+        return image;
+    }
+
+    // 긴 변이 maxDimension 이하가 되도록 비율을 유지하며 축소
+    private byte[] resize(BufferedImage source, int maxDimension, String format) throws IOException {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, type);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(target, format, out);
+        return out.toByteArray();
+    }
+
+    // 디코딩한 이미지와 판별한 MIME 타입
+    private static final class DecodedImage {
+
+        private final BufferedImage image;
+        private final String contentType;
+
+        private DecodedImage(BufferedImage image, String contentType) {
+            this.image = image;
+            this.contentType = contentType;
+        }
+    }
+}
@@ -1,12 +1,110 @@
 package com.demo.users;
 
+import java.sql.Blob;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.auth.AuthUser;
+
+import jakarta.persistence.QueryHint;
 
 // UserRepository 인터페이스: JpaRepository를 확장하여 User 엔티티와 데이터베이스 간의 CRUD 작업을 지원
 public interface UserRepository extends JpaRepository<UserEntity, String> {
+    // 내보내기 커서 한 번에 가져올 행 수 (Oracle 드라이버 기본값 10)
+    String EXPORT_FETCH_SIZE = "500";
+
+    // 내보내기 프로젝션 SELECT 절 (비밀번호, 이미지 제외)
+    String EXPORT_SELECT = "SELECT new com.demo.users.UserExportRow(u.userId, u.userName, u.userNickname, u.userLevel, "
+            + "u.createdDate, u.createdBy, u.updatedDate, u.updatedBy) FROM UserEntity u ";
+
     // 닉네임으로 사용자 찾기 메서드
     UserEntity findByUserNickname(String nickname);
 
     // 닉네임과 사용자 ID로 사용자 찾기 메서드
     UserEntity findByUserNicknameAndUserId(String nickname, String userId);
+
+    // 닉네임 존재 여부 (키 컬럼만 조회)
+    boolean existsByUserNickname(String userNickname);
+
+    // 일괄 작업 대상 중 존재하는 사용자 (userId, userNickname)
+    @Query("SELECT u.userId, u.userNickname FROM UserEntity u WHERE u.userId IN :userIds")
+    List<Object[]> findIdAndNicknameIn(@Param("userIds") Collection<String> userIds);
+
+    // 사용자 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM UserEntity u WHERE u.userId IN :userIds")
+    int deleteAllByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    // 사용자 레벨 일괄 변경
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.userLevel = :userLevel, u.updatedDate = :now, u.updatedBy = :updatedBy "
+            + "WHERE u.userId IN :userIds")
+    int updateLevelIn(@Param("userIds") Collection<String> userIds, @Param("userLevel") Integer userLevel,
+                      @Param("now") LocalDateTime now, @Param("updatedBy") String updatedBy);
+
+    // 사용자 닉네임만 조회
+    @Query("SELECT u.userNickname FROM UserEntity u WHERE u.userId = :userId")
+    Optional<String> findNicknameById(@Param("userId") String userId);
+
+    // 요청 인증용 현재 아이디/닉네임/레벨 조회 (토큰 내용 재검증)
+    @Query("SELECT new com.demo.auth.AuthUser(u.userId, u.userNickname, u.userLevel) FROM UserEntity u WHERE u.userId = :userId")
+    Optional<AuthUser> findAuthUserById(@Param("userId") String userId);
+
+    // 중복 확인 필터 구축용 아이디/닉네임 조회 (아이디 순 키셋)
+    @Query("SELECT u.userId, u.userNickname FROM UserEntity u WHERE u.userId > :after ORDER BY u.userId")
+    List<Object[]> findUserKeys(@Param("after") String after, Pageable pageable);
+
+    // 로그인 검증용 아이디/비밀번호/닉네임/레벨만 조회 (이미지 등 나머지 컬럼은 읽지 않음)
+    @Query("SELECT new com.demo.users.UserCredential(u.userId, u.userPassword, u.userNickname, u.userLevel) "
+            + "FROM UserEntity u WHERE u.userId = :userId")
+    Optional<UserCredential> findCredentialById(@Param("userId") String userId);
+
+    // 비밀번호 재해시 (조회 이후 다른 요청이 비밀번호를 바꾸지 않은 경우에만 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.userPassword = :newPassword WHERE u.userId = :userId AND u.userPassword = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") String userId, @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // 기존 USER_IMAGE 컬럼에 이미지가 남아 있는 사용자 ID 목록 (이미지 저장소 이관용)
+    @Query(value = "SELECT USER_ID FROM USER_TB WHERE USER_IMAGE IS NOT NULL AND USER_IMAGE_HASH IS NULL", nativeQuery = true)
+    List<String> findLegacyImageUserIds();
+
+    // 기존 USER_IMAGE 컬럼의 이미지 (트랜잭션 안에서 스트림으로 읽음)
+    @Query(value = "SELECT USER_IMAGE FROM USER_TB WHERE USER_ID = :userId", nativeQuery = true)
+    Blob findLegacyImage(@Param("userId") String userId);
+
+    // 이관 완료 후 기존 컬럼 정리 및 저장소 키 기록
+    @Modifying
+    @Query(value = "UPDATE USER_TB SET USER_IMAGE = NULL, USER_IMAGE_HASH = :hash WHERE USER_ID = :userId", nativeQuery = true)
+    int markLegacyImageMigrated(@Param("userId") String userId, @Param("hash") String hash);
+
+    // 전체 사용자 내보내기 (정방향 커서 스트림, 트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT)
+    Stream<UserExportRow> streamForExport();
+
+    // 특정 시각 이후 수정된 사용자 내보내기 (증분 백업, 수정 날짜 순)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_SELECT + "WHERE u.updatedDate > :since ORDER BY u.updatedDate, u.userId")
+    Stream<UserExportRow> streamForExportSince(@Param("since") LocalDateTime since);
 }
@@ -1,13 +1,43 @@
 package com.demo.users; // 이 클래스가 속한 패키지를 정의
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service; // 서비스 레이어를 나타내는 Spring 애너테이션
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 관리를 위한 애너테이션
 import org.springframework.web.multipart.MultipartFile; // 파일 업로드 처리를 위한 클래스
 
+import com.demo.auth.AuthUser;
+import com.demo.auth.PasswordHasher;
+import com.demo.auth.PasswordVerificationExecutor;
+import com.demo.boards.BoardQueryCache;
+import com.demo.boards.BoardSearchIndex;
+import com.demo.common.CursorPage;
+import com.demo.common.TransactionCallbacks;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
 /**
  * UserService 클래스
  * 사용자 데이터 처리 및 비즈니스 로직을 구현하는 서비스 클래스입니다.
@@ -18,24 +48,134 @@ import org.springframework.web.multipart.MultipartFile; // 파일 업로드 처
  */
 @Service // 이 클래스가 Spring 서비스 컴포넌트임을 나타냄
 public class UserService {
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+    private static final String RESET_CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnpqrstuvwxyz23456789"; // 혼동되는 문자 제외
+    private static final int RESET_CODE_LENGTH = 12; // 약 70비트 (인증 요청 수 제한과 함께 대입 공격 방지)
+    public static final int DEFAULT_ADMIN_PAGE_SIZE = 20; // 관리자 목록 기본 페이지 크기
+    public static final int MAX_ADMIN_PAGE_SIZE = 100; // 관리자 목록 최대 페이지 크기
+
     private final UserRepository userRepository; // 사용자 데이터베이스 접근을 위한 리포지토리
+    private final UserImageService userImageService; // 프로필 이미지 저장 서비스
+    private final PasswordHasher passwordHasher; // 비밀번호 해시 생성 및 검증
+    private final PasswordVerificationExecutor passwordVerificationExecutor; // 해시 검증 전용 스레드 풀
+    private final UserExistenceFilter userExistenceFilter; // 아이디/닉네임 중복 확인 필터
+    private final BoardQueryCache boardQueryCache; // 작성자 닉네임이 담긴 게시글 캐시
+    private final BoardSearchIndex boardSearchIndex; // 작성자 닉네임이 담긴 검색 색인
+    private final CurrentUserCache currentUserCache; // 요청 인증 시 재검증하는 사용자 레벨/닉네임
+    private final PasswordResetNotifier passwordResetNotifier; // 비밀번호 재설정 코드 전달
+    private final Duration resetCodeTtl; // 비밀번호 재설정 코드 유효 시간
+    private final SecureRandom random = new SecureRandom(); // 비밀번호 재설정 코드 생성
+
+    @PersistenceContext
+    private EntityManager entityManager; // 관리자 목록 조회 (정렬/필터 조합별 쿼리 생성)
 
     /**
      * UserService 생성자
      * @param userRepository 사용자 데이터 처리를 위한 리포지토리
+     * @param userImageService 프로필 이미지 저장 서비스
+     * @param passwordHasher 비밀번호 해시
+     * @param passwordVerificationExecutor 해시 검증 전용 스레드 풀
+     * @param userExistenceFilter 아이디/닉네임 중복 확인 필터
+     * @param currentUserCache 요청 인증 재검증 캐시
+     * @param passwordResetNotifier 비밀번호 재설정 코드 전달
+     * @param resetCodeTtl 비밀번호 재설정 코드 유효 시간
      */
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserImageService userImageService,
+                       PasswordHasher passwordHasher, PasswordVerificationExecutor passwordVerificationExecutor,
+                       UserExistenceFilter userExistenceFilter, BoardQueryCache boardQueryCache,
+                       BoardSearchIndex boardSearchIndex, CurrentUserCache currentUserCache,
+                       PasswordResetNotifier passwordResetNotifier,
+                       @Value("${cafe.auth.reset-code-ttl:30m}") Duration resetCodeTtl) {
         this.userRepository = userRepository;
+        this.userImageService = userImageService;
+        this.passwordHasher = passwordHasher;
+        this.passwordVerificationExecutor = passwordVerificationExecutor;
+        this.userExistenceFilter = userExistenceFilter;
+        this.boardQueryCache = boardQueryCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.currentUserCache = currentUserCache;
+        this.passwordResetNotifier = passwordResetNotifier;
+        this.resetCodeTtl = resetCodeTtl;
     }
 
     /**
      * 모든 사용자 조회
      * @return 사용자 리스트
      */
+    @Transactional(readOnly = true)
     public List<UserEntity> getAllUsers() {
         return userRepository.findAll(); // 데이터베이스에서 모든 사용자 정보를 조회
     }
 
+    /**
+     * 관리자 사용자 목록 (키셋 페이지, 비밀번호/이미지 컬럼 제외)
+     * 정렬 기준마다 인덱스(USER_CRT_IDX, USER_LV_IDX) 순서로 읽으며, 접두어 필터는 아이디(PK) 또는 닉네임(UNIQUE) 인덱스 범위 조건입니다.
+     * @param sort 정렬 기준
+     * @param nicknameFilter true 면 닉네임, false 면 아이디 접두어로 필터
+     * @param prefix 접두어 (비어 있으면 필터 없음)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 사용자 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserSummary> getUserPage(UserCursor.Sort sort, boolean nicknameFilter, String prefix,
+                                               String cursor, int size) {
+        UserCursor after = UserCursor.decode(cursor, sort);
+        int pageSize = size <= 0 ? DEFAULT_ADMIN_PAGE_SIZE : Math.min(size, MAX_ADMIN_PAGE_SIZE);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserSummary> query = cb.createQuery(UserSummary.class);
+        Root<UserEntity> u = query.from(UserEntity.class);
+        query.select(cb.construct(UserSummary.class, u.get("userId"), u.get("userName"), u.get("userNickname"),
+                u.get("userLevel"), u.get("createdDate"), u.get("userImageHash")));
+
+        Path<String> userId = u.get("userId");
+        Path<LocalDateTime> createdDate = u.get("createdDate");
+        Path<Integer> userLevel = u.get("userLevel");
+        List<Predicate> where = new ArrayList<>();
+        if (prefix != null && !prefix.isEmpty()) {
+            Path<String> column = nicknameFilter ? u.get("userNickname") : userId;
+            where.add(cb.like(column, escapeLike(prefix) + "%", '\\'));
+        }
+        if (sort == UserCursor.Sort.LEVEL) {
+            if (after != null) {
+                where.add(cb.or(cb.lessThan(userLevel, after.getUserLevel()),
+                        cb.and(cb.equal(userLevel, after.getUserLevel()), cb.greaterThan(userId, after.getUserId()))));
+            }
+            query.orderBy(cb.desc(userLevel), cb.asc(userId));
+        } else {
+            if (after != null) {
+                where.add(cb.or(cb.lessThan(createdDate, after.getCreatedDate()),
+                        cb.and(cb.equal(createdDate, after.getCreatedDate()), cb.lessThan(userId, after.getUserId()))));
+            }
+            query.orderBy(cb.desc(createdDate), cb.desc(userId));
+        }
+        query.where(where.toArray(new Predicate[0]));
+
+        List<UserSummary> rows = entityManager.createQuery(query)
+                .setMaxResults(pageSize + 1) // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+                .getResultList();
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null, pageSize);
+        }
+        List<UserSummary> items = List.copyOf(rows.subList(0, pageSize));
+        return new CursorPage<>(items, UserCursor.after(sort, items.get(pageSize - 1)).encode(), pageSize);
+    }
+
+    // LIKE 패턴의 와일드카드 문자 이스케이프
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 사용자 내보내기 스트림 (호출자의 트랜잭션 안에서 소비)
+     * @param since 이 시각 이후 수정된 사용자만 (null 이면 전체)
+     * @return 사용자 행 스트림
+     */
+    public Stream<UserExportRow> streamForExport(LocalDateTime since) {
+        return since == null ? userRepository.streamForExport() : userRepository.streamForExportSince(since);
+    }
+
     /**
      * 사용자 저장
      * @param user 저장할 사용자 정보
@@ -44,9 +184,12 @@ public class UserService {
     @Transactional // 데이터 저장 중 트랜잭션 관리로 일관성 보장
     public UserEntity saveUser(UserEntity user) {
         try {
-            return userRepository.save(user); // 사용자 데이터를 저장
+            user.setUserPassword(passwordHasher.hash(user.getUserPassword())); // 비밀번호는 해시로 저장
+            UserEntity saved = userRepository.save(user); // 사용자 데이터를 저장
+            TransactionCallbacks.afterCommit(() -> userExistenceFilter.addUser(saved.getUserId(), saved.getUserNickname()));
+            return saved;
         } catch (Exception e) {
-            System.out.println("사용자 저장 오류: " + e.getMessage());
+            log.error("사용자 저장 오류: {}", user.getUserId(), e);
             throw new RuntimeException("사용자 저장 중 오류 발생", e); // 오류 발생 시 예외 처리
         }
     }
@@ -56,22 +199,53 @@ public class UserService {
      * @param userId 사용자 ID
      * @return 사용자 정보 또는 null
      */
+    @Transactional(readOnly = true)
     public UserEntity getUserById(String userId) {
         return userRepository.findById(userId).orElse(null); // 사용자 ID로 데이터 조회
     }
 
+    /**
+     * 게시글 작성자 지정 등에 사용할 사용자 참조 (DB 조회 없이 ID 만 가진 프록시)
+     * @param userId 사용자 ID
+     * @return 사용자 엔티티 참조
+     */
+    public UserEntity getUserReference(String userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
     /**
      * 사용자 인증
+     * 아이디/비밀번호 컬럼만 조회한 뒤 해시 검증은 전용 스레드 풀에서 수행합니다.
+     * 기존 평문(또는 반복 횟수가 낮은) 비밀번호는 인증에 성공하면 현재 설정으로 재해시합니다.
      * @param userId 사용자 ID
      * @param userPassword 사용자 비밀번호
-     * @return 인증된 사용자 정보 또는 null
+     * @return 인증된 사용자 정보 (실패 시 null, 스레드 풀 대기열 초과 시 RejectedExecutionException 으로 실패)
      */
-    public UserEntity authenticate(String userId, String userPassword) {
-        UserEntity user = getUserById(userId); // 사용자 정보 가져오기
-        if (user != null && user.getUserPassword().equals(userPassword)) {
-            return user; // 비밀번호가 일치하면 사용자 반환
+    public CompletableFuture<AuthUser> authenticate(String userId, String userPassword) {
+        Optional<UserCredential> credential = userId == null ? Optional.empty() : userRepository.findCredentialById(userId);
+        return passwordVerificationExecutor.submit(() -> {
+            if (credential.isEmpty()) {
+                passwordHasher.matchesDummy(userPassword); // 없는 아이디도 같은 시간이 걸리도록
+                return null;
+            }
+            UserCredential user = credential.get();
+            if (!passwordHasher.matches(userPassword, user.getUserPassword())) {
+                return null; // 인증 실패 시 null 반환
+            }
+            if (passwordHasher.needsRehash(user.getUserPassword())) {
+                rehashPassword(user, userPassword);
+            }
+            return new AuthUser(user.getUserId(), user.getUserNickname(), user.getUserLevel());
+        });
+    }
+
+    // 로그인 성공 시 비밀번호 재해시 (실패해도 로그인은 계속 진행)
+    private void rehashPassword(UserCredential user, String rawPassword) {
+        try {
+            userRepository.updatePasswordIfUnchanged(user.getUserId(), user.getUserPassword(), passwordHasher.hash(rawPassword));
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 재해시 실패: {}", user.getUserId(), e);
         }
-        return null; // 인증 실패 시 null 반환
     }
 
     /**
@@ -80,28 +254,42 @@ public class UserService {
      * @param nickname 새 닉네임
      * @param name 새 이름
      * @param password 새 비밀번호
-     * @param userLevel 새 사용자 레벨
+     * @param userLevel 새 사용자 레벨 (null 이면 유지, 관리자 요청만 전달)
      * @param profileImage 새 프로필 이미지
+     * @return 저장된 사용자 (토큰 재발급용)
      */
-    public void updateUserProfile(String id, String nickname, String name, String password, Integer userLevel, MultipartFile profileImage) {
+    public UserEntity updateUserProfile(String id, String nickname, String name, String password, Integer userLevel, MultipartFile profileImage) {
         Optional<UserEntity> userOptional = userRepository.findById(id);
         if (userOptional.isPresent()) {
             UserEntity user = userOptional.get();
+            String oldNickname = user.getUserNickname();
             user.setUserNickname(nickname); // 닉네임 업데이트
             user.setUserName(name); // 이름 업데이트
-            user.setUserPassword(password); // 비밀번호 업데이트
-            user.setUserLevel(userLevel); // 사용자 레벨 업데이트
+            if (password != null && !password.isEmpty()) {
+                user.setUserPassword(passwordHasher.hash(password)); // 비밀번호는 입력된 경우에만 해시로 변경
+            }
+            if (userLevel != null) {
+                user.setUserLevel(userLevel); // 사용자 레벨 업데이트
+            }
 
             // 프로필 이미지 처리
             if (profileImage != null && !profileImage.isEmpty()) {
-                try {
-                    user.setUserImage(profileImage.getBytes()); // 이미지를 Byte 배열로 저장
+                if (profileImage.getSize() > userImageService.getMaxBytes()) { // 스트림을 읽기 전에 크기 제한 확인
+                    throw new IllegalArgumentException("이미지 크기가 허용 범위를 초과했습니다.");
+                }
+                try (InputStream in = profileImage.getInputStream()) {
+                    // 업로드 스트림을 저장소에 기록하고 사용자에는 저장소 키만 보관
+                    String imageHash = userImageService.storeImage(id, in, profileImage.getSize(), profileImage.getContentType());
+                    user.setUserImageHash(imageHash);
                 } catch (IOException e) {
                     throw new RuntimeException("프로필 이미지 처리 중 오류 발생", e);
                 }
             }
 
-            userRepository.save(user); // 업데이트된 사용자 저장
+            UserEntity saved = userRepository.save(user); // 업데이트된 사용자 저장
+            currentUserCache.evict(id); // 기존 토큰의 닉네임/레벨 재검증
+            syncNickname(id, oldNickname, nickname);
+            return saved;
         } else {
             throw new RuntimeException("User not found with id " + id); // 사용자 미존재 시 예외 처리
         }
@@ -116,7 +304,7 @@ public class UserService {
         Optional<UserEntity> userOptional = userRepository.findById(id);
         if (userOptional.isPresent()) {
             UserEntity user = userOptional.get();
-            user.setUserPassword(newPassword); // 새 비밀번호 설정
+            user.setUserPassword(passwordHasher.hash(newPassword)); // 새 비밀번호를 해시로 설정
             userRepository.save(user); // 변경 사항 저장
         } else {
             throw new RuntimeException("User not found with id " + id); // 사용자 미존재 시 예외 처리
@@ -128,20 +316,77 @@ public class UserService {
      * @param nickname 사용자 닉네임
      * @return 사용자 ID 또는 null
      */
+    @Transactional(readOnly = true)
     public String findUserIdByNickname(String nickname) {
         UserEntity user = userRepository.findByUserNickname(nickname); // 닉네임으로 사용자 조회
         return user != null ? user.getUserId() : null; // ID 반환 또는 null
     }
 
     /**
-     * 닉네임과 ID로 비밀번호 찾기
+     * 닉네임과 ID로 비밀번호 재설정 코드 발급
+     * 비밀번호는 바꾸지 않고, 코드는 요청 응답이 아니라 PasswordResetNotifier 로 따로 전달합니다.
+     * (닉네임과 ID 는 게시판에 공개되므로 이 둘만으로는 비밀번호를 바꿀 수 없음)
      * @param nickname 사용자 닉네임
      * @param userId 사용자 ID
-     * @return 비밀번호 또는 null
+     * @return 코드 발급 여부
      */
-    public String findUserPasswordByNicknameAndId(String nickname, String userId) {
+    @Transactional
+    public boolean requestPasswordReset(String nickname, String userId) {
         UserEntity user = userRepository.findByUserNicknameAndUserId(nickname, userId); // 닉네임과 ID로 사용자 조회
-        return user != null ? user.getUserPassword() : null; // 비밀번호 반환 또는 null
+        if (user == null) {
+            return false;
+        }
+        StringBuilder code = new StringBuilder(RESET_CODE_LENGTH);
+        for (int i = 0; i < RESET_CODE_LENGTH; i++) {
+            code.append(RESET_CODE_CHARS.charAt(random.nextInt(RESET_CODE_CHARS.length())));
+        }
+        LocalDateTime expiresAt = LocalDateTime.now().plus(resetCodeTtl);
+        user.setResetCodeHash(sha256(code.toString())); // 새 코드를 발급하면 이전 코드는 무효
+        user.setResetExpiresDate(expiresAt);
+        userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> passwordResetNotifier.send(userId, code.toString(), expiresAt));
+        return true;
+    }
+
+    /**
+     * 재설정 코드로 비밀번호 변경 (코드는 한 번만 사용 가능)
+     * @param userId 사용자 ID
+     * @param code 전달받은 재설정 코드
+     * @param newPassword 새 비밀번호
+     * @return 변경 여부 (코드 불일치 또는 만료 시 false)
+     */
+    @Transactional
+    public boolean resetPassword(String userId, String code, String newPassword) {
+        UserEntity user = userRepository.findById(userId).orElse(null);
+        if (user == null || user.getResetCodeHash() == null || code == null) {
+            return false;
+        }
+        if (user.getResetExpiresDate() == null || user.getResetExpiresDate().isBefore(LocalDateTime.now())) {
+            user.setResetCodeHash(null); // 만료된 코드 정리
+            user.setResetExpiresDate(null);
+            userRepository.save(user);
+            return false;
+        }
+        if (!MessageDigest.isEqual(sha256(code).getBytes(StandardCharsets.US_ASCII),
+                user.getResetCodeHash().getBytes(StandardCharsets.US_ASCII))) { // 상수 시간 비교
+            return false;
+        }
+        user.setUserPassword(passwordHasher.hash(newPassword));
+        user.setResetCodeHash(null);
+        user.setResetExpiresDate(null);
+        user.setUpdatedBy(userId);
+        userRepository.save(user);
+        return true;
+    }
+
+    // 재설정 코드 해시 (코드 자체가 충분히 무작위이므로 느린 해시는 쓰지 않음)
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
@@ -149,7 +394,12 @@ public class UserService {
      * @param userId 삭제할 사용자 ID
      */
     public void deleteUser(String userId) {
+        Optional<String> nickname = userRepository.findNicknameById(userId); // 필터에서 제거할 닉네임
         userRepository.deleteById(userId); // 사용자 삭제
+        currentUserCache.evict(userId); // 남아 있는 토큰 무효화
+        if (nickname.isPresent()) {
+            TransactionCallbacks.afterCommit(() -> userExistenceFilter.removeUser(userId, nickname.get()));
+        }
     }
 
     /**
@@ -163,18 +413,36 @@ public class UserService {
         Optional<UserEntity> userOptional = userRepository.findById(id);
         if (userOptional.isPresent()) {
             UserEntity user = userOptional.get();
+            String oldNickname = user.getUserNickname();
             user.setUserNickname(userDetails.getUserNickname()); // 닉네임 설정
             user.setUserName(userDetails.getUserName()); // 이름 설정
             user.setUserLevel(userDetails.getUserLevel()); // 사용자 레벨 설정
-            user.setUserPassword(userDetails.getUserPassword()); // 비밀번호 설정
-            return userRepository.save(user); // 업데이트된 사용자 저장
+            if (userDetails.getUserPassword() != null && !userDetails.getUserPassword().isEmpty()) {
+                user.setUserPassword(passwordHasher.hash(userDetails.getUserPassword())); // 비밀번호는 입력된 경우에만 해시로 변경
+            }
+            UserEntity saved = userRepository.save(user); // 업데이트된 사용자 저장
+            currentUserCache.evict(id); // 기존 토큰의 닉네임/레벨 재검증
+            syncNickname(id, oldNickname, saved.getUserNickname());
+            return saved;
         } else {
             throw new RuntimeException("User not found with id " + id); // 사용자 미존재 시 예외 처리
         }
     }
 
+    // 닉네임이 바뀐 경우 작성자 닉네임이 담긴 게시글 캐시를 비우고, 커밋 후 중복 확인 필터와 검색 색인 갱신
+    private void syncNickname(String userId, String oldNickname, String newNickname) {
+        if (newNickname != null && !newNickname.equals(oldNickname)) {
+            boardQueryCache.evictAuthor(userId);
+            TransactionCallbacks.afterCommit(() -> {
+                userExistenceFilter.changeNickname(oldNickname, newNickname);
+                boardSearchIndex.updateAuthorNickname(userId, newNickname);
+            });
+        }
+    }
+
     /**
      * 아이디 또는 닉네임 중복 확인
+     * 블룸 필터에서 확실히 없는 값은 DB 를 조회하지 않고, 있을 수 있는 값만 키 컬럼 조회로 확인합니다.
      * @param userId 사용자 ID
      * @param userNickname 사용자 닉네임
      * @return 중복 여부 (true/false)
@@ -185,12 +453,12 @@ public class UserService {
 
         // 아이디 중복 여부 확인
         if (userId != null && !userId.isEmpty()) {
-            userIdExists = userRepository.findById(userId).isPresent();
+            userIdExists = userExistenceFilter.mightContainUserId(userId) && userRepository.existsById(userId);
         }
 
         // 닉네임 중복 여부 확인
         if (userNickname != null && !userNickname.isEmpty()) {
-            nicknameExists = userRepository.findByUserNickname(userNickname) != null;
+            nicknameExists = userExistenceFilter.mightContainNickname(userNickname) && userRepository.existsByUserNickname(userNickname);
         }
 
         return userIdExists || nicknameExists; // 중복 여부 반환
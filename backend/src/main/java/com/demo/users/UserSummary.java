@@ -0,0 +1,51 @@
+package com.demo.users;
+
+import java.time.LocalDateTime;
+
+/**
+ * UserSummary 클래스
+ * 관리자 사용자 목록과 앱 첫 화면에 표시할 사용자 정보입니다. 비밀번호와 이미지 컬럼은 조회하지 않습니다.
+ */
+public class UserSummary {
+
+    private final String userId; // 사용자 아이디
+    private final String userName; // 사용자 이름
+    private final String userNickname; // 사용자 닉네임
+    private final Integer userLevel; // 사용자 레벨
+    private final LocalDateTime createdDate; // 가입일
+    private final boolean hasImage; // 프로필 이미지 등록 여부
+
+    public UserSummary(String userId, String userName, String userNickname, Integer userLevel,
+                       LocalDateTime createdDate, String userImageHash) {
+        this.userId = userId;
+        this.userName = userName;
+        this.userNickname = userNickname;
+        this.userLevel = userLevel;
+        this.createdDate = createdDate;
+        this.hasImage = userImageHash != null;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public Integer getUserLevel() {
+        return userLevel;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public boolean isHasImage() {
+        return hasImage;
+    }
+}
@@ -0,0 +1,5 @@
+-- 게시글 목록 키셋(커서) 페이지네이션용 인덱스
+-- ORDER BY CRT_DT DESC, BOARD_NUMBER DESC 조회가 정렬 없이 인덱스 범위 스캔으로 처리되도록 함
+CREATE INDEX BOARD_CRT_IDX ON BOARD_TB (CRT_DT DESC, BOARD_NUMBER DESC);
+CREATE INDEX BOARD_CATEGORY_CRT_IDX ON BOARD_TB (BOARD_CATEGORY, CRT_DT DESC, BOARD_NUMBER DESC);
+CREATE INDEX BOARD_USER_CRT_IDX ON BOARD_TB (USER_ID, CRT_DT DESC, BOARD_NUMBER DESC);
@@ -0,0 +1,18 @@
+-- 사용자 프로필 이미지(크기별) 메타데이터 테이블
+-- 이미지 바이트는 디스크 저장소(cafe.image-store.path)에 두고, ETAG 에 저장소 키(내용 해시)를 보관
+CREATE TABLE USER_IMAGE_TB (
+    USER_ID      VARCHAR2(255) NOT NULL,
+    IMAGE_SIZE   VARCHAR2(10)  NOT NULL,
+    CONTENT_TYPE VARCHAR2(100) NOT NULL,
+    IMAGE_LENGTH NUMBER(19)    NOT NULL,
+    ETAG         VARCHAR2(64)  NOT NULL,
+    UDT_DT       TIMESTAMP     NOT NULL,
+    CONSTRAINT USER_IMAGE_PK PRIMARY KEY (USER_ID, IMAGE_SIZE)
+);
+
+-- USER_TB 에는 원본 이미지의 저장소 키만 보관
+ALTER TABLE USER_TB ADD (USER_IMAGE_HASH VARCHAR2(64));
+
+-- 기존 USER_TB.USER_IMAGE 데이터는 cafe.image-store.migrate-legacy=true 로 한 번 기동해 이관한 뒤
+-- 아래 문장으로 컬럼을 제거
+-- ALTER TABLE USER_TB DROP COLUMN USER_IMAGE;
@@ -0,0 +1,3 @@
+-- BoardEntity 의 @SequenceGenerator(allocationSize = 50) 와 맞추기 위해 증가값을 50 으로 변경
+-- Hibernate pooled 옵티마이저가 NEXTVAL 한 번으로 50개의 ID 를 할당함
+ALTER SEQUENCE BOARD_SEQ INCREMENT BY 50;
@@ -0,0 +1,3 @@
+-- 게시글 조회수 컬럼
+-- BoardViewCounter 가 메모리에 모은 증가분을 주기적으로 UPDATE ... SET VIEW_COUNT = VIEW_COUNT + ? 로 일괄 반영함
+ALTER TABLE BOARD_TB ADD (VIEW_COUNT NUMBER(19) DEFAULT 0 NOT NULL);
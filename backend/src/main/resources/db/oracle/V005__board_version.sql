@@ -0,0 +1,3 @@
+-- 게시글 낙관적 잠금 버전 컬럼 (BoardEntity @Version)
+-- 부분 수정(PATCH)은 UPDATE ... SET VERSION = VERSION + 1 WHERE BOARD_NUMBER = ? AND VERSION = ? 한 문장으로 처리됨
+ALTER TABLE BOARD_TB ADD (VERSION NUMBER(19) DEFAULT 0 NOT NULL);
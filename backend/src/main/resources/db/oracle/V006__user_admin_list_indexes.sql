@@ -0,0 +1,5 @@
+-- 관리자 사용자 목록 키셋(커서) 페이지네이션용 인덱스
+-- ORDER BY CRT_DT DESC, USER_ID DESC / ORDER BY USER_LV DESC, USER_ID 조회가 정렬 없이 인덱스 범위 스캔으로 처리되도록 함
+-- 아이디/닉네임 접두어 필터(LIKE 'abc%')는 기존 PK 와 USER_NICKNAME UNIQUE 인덱스를 사용함
+CREATE INDEX USER_CRT_IDX ON USER_TB (CRT_DT DESC, USER_ID DESC);
+CREATE INDEX USER_LV_IDX ON USER_TB (USER_LV DESC, USER_ID);
@@ -0,0 +1,2 @@
+-- 비밀번호 재설정 코드 (코드 원문은 저장하지 않고 SHA-256 해시만 보관, 사용하거나 만료되면 비움)
+ALTER TABLE USER_TB ADD (RESET_CODE_HASH VARCHAR2(64), RESET_EXPIRES_DT TIMESTAMP);
@@ -2,8 +2,13 @@ package com.demo;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+// Oracle 없이 local 프로필(H2)로 기동, 파일 DB 와 가상 데이터 생성은 사용하지 않음
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:context-test;MODE=Oracle;DB_CLOSE_DELAY=-1",
+		"cafe.seed.enabled=false" })
+@ActiveProfiles("local")
 class BackendApplicationTests {
 
 	@Test
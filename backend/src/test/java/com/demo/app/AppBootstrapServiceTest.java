@@ -0,0 +1,92 @@
+package com.demo.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.demo.auth.AuthUser;
+import com.demo.boards.BoardService;
+import com.demo.boards.BoardSummary;
+import com.demo.common.CursorPage;
+import com.demo.users.UserEntity;
+import com.demo.users.UserService;
+
+class AppBootstrapServiceTest {
+
+	private final UserService userService = mock(UserService.class);
+	private final BoardService boardService = mock(BoardService.class);
+	private final AppBootstrapService service = new AppBootstrapService(userService, boardService, 2, 10);
+	private final CursorPage<BoardSummary> page = new CursorPage<>(List.of(), null, 10);
+
+	@AfterEach
+	void shutdown() {
+		service.shutdown();
+	}
+
+	@Test
+	void anonymousUserGetsPageWithoutUser() {
+		when(boardService.getBoardsByCategoryName("all", null, 10)).thenReturn(page);
+
+		AppBootstrap bootstrap = service.load(null, "all", 10);
+
+		assertNull(bootstrap.getUser());
+		assertNull(bootstrap.getPostCount());
+		assertSame(page, bootstrap.getPage());
+		verify(userService, never()).getUserById(anyString());
+		verify(boardService, never()).getPostCountByUserId(anyString());
+	}
+
+	@Test
+	void deletedUserWithValidTokenIsTreatedAsAnonymous() {
+		when(boardService.getBoardsByCategoryName("free", null, 10)).thenReturn(page);
+		when(boardService.getPostCountByUserId("ghost")).thenReturn(3);
+		when(userService.getUserById("ghost")).thenReturn(null); // 토큰은 유효하지만 탈퇴한 사용자
+
+		AppBootstrap bootstrap = service.load(new AuthUser("ghost", "ghost", 1), "free", 10);
+
+		assertNull(bootstrap.getUser());
+		assertNull(bootstrap.getPostCount()); // 미리 조회한 게시글 수도 내보내지 않음
+		assertSame(page, bootstrap.getPage());
+	}
+
+	@Test
+	void loggedInUserGetsSummaryAndPostCount() {
+		UserEntity user = new UserEntity();
+		user.setUserId("alice");
+		user.setUserName("앨리스");
+		user.setUserNickname("alice");
+		user.setUserLevel(2);
+		user.setCreatedDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+		when(userService.getUserById("alice")).thenReturn(user);
+		when(boardService.getPostCountByUserId("alice")).thenReturn(7);
+
+		AppBootstrap bootstrap = service.load(new AuthUser("alice", "alice", 2), null, 10);
+
+		assertEquals("alice", bootstrap.getUser().getUserId());
+		assertEquals("앨리스", bootstrap.getUser().getUserName());
+		assertEquals(7, bootstrap.getPostCount());
+		assertNull(bootstrap.getPage()); // 카테고리를 생략하면 목록 없음
+	}
+
+	@Test
+	void unknownCategoryFailsWithOriginalException() {
+		when(boardService.getBoardsByCategoryName("unknown", null, 10))
+				.thenThrow(new IllegalArgumentException("잘못된 카테고리입니다."));
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> service.load(null, "unknown", 10));
+		assertEquals("잘못된 카테고리입니다.", e.getMessage());
+	}
+}
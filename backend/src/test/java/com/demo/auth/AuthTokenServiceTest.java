@@ -0,0 +1,86 @@
+package com.demo.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AuthTokenServiceTest {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AuthTokenService tokens = new AuthTokenService(SECRET, Duration.ofHours(1), objectMapper);
+
+	@Test
+	void issuedTokenVerifiesToSameUser() {
+		AuthUser user = tokens.verify(tokens.issue(new AuthUser("alice", "앨리스", 4)));
+
+		assertNotNull(user);
+		assertEquals("alice", user.getUserId());
+		assertEquals("앨리스", user.getUserNickname());
+		assertEquals(4, user.getUserLevel());
+	}
+
+	@Test
+	void tokenIsValidOnAnyNodeSharingTheSecret() {
+		AuthTokenService otherNode = new AuthTokenService(SECRET, Duration.ofHours(1), objectMapper);
+
+		assertNotNull(otherNode.verify(tokens.issue(new AuthUser("alice", "alice", 1))));
+	}
+
+	@Test
+	void tamperedPayloadIsRejected() {
+		String token = tokens.issue(new AuthUser("mallory", "mallory", 1));
+		String signature = token.substring(token.indexOf('.') + 1);
+		String forged = "{\"sub\":\"mallory\",\"nick\":\"mallory\",\"lv\":4,\"exp\":" + (System.currentTimeMillis() / 1000 + 3600) + "}";
+		String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(forged.getBytes(StandardCharsets.UTF_8));
+
+		assertNull(tokens.verify(payload + "." + signature)); // 레벨을 올린 페이로드에 기존 서명
+	}
+
+	@Test
+	void tamperedSignatureIsRejected() {
+		String token = tokens.issue(new AuthUser("alice", "alice", 1));
+		char last = token.charAt(token.length() - 1);
+		String flipped = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+		assertNull(tokens.verify(flipped));
+		assertNull(tokens.verify(token.substring(0, token.indexOf('.') + 1))); // 서명 없음
+		assertNull(tokens.verify("not-a-token"));
+		assertNull(tokens.verify(null));
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+		AuthTokenService expired = new AuthTokenService(SECRET, Duration.ofSeconds(-1), objectMapper);
+
+		assertNull(expired.verify(expired.issue(new AuthUser("alice", "alice", 1))));
+	}
+
+	@Test
+	void blankSecretUsesPerInstanceKey() {
+		AuthTokenService first = new AuthTokenService("", Duration.ofHours(1), objectMapper);
+		AuthTokenService second = new AuthTokenService("  ", Duration.ofHours(1), objectMapper);
+		String token = first.issue(new AuthUser("alice", "alice", 1));
+
+		assertNotNull(first.verify(token));
+		assertNull(second.verify(token)); // 임시 키는 다른 인스턴스와 호환되지 않음
+		assertNull(tokens.verify(token));
+	}
+
+	@Test
+	void shortSecretFailsAtStartup() {
+		String shortSecret = Base64.getEncoder().encodeToString(new byte[16]);
+
+		assertThrows(IllegalStateException.class, () -> new AuthTokenService(shortSecret, Duration.ofHours(1), objectMapper));
+	}
+}
@@ -0,0 +1,75 @@
+package com.demo.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.demo.users.CurrentUserCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.Cookie;
+
+class LoginUserArgumentResolverTest {
+
+	private final AuthTokenService tokens = new AuthTokenService("", Duration.ofHours(1), new ObjectMapper());
+	private final CurrentUserCache currentUsers = mock(CurrentUserCache.class);
+
+	@Test
+	void bearerHeaderTakesPrecedenceOverCookie() {
+		LoginUserArgumentResolver resolver = new LoginUserArgumentResolver(tokens, currentUsers, "token");
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.issue(new AuthUser("alice", "alice", 1)));
+		request.setCookies(new Cookie(AuthTokenService.COOKIE_NAME, tokens.issue(new AuthUser("bob", "bob", 1))));
+
+		assertEquals("alice", resolver.resolve(request).getUserId());
+	}
+
+	@Test
+	void cookieIsUsedWithoutHeaderAndInvalidTokenIsAnonymous() {
+		LoginUserArgumentResolver resolver = new LoginUserArgumentResolver(tokens, currentUsers, "token");
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie(AuthTokenService.COOKIE_NAME, tokens.issue(new AuthUser("bob", "bob", 1))));
+		assertEquals("bob", resolver.resolve(request).getUserId());
+
+		MockHttpServletRequest forged = new MockHttpServletRequest();
+		forged.addHeader(HttpHeaders.AUTHORIZATION, "Bearer forged.token");
+		assertNull(resolver.resolve(forged));
+		verifyNoInteractions(currentUsers); // 필터용 resolve 는 DB 를 조회하지 않음
+	}
+
+	@Test
+	void injectedUserCarriesCurrentLevelAndDeletedUserIsAnonymous() throws Exception {
+		LoginUserArgumentResolver resolver = new LoginUserArgumentResolver(tokens, currentUsers, "token");
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.issue(new AuthUser("alice", "alice", 4)));
+
+		when(currentUsers.refresh(any())).thenReturn(new AuthUser("alice", "alice", 1)); // 토큰 발급 후 강등
+		AuthUser injected = (AuthUser) resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+		assertEquals(1, injected.getUserLevel());
+
+		when(currentUsers.refresh(any())).thenReturn(null); // 토큰 발급 후 삭제
+		assertNull(resolver.resolveArgument(null, null, new ServletWebRequest(request), null));
+	}
+
+	@Test
+	void sessionModeReadsSessionAttributeOnly() {
+		LoginUserArgumentResolver resolver = new LoginUserArgumentResolver(tokens, currentUsers, "session");
+		MockHttpServletRequest withToken = new MockHttpServletRequest();
+		withToken.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.issue(new AuthUser("alice", "alice", 1)));
+		assertNull(resolver.resolve(withToken));
+
+		MockHttpServletRequest withSession = new MockHttpServletRequest();
+		withSession.getSession().setAttribute(LoginUserArgumentResolver.SESSION_ATTRIBUTE, new AuthUser("bob", "bob", 1));
+		assertEquals("bob", resolver.resolve(withSession).getUserId());
+	}
+}
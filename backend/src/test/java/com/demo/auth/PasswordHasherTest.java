@@ -0,0 +1,56 @@
+package com.demo.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PasswordHasherTest {
+
+	private final PasswordHasher hasher = new PasswordHasher(1000); // 테스트 속도를 위해 낮은 반복 횟수
+
+	@Test
+	void hashUsesStoredFormatAndVerifies() {
+		String stored = hasher.hash("s3cret!");
+		String[] parts = stored.split("\\$");
+
+		assertEquals(4, parts.length);
+		assertEquals("pbkdf2", parts[0]);
+		assertEquals("1000", parts[1]);
+		assertTrue(hasher.matches("s3cret!", stored));
+		assertFalse(hasher.matches("s3cret?", stored));
+		assertFalse(hasher.needsRehash(stored));
+	}
+
+	@Test
+	void samePasswordGetsDifferentSalt() {
+		assertNotEquals(hasher.hash("s3cret!"), hasher.hash("s3cret!"));
+	}
+
+	@Test
+	void hashFromOtherIterationCountStillVerifies() {
+		String older = new PasswordHasher(500).hash("s3cret!");
+
+		assertTrue(hasher.matches("s3cret!", older)); // 저장된 반복 횟수로 검증
+		assertTrue(hasher.needsRehash(older)); // 현재 설정보다 낮으면 로그인 시 재해시
+		assertFalse(new PasswordHasher(500).needsRehash(hasher.hash("s3cret!")));
+	}
+
+	@Test
+	void legacyPlaintextIsComparedAndMarkedForRehash() {
+		assertTrue(hasher.matches("plain-password", "plain-password"));
+		assertFalse(hasher.matches("plain-passwore", "plain-password"));
+		assertTrue(hasher.needsRehash("plain-password"));
+	}
+
+	@Test
+	void corruptedHashDoesNotVerify() {
+		assertFalse(hasher.matches("s3cret!", "pbkdf2$abc$AAAA$AAAA"));
+		assertFalse(hasher.matches("s3cret!", "pbkdf2$1000$!!!$AAAA"));
+		assertTrue(hasher.needsRehash("pbkdf2$abc$AAAA$AAAA"));
+		assertFalse(hasher.matches(null, hasher.hash("s3cret!")));
+		assertFalse(hasher.matches("s3cret!", null));
+	}
+}
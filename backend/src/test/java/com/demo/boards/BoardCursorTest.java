@@ -0,0 +1,45 @@
+package com.demo.boards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BoardCursorTest {
+
+	@Test
+	void encodeDecodeRoundTrip() {
+		LocalDateTime createdDate = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+		BoardCursor decoded = BoardCursor.decode(new BoardCursor(createdDate, 42L).encode());
+
+		assertEquals(createdDate, decoded.getCreatedDate());
+		assertEquals(42L, decoded.getBoardNumber());
+	}
+
+	@Test
+	void blankCursorMeansFirstPage() {
+		assertNull(BoardCursor.decode(null));
+		assertNull(BoardCursor.decode(" "));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "not base64!", "%%%", "MjAyNA" })
+	void malformedCursorIsRejected(String cursor) {
+		assertThrows(IllegalArgumentException.class, () -> BoardCursor.decode(cursor));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "2024-03-01T12:30|", "2024-03-01T12:30|abc", "yesterday|1", "|1", "2024-13-01T00:00|1",
+			"2024-03-01T12:30|99999999999999999999" })
+	void tamperedCursorIsRejected(String raw) {
+		String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> BoardCursor.decode(cursor)); // 500 이 아닌 400 으로 처리
+	}
+}
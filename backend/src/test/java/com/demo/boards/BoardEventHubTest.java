@@ -0,0 +1,135 @@
+package com.demo.boards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.demo.common.NdjsonExporter;
+import com.demo.users.UserService;
+
+class BoardEventHubTest {
+
+	// 전송 스레드 1개, 구독자별 대기열 2칸
+	private final BoardEventHub hub = new BoardEventHub(60_000, 2, 10, 1);
+	private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new BoardController(mock(BoardService.class),
+			mock(UserService.class), mock(BoardQueryCache.class), mock(BoardImportService.class),
+			mock(NdjsonExporter.class), hub)).build();
+
+	@AfterEach
+	void shutdown() {
+		hub.shutdown();
+	}
+
+	@Test
+	void slowSubscriberGetsResyncMarkerThenLaterEvents() throws Exception {
+		MockHttpServletResponse response = subscribe();
+		waitUntil(() -> content(response).contains("event:ready"));
+
+		CountDownLatch sending = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		hub.publish(new BoardEvent(BoardEvent.CREATED, 0L, 1, "느린 전송", "alice", LocalDateTime.now()) {
+			@Override
+			public String getBoardTitle() {
+				sending.countDown(); // 전송 스레드가 이 알림을 직렬화하는 동안 멈춤
+				await(release);
+				return super.getBoardTitle();
+			}
+		});
+		assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+		for (long boardNumber = 1; boardNumber <= 3; boardNumber++) {
+			hub.publish(event(boardNumber)); // 2칸 대기열을 넘겨 밀린 알림을 버림
+		}
+		hub.publish(event(4L)); // resync 이후 알림
+		assertEquals(1, hub.getOverflowCount());
+		release.countDown();
+
+		waitUntil(() -> content(response).contains("\"boardNumber\":4"));
+		String body = content(response);
+		int resync = body.indexOf("event:resync\ndata:overflow");
+		assertTrue(resync > body.indexOf("\"boardNumber\":0"));
+		assertTrue(body.indexOf("\"boardNumber\":4") > resync); // 재조회 알림 뒤에 이후 알림이 이어짐
+		for (long dropped = 1; dropped <= 3; dropped++) {
+			assertFalse(body.contains("\"boardNumber\":" + dropped));
+		}
+	}
+
+	@Test
+	void categorySubscriberOnlyReceivesMatchingEvents() throws Exception {
+		MockHttpServletResponse response = mvc.perform(get("/boards/stream").param("category", "2"))
+				.andExpect(request().asyncStarted()).andReturn().getResponse();
+		waitUntil(() -> content(response).contains("event:ready"));
+
+		hub.publish(event(1L)); // 카테고리 1
+		hub.publish(new BoardEvent(BoardEvent.UPDATED, 2L, 2, "제목", "alice", LocalDateTime.now()));
+		hub.publishResync();
+
+		waitUntil(() -> content(response).contains("event:resync"));
+		String body = content(response);
+		assertFalse(body.contains("\"boardNumber\":1"));
+		assertTrue(body.contains("event:updated"));
+		assertTrue(body.contains("event:resync\ndata:all"));
+	}
+
+	@Test
+	void subscribersBeyondLimitAreRejected() throws Exception {
+		BoardEventHub small = new BoardEventHub(60_000, 2, 1, 1);
+		try {
+			MockMvc limited = MockMvcBuilders.standaloneSetup(new BoardController(mock(BoardService.class),
+					mock(UserService.class), mock(BoardQueryCache.class), mock(BoardImportService.class),
+					mock(NdjsonExporter.class), small)).build();
+			limited.perform(get("/boards/stream")).andExpect(request().asyncStarted());
+			limited.perform(get("/boards/stream")).andExpect(status().isServiceUnavailable());
+			assertEquals(1, small.getSubscriberCount());
+		} finally {
+			small.shutdown();
+		}
+	}
+
+	private MockHttpServletResponse subscribe() throws Exception {
+		return mvc.perform(get("/boards/stream")).andExpect(request().asyncStarted()).andReturn().getResponse();
+	}
+
+	private static BoardEvent event(Long boardNumber) {
+		return new BoardEvent(BoardEvent.CREATED, boardNumber, 1, "제목 " + boardNumber, "alice", LocalDateTime.now());
+	}
+
+	private static String content(MockHttpServletResponse response) {
+		try {
+			return response.getContentAsString();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertTrue(condition.getAsBoolean());
+	}
+}
@@ -0,0 +1,93 @@
+package com.demo.boards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import com.demo.users.UserEntity;
+
+@DataJpaTest
+@Import(BoardImportService.class)
+class BoardImportServiceTest {
+
+	@Autowired
+	private BoardImportService boardImportService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@MockBean
+	private BoardQueryCache boardQueryCache;
+
+	@MockBean
+	private BoardSearchIndex boardSearchIndex;
+
+	@MockBean
+	private BoardEventHub boardEventHub;
+
+	@BeforeEach
+	void createAuthor() {
+		UserEntity user = new UserEntity();
+		user.setUserId("alice");
+		user.setUserName("alice");
+		user.setUserNickname("alice");
+		user.setUserPassword("x");
+		user.setUserLevel(1);
+		user.setCreatedBy("alice");
+		user.setUpdatedBy("alice");
+		user.setCreatedDate(LocalDateTime.now());
+		user.setUpdatedDate(LocalDateTime.now());
+		entityManager.persistAndFlush(user);
+	}
+
+	@Test
+	void oversizedAndInvalidRowsAreSkippedWithoutFailingTheBatch() {
+		List<BoardImportRequest> requests = List.of(
+				request("정상 글", "본문", "alice"),
+				request("가".repeat(BoardEntity.MAX_TITLE_LENGTH + 1), "본문", "alice"), // 제목 길이 초과
+				request("긴 본문", "나".repeat(BoardEntity.MAX_WRITE_LENGTH + 1), "alice"), // 내용 길이 초과
+				request("가".repeat(BoardEntity.MAX_TITLE_LENGTH), "나".repeat(BoardEntity.MAX_WRITE_LENGTH), "alice"),
+				request(" ", "본문", "alice"),
+				request("없는 작성자", "본문", "nobody"));
+
+		BoardImportResult result = boardImportService.importBoards(requests, "admin");
+
+		assertEquals(6, result.getRequested());
+		assertEquals(2, result.getImported());
+		assertEquals(List.of(1, 2, 4, 5), result.getSkippedIndexes());
+		assertEquals(2L, entityManager.getEntityManager()
+				.createQuery("SELECT COUNT(b) FROM BoardEntity b", Long.class).getSingleResult());
+	}
+
+	@Test
+	void originalDatesArePreserved() {
+		BoardImportRequest request = request("이관 글", "본문", "alice");
+		LocalDateTime created = LocalDateTime.of(2019, 5, 1, 9, 0);
+		request.setCreatedDate(created);
+
+		assertEquals(1, boardImportService.importBoards(List.of(request), "admin").getImported());
+		BoardEntity saved = entityManager.getEntityManager()
+				.createQuery("SELECT b FROM BoardEntity b", BoardEntity.class).getSingleResult();
+		assertEquals(created, saved.getCreatedDate());
+		assertEquals(created, saved.getUpdatedDate()); // 수정일이 없으면 작성일과 같음
+		assertEquals("admin", saved.getUpdatedBy());
+	}
+
+	private static BoardImportRequest request(String title, String body, String userId) {
+		BoardImportRequest request = new BoardImportRequest();
+		request.setBoardCategory(1);
+		request.setBoardTitle(title);
+		request.setBoardWrite(body);
+		request.setUserId(userId);
+		return request;
+	}
+}
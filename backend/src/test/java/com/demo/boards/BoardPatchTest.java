@@ -0,0 +1,122 @@
+package com.demo.boards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import com.demo.users.UserEntity;
+
+@DataJpaTest
+@Import({ BoardService.class, BoardQueryCache.class })
+class BoardPatchTest {
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@MockBean
+	private BoardSearchIndex boardSearchIndex;
+
+	@MockBean
+	private BoardEventHub boardEventHub;
+
+	@MockBean
+	private BoardViewCounter boardViewCounter;
+
+	private Long boardNumber;
+
+	@BeforeEach
+	void createBoard() {
+		UserEntity alice = entityManager.persist(user("alice"));
+		entityManager.persist(user("bob"));
+		BoardEntity board = new BoardEntity();
+		board.setBoardCategory(1);
+		board.setBoardTitle("제목");
+		board.setBoardWrite("본문");
+		board.setUser(alice);
+		board.setCreatedBy("alice");
+		board.setUpdatedBy("alice");
+		boardNumber = entityManager.persistAndFlush(board).getBoardNumber();
+		entityManager.clear();
+	}
+
+	@Test
+	void matchingVersionUpdatesOnlyChangedColumns() {
+		BoardPatchResult result = boardService.patchBoard(boardNumber, patch(0L, "새 제목"), "alice", false);
+
+		assertEquals(BoardPatchResult.Status.UPDATED, result.getStatus());
+		assertEquals(1L, result.getCurrentVersion());
+		BoardEntity saved = reload();
+		assertEquals("새 제목", saved.getBoardTitle());
+		assertEquals("본문", saved.getBoardWrite());
+		assertEquals(1, saved.getBoardCategory());
+		assertEquals(1L, saved.getVersion());
+	}
+
+	@Test
+	void staleVersionIsRejectedWithCurrentVersion() {
+		boardService.patchBoard(boardNumber, patch(0L, "먼저 수정"), "alice", false);
+
+		BoardPatchResult result = boardService.patchBoard(boardNumber, patch(0L, "늦은 수정"), "alice", false);
+		assertEquals(BoardPatchResult.Status.CONFLICT, result.getStatus());
+		assertEquals(1L, result.getCurrentVersion()); // 클라이언트가 다시 읽어야 할 버전
+		assertEquals("먼저 수정", reload().getBoardTitle());
+
+		result = boardService.patchBoard(boardNumber, patch(result.getCurrentVersion(), "늦은 수정"), "alice", false);
+		assertEquals(BoardPatchResult.Status.UPDATED, result.getStatus());
+		assertEquals(2L, result.getCurrentVersion());
+	}
+
+	@Test
+	void otherUserIsForbiddenUnlessAdmin() {
+		BoardPatchResult result = boardService.patchBoard(boardNumber, patch(0L, "남의 글"), "bob", false);
+		assertEquals(BoardPatchResult.Status.FORBIDDEN, result.getStatus());
+		assertEquals(0L, reload().getVersion());
+
+		result = boardService.patchBoard(boardNumber, patch(0L, "관리자 수정"), "bob", true);
+		assertEquals(BoardPatchResult.Status.UPDATED, result.getStatus());
+		assertEquals("bob", reload().getUpdatedBy());
+	}
+
+	@Test
+	void missingBoardIsNotFound() {
+		BoardPatchResult result = boardService.patchBoard(boardNumber + 1000, patch(0L, "없음"), "alice", false);
+		assertEquals(BoardPatchResult.Status.NOT_FOUND, result.getStatus());
+	}
+
+	private BoardEntity reload() {
+		entityManager.clear(); // 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 다시 읽음
+		return entityManager.find(BoardEntity.class, boardNumber);
+	}
+
+	private static BoardPatchRequest patch(Long version, String title) {
+		BoardPatchRequest patch = new BoardPatchRequest();
+		patch.setVersion(version);
+		patch.setBoardTitle(title);
+		return patch;
+	}
+
+	private static UserEntity user(String userId) {
+		UserEntity user = new UserEntity();
+		user.setUserId(userId);
+		user.setUserName(userId);
+		user.setUserNickname(userId);
+		user.setUserPassword("x");
+		user.setUserLevel(1);
+		user.setCreatedBy(userId);
+		user.setUpdatedBy(userId);
+		user.setCreatedDate(LocalDateTime.now());
+		user.setUpdatedDate(LocalDateTime.now());
+		return user;
+	}
+}
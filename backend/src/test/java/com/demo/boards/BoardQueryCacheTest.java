@@ -0,0 +1,101 @@
+package com.demo.boards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.demo.boards.BoardQueryCache.ListKey;
+import com.demo.boards.BoardQueryCache.Scope;
+import com.demo.common.CursorPage;
+import com.demo.users.UserEntity;
+
+class BoardQueryCacheTest {
+
+	private final BoardQueryCache cache = new BoardQueryCache(100, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+	@AfterEach
+	void clear() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void entryReloadedBeforeCommitIsEvictedAfterCommit() {
+		cache.getDetail(1L, id -> board(id, 3, "alice"));
+		TransactionSynchronizationManager.initSynchronization(); // 쓰기 트랜잭션 진행 중
+
+		cache.evictBoard(1L, 3, "alice");
+		assertNull(cache.peekDetail(1L));
+		cache.getDetail(1L, id -> board(id, 3, "alice")); // 커밋 전 다른 요청이 이전 값을 다시 채움
+		assertNotNull(cache.peekDetail(1L));
+
+		commit();
+		assertNull(cache.peekDetail(1L));
+	}
+
+	@Test
+	void evictionWithoutTransactionRunsImmediately() {
+		cache.getDetail(1L, id -> board(id, 3, "alice"));
+		cache.getDetail(2L, id -> board(id, 3, "alice"));
+
+		cache.evictBoard(1L, 3, "alice");
+		assertNull(cache.peekDetail(1L));
+		assertNotNull(cache.peekDetail(2L)); // 다른 게시글 상세는 유지
+	}
+
+	@Test
+	void boardChangeEvictsOnlyListsItCanAppearIn() {
+		for (ListKey key : List.of(new ListKey(Scope.ALL, null, null, 20),
+				new ListKey(Scope.CATEGORY, "3", null, 20), new ListKey(Scope.CATEGORY, "5", null, 20),
+				new ListKey(Scope.USER, "alice", null, 20), new ListKey(Scope.USER, "bob", null, 20))) {
+			cache.getList(key, k -> new CursorPage<>(List.of(), null, 20));
+		}
+
+		cache.evictBoard(1L, 3, "alice");
+		assertEquals(Set.of(new ListKey(Scope.CATEGORY, "5", null, 20), new ListKey(Scope.USER, "bob", null, 20)),
+				cache.getListCache().asMap().keySet());
+	}
+
+	@Test
+	void authorChangeEvictsTheirDetailsAndListsAfterCommit() {
+		cache.getDetail(1L, id -> board(id, 3, "alice"));
+		cache.getDetail(2L, id -> board(id, 3, "bob"));
+		cache.getList(new ListKey(Scope.USER, "bob", null, 20), k -> new CursorPage<>(List.of(), null, 20));
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evictAuthor("alice");
+		cache.getDetail(1L, id -> board(id, 3, "alice")); // 커밋 전 이전 닉네임으로 다시 채워짐
+		cache.getList(new ListKey(Scope.ALL, null, null, 20), k -> new CursorPage<>(List.of(), null, 20));
+
+		commit();
+		assertNull(cache.peekDetail(1L));
+		assertNotNull(cache.peekDetail(2L));
+		assertEquals(Set.of(new ListKey(Scope.USER, "bob", null, 20)), cache.getListCache().asMap().keySet());
+	}
+
+	private static void commit() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+	}
+
+	private static BoardEntity board(Long boardNumber, int category, String userId) {
+		UserEntity user = new UserEntity();
+		user.setUserId(userId);
+		BoardEntity board = new BoardEntity();
+		board.setBoardNumber(boardNumber);
+		board.setBoardCategory(category);
+		board.setUser(user);
+		return board;
+	}
+}
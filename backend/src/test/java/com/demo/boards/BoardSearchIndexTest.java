@@ -0,0 +1,117 @@
+package com.demo.boards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BoardSearchIndexTest {
+
+	private final BoardSearchIndex index = new BoardSearchIndex(mock(BoardRepository.class));
+
+	@Test
+	void koreanAndEnglishQueriesMatchByBigram() {
+		index.index(doc(1L, "서울 맛집 추천", "강남역 근처"));
+		index.index(doc(2L, "부산 여행", "해운대 맛집도 소개"));
+		index.index(doc(3L, "Spring Boot Tips", "auto-configuration"));
+
+		assertEquals(List.of(1L, 2L), numbers(index.search("맛집", null, 0, 10)));
+		assertEquals(List.of(1L), numbers(index.search("서울 맛집", null, 0, 10))); // 모든 2-gram 을 포함해야 일치
+		assertEquals(List.of(3L), numbers(index.search("BOOT", null, 0, 10)));
+		assertEquals(List.of(3L), numbers(index.search("configuration", null, 0, 10)));
+		assertEquals(0, index.search("대구", null, 0, 10).getTotal());
+	}
+
+	@Test
+	void singleCharacterQueryMatchesWordsContainingIt() {
+		index.index(doc(1L, "서울 맛집", ""));
+		index.index(doc(2L, "C 언어 입문", ""));
+		index.index(doc(3L, "부산", ""));
+
+		assertEquals(List.of(1L), numbers(index.search("맛", null, 0, 10)));
+		assertEquals(List.of(1L), numbers(index.search("집", null, 0, 10))); // 단어 끝 글자도 일치
+		assertEquals(List.of(2L), numbers(index.search("c", null, 0, 10))); // 한 글자 단어
+		assertEquals(List.of(2L), numbers(index.search("언 c", null, 0, 10)));
+		assertEquals(0, index.search("대", null, 0, 10).getTotal());
+	}
+
+	@Test
+	void titleMatchOutranksBodyAndNewerBoardWinsTies() {
+		index.index(doc(1L, "일반 글", "자바 스터디 모집"));
+		index.index(doc(2L, "자바 스터디", "내용"));
+		index.index(doc(3L, "다른 글", "자바 스터디 모집"));
+
+		assertEquals(List.of(2L, 3L, 1L), numbers(index.search("자바 스터디", null, 0, 10)));
+	}
+
+	@Test
+	void pagesThroughRankedResultsWithoutOverflow() {
+		for (long i = 1; i <= 25; i++) {
+			index.index(doc(i, "공지 " + i, ""));
+		}
+
+		BoardSearchResult last = index.search("공지", null, 2, 10);
+		assertEquals(List.of(5L, 4L, 3L, 2L, 1L), numbers(last));
+		assertEquals(25, last.getTotal());
+		assertFalse(last.isHasNext());
+		assertTrue(index.search("공지", null, 1, 10).isHasNext());
+
+		BoardSearchResult far = index.search("공지", null, Integer.MAX_VALUE, 50); // (page + 1) * size 가 int 범위를 넘음
+		assertTrue(far.getItems().isEmpty());
+		assertEquals(25, far.getTotal());
+		assertFalse(far.isHasNext());
+	}
+
+	@Test
+	void removedAndUpdatedBoardsLeaveNoStaleTerms() {
+		for (long i = 1; i <= 40; i++) {
+			index.index(doc(i, "공지 사항", ""));
+		}
+		for (long i = 1; i <= 35; i++) {
+			index.remove(i);
+		}
+		assertEquals(List.of(40L, 39L, 38L, 37L, 36L), numbers(index.search("공지", null, 0, 10)));
+
+		index.index(doc(40L, "변경된 제목", ""));
+		assertEquals(List.of(39L, 38L, 37L, 36L), numbers(index.search("공지", null, 0, 10)));
+		assertEquals(List.of(40L), numbers(index.search("변경", null, 0, 10)));
+
+		for (long i = 36; i <= 40; i++) {
+			index.remove(i);
+		}
+		assertEquals(0, index.size());
+		assertEquals(0, index.search("공지", null, 0, 10).getTotal());
+		assertEquals(0, index.search("공", null, 0, 10).getTotal());
+	}
+
+	@Test
+	void postingsShrinkAfterMostEntriesAreRemoved() {
+		BoardSearchIndex.Postings postings = new BoardSearchIndex.Postings("공지");
+		for (long i = 100; i >= 1; i--) {
+			postings.put(i, (int) i); // 역순 삽입도 정렬 유지
+		}
+		for (long i = 1; i <= 90; i++) {
+			postings.remove(i);
+		}
+
+		assertEquals(10, postings.size());
+		assertEquals(0, postings.weightOf(50));
+		assertEquals(95, postings.weightOf(95));
+		postings.put(95, 1);
+		assertEquals(1, postings.weightOf(95));
+	}
+
+	private static BoardSearchDocument doc(Long boardNumber, String title, String body) {
+		LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(boardNumber);
+		return new BoardSearchDocument(boardNumber, 1, title, body, "user" + boardNumber, "닉네임", created, created);
+	}
+
+	private static List<Long> numbers(BoardSearchResult result) {
+		return result.getItems().stream().map(hit -> hit.getBoard().getBoardNumber()).toList();
+	}
+}
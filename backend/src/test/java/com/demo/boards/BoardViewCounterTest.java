@@ -0,0 +1,158 @@
+package com.demo.boards;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class BoardViewCounterTest {
+
+	private final DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:views;DB_CLOSE_DELAY=-1", "sa", "");
+	private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+	private Runnable duringFlush = () -> { }; // 배치 UPDATE 직전에 실행 (동시 삭제/장애 재현)
+
+	@BeforeEach
+	void createTable() {
+		jdbc.execute("DROP TABLE IF EXISTS BOARD_TB");
+		jdbc.execute("CREATE TABLE BOARD_TB (BOARD_NUMBER BIGINT PRIMARY KEY, VIEW_COUNT BIGINT DEFAULT 0 NOT NULL)");
+		jdbc.update("INSERT INTO BOARD_TB (BOARD_NUMBER) VALUES (1), (2)");
+	}
+
+	@Test
+	void flushWritesAccumulatedViewsAndClearsPending() {
+		BoardViewCounter counter = counter();
+		counter.record(1L);
+		counter.record(1L);
+		counter.record(1L);
+		counter.record(2L);
+		assertEquals(3, counter.pending(1L));
+
+		counter.flush();
+		assertEquals(3, viewCount(1));
+		assertEquals(1, viewCount(2));
+		assertEquals(0, counter.pending(1L));
+		assertEquals(2, counter.getFlushedRows());
+
+		counter.flush(); // 조회가 없던 게시글 카운터 정리
+		assertEquals(0, counter.getPendingPosts());
+		assertEquals(3, viewCount(1));
+	}
+
+	@Test
+	void discardedBoardIsNotFlushed() {
+		BoardViewCounter counter = counter();
+		counter.record(1L);
+		counter.record(2L);
+
+		counter.discard(1L);
+		counter.flush();
+		assertEquals(0, viewCount(1));
+		assertEquals(1, viewCount(2));
+		assertEquals(0, counter.pending(1L));
+	}
+
+	@Test
+	void discardDuringFlushLeavesNoCounterBehind() {
+		BoardViewCounter counter = counter();
+		counter.record(1L);
+		duringFlush = () -> {
+			jdbc.update("DELETE FROM BOARD_TB WHERE BOARD_NUMBER = 1"); // 반영 도중 게시글 삭제
+			counter.discard(1L);
+		};
+
+		counter.flush();
+		assertEquals(0, counter.pending(1L));
+		assertEquals(0, counter.getPendingPosts());
+	}
+
+	@Test
+	void failedFlushKeepsViewsForNextFlush() {
+		BoardViewCounter counter = counter();
+		counter.record(1L);
+		counter.record(1L);
+		duringFlush = () -> {
+			throw new DataAccessResourceFailureException("db down");
+		};
+
+		counter.flush();
+		assertEquals(2, counter.pending(1L));
+		assertEquals(0, viewCount(1));
+
+		duringFlush = () -> { };
+		counter.record(1L);
+		counter.flush();
+		assertEquals(3, viewCount(1));
+		assertEquals(0, counter.pending(1L));
+	}
+
+	@Test
+	void failedFlushDoesNotRestoreDiscardedBoard() {
+		BoardViewCounter counter = counter();
+		counter.record(1L);
+		duringFlush = () -> {
+			counter.discard(1L);
+			throw new DataAccessResourceFailureException("db down");
+		};
+
+		counter.flush();
+		assertEquals(0, counter.pending(1L));
+		assertEquals(0, counter.getPendingPosts());
+	}
+
+	@Test
+	void viewsRecordedWhileIdleCountersAreEvictedAreNotLost() throws InterruptedException {
+		BoardViewCounter counter = counter();
+		int threads = 4;
+		int viewsPerThread = 5_000;
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			Thread recorder = new Thread(() -> {
+				for (int i = 0; i < viewsPerThread; i++) {
+					counter.record(1L);
+					if (i % 50 == 0) {
+						Thread.yield(); // 카운터가 비어 정리 대상이 되는 순간을 만듦
+					}
+				}
+				done.countDown();
+			});
+			recorder.start();
+		}
+		while (done.getCount() > 0) {
+			counter.flush();
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		counter.flush();
+
+		assertEquals((long) threads * viewsPerThread, viewCount(1) + counter.pending(1L));
+		counter.flush();
+		assertEquals((long) threads * viewsPerThread, viewCount(1));
+	}
+
+	private BoardViewCounter counter() {
+		JdbcTemplate template = new JdbcTemplate(dataSource) {
+			@Override
+			public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+				duringFlush.run();
+				return super.batchUpdate(sql, batchArgs);
+			}
+		};
+		BoardQueryCache cache = new BoardQueryCache(10, 10, Duration.ofMinutes(1), Duration.ofSeconds(5));
+		return new BoardViewCounter(template, new DataSourceTransactionManager(dataSource), cache, 500);
+	}
+
+	private long viewCount(long boardNumber) {
+		return jdbc.queryForObject("SELECT VIEW_COUNT FROM BOARD_TB WHERE BOARD_NUMBER = ?", Long.class, boardNumber);
+	}
+}
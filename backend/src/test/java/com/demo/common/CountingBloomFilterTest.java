@@ -0,0 +1,58 @@
+package com.demo.common;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CountingBloomFilterTest {
+
+	@Test
+	void removedValueIsNoLongerReported() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+
+		assertFalse(filter.mightContain("alice"));
+		filter.add("alice");
+		assertTrue(filter.mightContain("alice"));
+		filter.remove("alice");
+		assertFalse(filter.mightContain("alice"));
+	}
+
+	@Test
+	void removingSomeValuesKeepsTheRest() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+		for (int i = 0; i < 1000; i++) {
+			filter.add("user" + i);
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			filter.remove("user" + i);
+		}
+		for (int i = 1; i < 1000; i += 2) {
+			assertTrue(filter.mightContain("user" + i), "user" + i); // 남은 값은 거짓 음성 없음
+		}
+	}
+
+	@Test
+	void valueAddedTwiceSurvivesOneRemove() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+
+		filter.add("bob");
+		filter.add("bob");
+		filter.remove("bob");
+		assertTrue(filter.mightContain("bob"));
+		filter.remove("bob");
+		assertFalse(filter.mightContain("bob"));
+	}
+
+	@Test
+	void saturatedCountersAreNeverDecremented() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+		for (int i = 0; i < 300; i++) {
+			filter.add("carol"); // 255 에서 포화
+		}
+		for (int i = 0; i < 300; i++) {
+			filter.remove("carol");
+		}
+		assertTrue(filter.mightContain("carol")); // 실제 개수를 알 수 없으므로 계속 "있을 수 있음"
+	}
+}
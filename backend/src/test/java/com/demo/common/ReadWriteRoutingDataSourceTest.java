@@ -0,0 +1,106 @@
+package com.demo.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+	private static final List<String> ROUTED = List.of("com.demo.boards.BoardService");
+
+	@AfterEach
+	void clear() {
+		TransactionSynchronizationManager.clear();
+		ReadWriteRoutingDataSource.pinPrimary(false);
+	}
+
+	@Test
+	void writesAndUnmarkedReadsUsePrimary() throws SQLException {
+		ReadWriteRoutingDataSource routing = routing(Map.of("replica-1", database("replica1")));
+
+		assertEquals("primary", nodeOf(routing)); // 트랜잭션 없음
+		readOnly("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById");
+		assertEquals("primary", nodeOf(routing)); // 라우팅 대상 서비스가 아님
+	}
+
+	@Test
+	void readOnlyServiceTransactionsAlternateBetweenReplicas() throws SQLException {
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		replicas.put("replica-1", database("replica1"));
+		replicas.put("replica-2", database("replica2"));
+		ReadWriteRoutingDataSource routing = routing(replicas);
+
+		readOnly("com.demo.boards.BoardService.read");
+		assertEquals("replica1", nodeOf(routing));
+		assertEquals("replica2", nodeOf(routing));
+		assertEquals(Map.of("replica-1", 1L, "replica-2", 1L), routing.getReplicaReads());
+	}
+
+	@Test
+	void pinnedReadsUsePrimary() throws SQLException {
+		ReadWriteRoutingDataSource routing = routing(Map.of("replica-1", database("replica1")));
+
+		readOnly("com.demo.boards.BoardService.read");
+		ReadWriteRoutingDataSource.pinPrimary(true);
+		assertEquals("primary", nodeOf(routing));
+		assertEquals(1, routing.getPrimaryReads());
+	}
+
+	@Test
+	void failedReplicaFallsBackToPrimaryUntilRecovered() throws SQLException {
+		DriverManagerDataSource replica = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+		ReadWriteRoutingDataSource routing = routing(Map.of("replica-1", replica));
+
+		readOnly("com.demo.boards.BoardService.read");
+		assertEquals("primary", nodeOf(routing));
+		assertEquals(1, routing.getFailovers());
+		assertEquals(0, routing.getHealthyReplicaCount());
+
+		replica.setUrl(database("recovered").getUrl()); // 복제 DB 복구
+		routing.checkReplicas();
+		assertEquals(1, routing.getHealthyReplicaCount());
+		assertEquals("recovered", nodeOf(routing));
+	}
+
+	private static ReadWriteRoutingDataSource routing(Map<String, DataSource> replicas) throws SQLException {
+		return new ReadWriteRoutingDataSource(database("primary"), replicas, ROUTED);
+	}
+
+	private static void readOnly(String transactionName) {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		TransactionSynchronizationManager.setCurrentTransactionName(transactionName);
+	}
+
+	// 자기 이름을 한 행으로 가진 인메모리 DB
+	private static DriverManagerDataSource database(String name) throws SQLException {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS NODE (NAME VARCHAR(20))");
+			statement.execute("DELETE FROM NODE");
+			statement.execute("INSERT INTO NODE VALUES ('" + name + "')");
+		}
+		return dataSource;
+	}
+
+	private static String nodeOf(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery("SELECT NAME FROM NODE")) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+}
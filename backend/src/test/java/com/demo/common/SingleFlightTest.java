@@ -0,0 +1,137 @@
+package com.demo.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class SingleFlightTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallersShareOneLoad() throws Exception {
+		SingleFlight<String, Object> flight = new SingleFlight<>(Duration.ofSeconds(5));
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		Object value = new Object();
+
+		List<Future<Object>> results = new ArrayList<>();
+		results.add(executor.submit(() -> flight.execute("key", key -> {
+			calls.incrementAndGet();
+			await(release);
+			return value;
+		})));
+		waitUntil(flight::getLoads, 1);
+		for (int i = 0; i < 8; i++) {
+			results.add(executor.submit(() -> flight.execute("key", key -> {
+				calls.incrementAndGet();
+				return new Object();
+			})));
+		}
+		waitUntil(flight::getCollapsed, 8); // 모두 첫 조회에 합류한 뒤 해제
+		release.countDown();
+
+		for (Future<Object> result : results) {
+			assertSame(value, result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, calls.get());
+		assertEquals(1, flight.getLoads());
+	}
+
+	@Test
+	void waitingCallerGivesUpAfterTimeoutWhileLoadContinues() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofMillis(50));
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> leader = executor.submit(() -> flight.execute("key", key -> {
+			await(release);
+			return "loaded";
+		}));
+		waitUntil(flight::getLoads, 1);
+
+		RuntimeException e = assertThrows(RuntimeException.class, () -> flight.execute("key", key -> "other"));
+		assertInstanceOf(TimeoutException.class, e.getCause());
+		assertEquals(1, flight.getTimeouts());
+
+		release.countDown();
+		assertEquals("loaded", leader.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void loadFailureIsDeliveredToWaitingCallers() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5));
+		CountDownLatch release = new CountDownLatch(1);
+		Future<String> leader = executor.submit(() -> flight.execute("key", key -> {
+			await(release);
+			throw new IllegalStateException("db down");
+		}));
+		waitUntil(flight::getLoads, 1);
+		Future<String> follower = executor.submit(() -> flight.execute("key", key -> "other"));
+		waitUntil(flight::getCollapsed, 1);
+		release.countDown();
+
+		for (Future<String> result : List.of(leader, follower)) {
+			Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(IllegalStateException.class, e.getCause());
+		}
+		assertEquals(1, flight.getFailures());
+		assertEquals("next", flight.execute("key", key -> "next")); // 실패한 조회는 남지 않음
+	}
+
+	@Test
+	void plainFlightForgetsResultButCachingFlightKeepsIt() {
+		SingleFlight<String, String> plain = new SingleFlight<>(Duration.ofSeconds(5));
+		plain.execute("key", key -> "first");
+		assertEquals("second", plain.execute("key", key -> "second"));
+		assertEquals(2, plain.getLoads());
+
+		AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+		SingleFlight<String, String> caching = SingleFlight.caching(cache, Duration.ofSeconds(5));
+		caching.execute("key", key -> "first");
+		assertEquals("first", caching.execute("key", key -> "second"));
+		assertEquals(1, caching.getLoads());
+		assertEquals(0, caching.getCollapsed()); // 완료된 값은 합류로 세지 않음
+
+		cache.synchronous().invalidate("key");
+		assertEquals("second", caching.execute("key", key -> "second"));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void waitUntil(LongSupplier counter, long expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (counter.getAsLong() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(expected, counter.getAsLong());
+	}
+}
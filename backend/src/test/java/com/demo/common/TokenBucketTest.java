@@ -0,0 +1,63 @@
+package com.demo.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	@Test
+	void startsFullAndAllowsBurstThenReportsWait() {
+		TokenBucket bucket = new TokenBucket(1, 3);
+
+		assertEquals(0, bucket.tryAcquire());
+		assertEquals(0, bucket.tryAcquire());
+		assertEquals(0, bucket.tryAcquire());
+		long wait = bucket.tryAcquire();
+		assertTrue(wait > 0 && wait <= TimeUnit.SECONDS.toNanos(1), "wait=" + wait); // 다음 토큰까지 최대 1초
+	}
+
+	@Test
+	void rejectedRequestsDoNotConsumeTokens() {
+		TokenBucket bucket = new TokenBucket(1, 1);
+
+		assertEquals(0, bucket.tryAcquire());
+		long first = bucket.tryAcquire();
+		long second = bucket.tryAcquire();
+		assertTrue(second > 0 && second <= first, "first=" + first + ", second=" + second); // 거절은 대기 시간을 늘리지 않음
+	}
+
+	@Test
+	void refillsAtConfiguredRate() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(10, 1); // 100ms 마다 1개
+
+		assertEquals(0, bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire() > 0);
+		Thread.sleep(250);
+		assertEquals(0, bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire() > 0); // 쉬는 동안 쌓여도 burst(1) 를 넘지 않음
+	}
+
+	@Test
+	void concurrentCallersGetExactlyTheBurst() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(0.1, 20); // 테스트 동안 다시 채워지지 않는 속도
+		AtomicInteger allowed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 200; i++) {
+			executor.execute(() -> {
+				if (bucket.tryAcquire() == 0) {
+					allowed.incrementAndGet();
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(20, allowed.get());
+	}
+}
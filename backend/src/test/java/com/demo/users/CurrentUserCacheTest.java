@@ -0,0 +1,89 @@
+package com.demo.users;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.demo.auth.AuthUser;
+
+class CurrentUserCacheTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final CurrentUserCache cache = new CurrentUserCache(userRepository, Duration.ofMinutes(1), 100,
+			Duration.ofSeconds(5));
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void refreshReplacesClaimedUserWithCurrentValues() {
+		AuthUser current = new AuthUser("alice", "새 닉네임", 3);
+		when(userRepository.findAuthUserById("alice")).thenReturn(Optional.of(current));
+
+		assertSame(current, cache.refresh(new AuthUser("alice", "옛 닉네임", 1)));
+		assertSame(current, cache.refresh(new AuthUser("alice", "옛 닉네임", 1)));
+		verify(userRepository, times(1)).findAuthUserById("alice");
+		assertNull(cache.refresh(null));
+	}
+
+	@Test
+	void deletedUserIsLoggedOut() {
+		when(userRepository.findAuthUserById("ghost")).thenReturn(Optional.empty());
+
+		assertNull(cache.refresh(new AuthUser("ghost", "ghost", 1)));
+		assertNull(cache.refresh(new AuthUser("ghost", "ghost", 1)));
+		verify(userRepository, times(1)).findAuthUserById("ghost"); // 삭제된 사용자도 보관
+	}
+
+	@Test
+	void evictionDuringLoadDoesNotStoreStaleValue() {
+		// 조회가 캐시 잠금 밖에서 실행되므로 조회 중 같은 키를 무효화해도 막히지 않음
+		when(userRepository.findAuthUserById("alice")).thenAnswer(invocation -> {
+			cache.evict("alice");
+			return Optional.of(new AuthUser("alice", "alice", 1));
+		}).thenReturn(Optional.of(new AuthUser("alice", "alice", 9)));
+
+		assertEquals(1, cache.refresh(new AuthUser("alice", "alice", 1)).getUserLevel());
+		assertEquals(9, cache.refresh(new AuthUser("alice", "alice", 1)).getUserLevel());
+	}
+
+	@Test
+	void concurrentRefreshesShareOneLoad() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(userRepository.findAuthUserById("alice")).thenAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return Optional.of(new AuthUser("alice", "alice", 2));
+		});
+
+		Future<AuthUser> first = executor.submit(() -> cache.refresh(new AuthUser("alice", "alice", 1)));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		Future<AuthUser> second = executor.submit(() -> cache.refresh(new AuthUser("alice", "alice", 1)));
+		Thread.sleep(50);
+		release.countDown();
+
+		assertEquals(2, first.get(5, TimeUnit.SECONDS).getUserLevel());
+		assertEquals(2, second.get(5, TimeUnit.SECONDS).getUserLevel());
+		verify(userRepository, times(1)).findAuthUserById("alice");
+	}
+}
@@ -0,0 +1,87 @@
+package com.demo.users;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.demo.auth.AuthTokenService;
+import com.demo.auth.AuthUser;
+import com.demo.auth.LoginUserArgumentResolver;
+import com.demo.auth.PasswordVerificationExecutor;
+import com.demo.common.NdjsonExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class UserAdminEndpointTest {
+
+	private static final String PROMOTE = "{\"userNickname\":\"mallory\",\"userName\":\"mallory\",\"userLevel\":4}";
+
+	private final UserService userService = mock(UserService.class);
+	private final AuthTokenService tokens = new AuthTokenService("", Duration.ofHours(1), new ObjectMapper());
+	private MockMvc mvc;
+
+	@BeforeEach
+	void setUp() {
+		CurrentUserCache currentUsers = mock(CurrentUserCache.class);
+		when(currentUsers.refresh(any())).thenAnswer(invocation -> invocation.getArgument(0)); // 토큰 내용이 현재 값
+		LoginUserArgumentResolver resolver = new LoginUserArgumentResolver(tokens, currentUsers, "token");
+		UserController controller = new UserController(userService, mock(UserImageService.class), tokens, resolver,
+				mock(NdjsonExporter.class), mock(PasswordVerificationExecutor.class), mock(UserBulkService.class));
+		mvc = MockMvcBuilders.standaloneSetup(controller).setCustomArgumentResolvers(resolver).build();
+	}
+
+	@Test
+	void anonymousCannotUpdateUser() throws Exception {
+		mvc.perform(put("/users/admin/mallory").contentType(MediaType.APPLICATION_JSON).content(PROMOTE))
+				.andExpect(status().isForbidden());
+		verify(userService, never()).updateUser(anyString(), any());
+	}
+
+	@Test
+	void nonAdminCannotPromoteThemselves() throws Exception {
+		mvc.perform(put("/users/admin/mallory").header(HttpHeaders.AUTHORIZATION, bearer("mallory", 1))
+				.contentType(MediaType.APPLICATION_JSON).content(PROMOTE))
+				.andExpect(status().isForbidden());
+		verify(userService, never()).updateUser(anyString(), any());
+	}
+
+	@Test
+	void adminCanUpdateUser() throws Exception {
+		when(userService.updateUser(anyString(), any())).thenReturn(new UserEntity());
+
+		mvc.perform(put("/users/admin/mallory").header(HttpHeaders.AUTHORIZATION, bearer("admin", 4))
+				.contentType(MediaType.APPLICATION_JSON).content(PROMOTE))
+				.andExpect(status().isOk());
+		verify(userService).updateUser(anyString(), any());
+	}
+
+	@Test
+	void nonAdminCannotDeleteUsers() throws Exception {
+		mvc.perform(delete("/users/delete/alice")).andExpect(status().isForbidden());
+		mvc.perform(delete("/users/delete/alice").header(HttpHeaders.AUTHORIZATION, bearer("mallory", 1)))
+				.andExpect(status().isForbidden());
+		verify(userService, never()).deleteUser(anyString());
+
+		mvc.perform(delete("/users/delete/alice").header(HttpHeaders.AUTHORIZATION, bearer("admin", 4)))
+				.andExpect(status().isNoContent());
+		verify(userService).deleteUser("alice");
+	}
+
+	private String bearer(String userId, int level) {
+		return "Bearer " + tokens.issue(new AuthUser(userId, userId, level));
+	}
+}
@@ -0,0 +1,181 @@
+package com.demo.users;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.boards.BoardEntity;
+import com.demo.boards.BoardEventHub;
+import com.demo.boards.BoardQueryCache;
+import com.demo.boards.BoardRepository;
+import com.demo.boards.BoardSearchIndex;
+import com.demo.boards.BoardViewCounter;
+
+@DataJpaTest
+@Import(UserBulkService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 작업 스레드의 트랜잭션이 테스트 데이터를 보도록 커밋
+class UserBulkServiceTest {
+
+	@Autowired
+	private UserBulkService userBulkService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@MockBean
+	private UserImageRepository userImageRepository;
+
+	@MockBean
+	private UserExistenceFilter userExistenceFilter;
+
+	@MockBean
+	private BoardQueryCache boardQueryCache;
+
+	@MockBean
+	private BoardSearchIndex boardSearchIndex;
+
+	@MockBean
+	private BoardViewCounter boardViewCounter;
+
+	@MockBean
+	private BoardEventHub boardEventHub;
+
+	@MockBean
+	private CurrentUserCache currentUserCache;
+
+	@BeforeEach
+	void createUsers() {
+		for (String userId : List.of("admin", "alice", "bob", "carol")) {
+			userRepository.save(user(userId));
+		}
+		boardRepository.save(board("alice"));
+		boardRepository.save(board("bob"));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		boardRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void adminCannotTargetThemselves() {
+		RuntimeException e = assertThrows(RuntimeException.class,
+				() -> userBulkService.start(relevel(3, "alice", "admin"), "admin"));
+		assertEquals("자기 자신은 일괄 작업 대상에 포함할 수 없습니다.", e.getMessage());
+		assertEquals(1, userRepository.findById("admin").orElseThrow().getUserLevel());
+	}
+
+	@Test
+	void secondJobIsRejectedWhileFirstIsRunning() throws InterruptedException {
+		CountDownLatch applying = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			applying.countDown(); // 커밋 후 반영 단계에서 멈춤 (아직 진행 중)
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(currentUserCache).evictAll(anyCollection());
+
+		UserBulkJob first = userBulkService.start(relevel(3, "alice", "bob"), "admin");
+		assertNotNull(first);
+		assertTrue(applying.await(5, TimeUnit.SECONDS));
+		assertNull(userBulkService.start(relevel(2, "carol"), "admin"));
+
+		release.countDown();
+		waitUntilFinished(first);
+		assertEquals(UserBulkJob.Status.COMPLETED, first.getStatus());
+		assertEquals(2, first.getAffectedUsers());
+		assertEquals(3, userRepository.findById("alice").orElseThrow().getUserLevel());
+
+		UserBulkJob next = userBulkService.start(relevel(2, "carol"), "admin"); // 끝난 뒤에는 다시 허용
+		waitUntilFinished(next);
+		assertEquals(UserBulkJob.Status.COMPLETED, next.getStatus());
+	}
+
+	@Test
+	void failureRollsBackEveryChunkAndSkipsInMemoryUpdates() throws InterruptedException {
+		when(userImageRepository.deleteAllByUserIdIn(anyCollection())).thenThrow(new IllegalStateException("이미지 삭제 실패"));
+
+		UserBulkRequest request = new UserBulkRequest();
+		request.setAction(UserBulkRequest.Action.DELETE);
+		request.setUserIds(List.of("alice", "bob"));
+		request.setPostAction(UserBulkRequest.PostAction.DELETE);
+		UserBulkJob job = userBulkService.start(request, "admin");
+		waitUntilFinished(job);
+
+		assertEquals(UserBulkJob.Status.FAILED, job.getStatus());
+		assertEquals("이미지 삭제 실패", job.getError());
+		assertTrue(userRepository.existsById("alice"));
+		assertTrue(userRepository.existsById("bob"));
+		assertEquals(2, boardRepository.count()); // 먼저 실행된 게시글 삭제도 롤백
+		verify(userExistenceFilter, never()).removeUser(any(), any());
+		verifyNoInteractions(boardSearchIndex, boardEventHub);
+	}
+
+	private static void waitUntilFinished(UserBulkJob job) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (job.getStatus() == UserBulkJob.Status.RUNNING && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static UserBulkRequest relevel(int level, String... userIds) {
+		UserBulkRequest request = new UserBulkRequest();
+		request.setAction(UserBulkRequest.Action.RELEVEL);
+		request.setUserIds(List.of(userIds));
+		request.setUserLevel(level);
+		return request;
+	}
+
+	private static UserEntity user(String userId) {
+		UserEntity user = new UserEntity();
+		user.setUserId(userId);
+		user.setUserName(userId);
+		user.setUserNickname(userId);
+		user.setUserPassword("x");
+		user.setUserLevel(1);
+		user.setCreatedBy(userId);
+		user.setUpdatedBy(userId);
+		user.setCreatedDate(LocalDateTime.now());
+		user.setUpdatedDate(LocalDateTime.now());
+		return user;
+	}
+
+	private BoardEntity board(String userId) {
+		BoardEntity board = new BoardEntity();
+		board.setBoardCategory(1);
+		board.setBoardTitle("제목");
+		board.setBoardWrite("본문");
+		board.setUser(userRepository.findById(userId).orElseThrow());
+		board.setCreatedBy(userId);
+		board.setUpdatedBy(userId);
+		return board;
+	}
+}
@@ -0,0 +1,62 @@
+package com.demo.users;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class UserCursorTest {
+
+	@Test
+	void createdCursorRoundTrip() {
+		LocalDateTime createdDate = LocalDateTime.of(2024, 3, 1, 12, 30, 15);
+		UserCursor decoded = UserCursor.decode(
+				new UserCursor(UserCursor.Sort.CREATED, createdDate.toString(), "alice").encode(), UserCursor.Sort.CREATED);
+
+		assertEquals(UserCursor.Sort.CREATED, decoded.getSort());
+		assertEquals(createdDate, decoded.getCreatedDate());
+		assertEquals("alice", decoded.getUserId());
+	}
+
+	@Test
+	void levelCursorKeepsSeparatorInUserId() {
+		UserCursor decoded = UserCursor.decode(
+				new UserCursor(UserCursor.Sort.LEVEL, "3", "a|b").encode(), UserCursor.Sort.LEVEL);
+
+		assertEquals(3, decoded.getUserLevel());
+		assertEquals("a|b", decoded.getUserId());
+	}
+
+	@Test
+	void blankCursorMeansFirstPage() {
+		assertNull(UserCursor.decode(null, UserCursor.Sort.LEVEL));
+		assertNull(UserCursor.decode("", UserCursor.Sort.LEVEL));
+	}
+
+	@Test
+	void cursorFromOtherSortIsRejected() {
+		String cursor = new UserCursor(UserCursor.Sort.LEVEL, "3", "alice").encode();
+		assertThrows(IllegalArgumentException.class, () -> UserCursor.decode(cursor, UserCursor.Sort.CREATED));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "not base64!", "%%%" })
+	void malformedCursorIsRejected(String cursor) {
+		assertThrows(IllegalArgumentException.class, () -> UserCursor.decode(cursor, UserCursor.Sort.CREATED));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "LEVEL|high|alice", "LEVEL|3", "ADMIN|3|alice", "|3|alice", "LEVEL||alice",
+			"CREATED|2024-03-01T12:30|alice" })
+	void tamperedCursorIsRejected(String raw) {
+		String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> UserCursor.decode(cursor, UserCursor.Sort.LEVEL));
+	}
+}
@@ -0,0 +1,122 @@
+package com.demo.users;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UserImageServiceTest {
+
+	@TempDir
+	Path root;
+
+	private ProfileImageStore store;
+	private UserImageService service;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		store = new ProfileImageStore(root.toString(), 5 * 1024 * 1024);
+		service = new UserImageService(mock(UserImageRepository.class), mock(UserRepository.class), store, 1000, 500_000);
+	}
+
+	@Test
+	void acceptsImageWithinLimits() throws IOException {
+		byte[] png = png(new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB));
+
+		String hash = service.storeImage("alice", new ByteArrayInputStream(png), png.length, "image/png");
+		assertTrue(store.exists(hash));
+	}
+
+	@Test
+	void rejectsDecompressionBombBeforeDecoding() throws IOException {
+		byte[] bomb = pngHeader(100_000, 100_000); // 수십 바이트로 400억 바이트 버퍼를 선언
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> service.storeImage("alice", new ByteArrayInputStream(bomb), bomb.length, "image/png"));
+		assertTrue(e.getMessage().contains("1000"));
+		assertEquals(0, storedFiles()); // 거부된 업로드는 저장소에 남지 않음
+	}
+
+	@Test
+	void rejectsTooManyPixelsEvenWhenEachSideFits() throws IOException {
+		byte[] png = png(new BufferedImage(1000, 600, BufferedImage.TYPE_INT_RGB)); // 60만 픽셀 > 50만
+
+		assertThrows(IllegalArgumentException.class,
+				() -> service.storeImage("alice", new ByteArrayInputStream(png), png.length, "image/png"));
+		assertEquals(0, storedFiles());
+	}
+
+	@Test
+	void rejectsContentThatIsNotAnAllowedImage() {
+		byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>"
+				.getBytes(StandardCharsets.UTF_8);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> service.storeImage("alice", new ByteArrayInputStream(svg), svg.length, "image/png"));
+		assertEquals(0, storedFiles());
+	}
+
+	private long storedFiles() {
+		try (Stream<Path> files = Files.walk(root)) {
+			return files.filter(Files::isRegularFile).count();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] png(BufferedImage image) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+
+	// 헤더(IHDR)에 큰 크기를 선언하고 픽셀 데이터는 거의 없는 PNG
+	private static byte[] pngHeader(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(out);
+		data.write(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' });
+		ByteArrayOutputStream ihdr = new ByteArrayOutputStream();
+		DataOutputStream header = new DataOutputStream(ihdr);
+		header.writeInt(width);
+		header.writeInt(height);
+		header.write(new byte[] { 8, 2, 0, 0, 0 }); // 8비트 RGB
+		chunk(data, "IHDR", ihdr.toByteArray());
+		Deflater deflater = new Deflater();
+		deflater.setInput(new byte[1024]);
+		deflater.finish();
+		byte[] compressed = new byte[1024];
+		chunk(data, "IDAT", Arrays.copyOf(compressed, deflater.deflate(compressed)));
+		chunk(data, "IEND", new byte[0]);
+		return out.toByteArray();
+	}
+
+	private static void chunk(DataOutputStream out, String type, byte[] body) throws IOException {
+		byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+		CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(body);
+		out.writeInt(body.length);
+		out.write(typeBytes);
+		out.write(body);
+		out.writeInt((int) crc.getValue());
+	}
+}
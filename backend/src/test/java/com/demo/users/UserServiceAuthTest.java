@@ -0,0 +1,175 @@
+package com.demo.users;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.demo.auth.AuthTokenService;
+import com.demo.auth.AuthUser;
+import com.demo.auth.LoginUserArgumentResolver;
+import com.demo.auth.PasswordHasher;
+import com.demo.auth.PasswordVerificationExecutor;
+import com.demo.boards.BoardQueryCache;
+import com.demo.boards.BoardSearchIndex;
+import com.demo.common.NdjsonExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class UserServiceAuthTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final PasswordResetNotifier notifier = mock(PasswordResetNotifier.class);
+	private final PasswordHasher hasher = new PasswordHasher(1000);
+	private final PasswordVerificationExecutor executor = new PasswordVerificationExecutor(1, 1);
+	private final UserService userService = new UserService(userRepository, mock(UserImageService.class), hasher,
+			executor, mock(UserExistenceFilter.class), mock(BoardQueryCache.class), mock(BoardSearchIndex.class),
+			mock(CurrentUserCache.class), notifier, Duration.ofMinutes(30));
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void wrongPasswordAndUnknownUserFailTheSameWay() {
+		when(userRepository.findCredentialById("alice"))
+				.thenReturn(Optional.of(new UserCredential("alice", hasher.hash("right"), "alice", 1)));
+		when(userRepository.findCredentialById("nobody")).thenReturn(Optional.empty());
+
+		assertNull(userService.authenticate("alice", "wrong").join());
+		assertNull(userService.authenticate("nobody", "wrong").join());
+		assertNull(userService.authenticate(null, "wrong").join());
+		verify(userRepository, never()).updatePasswordIfUnchanged(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	void successfulLoginRehashesLegacyPasswordOnlyOnce() {
+		when(userRepository.findCredentialById("alice"))
+				.thenReturn(Optional.of(new UserCredential("alice", "plain-password", "앨리스", 2)));
+
+		AuthUser user = userService.authenticate("alice", "plain-password").join();
+		assertEquals("앨리스", user.getUserNickname());
+		assertEquals(2, user.getUserLevel());
+		verify(userRepository).updatePasswordIfUnchanged(eq("alice"), eq("plain-password"), startsWith("pbkdf2$1000$"));
+
+		when(userRepository.findCredentialById("bob"))
+				.thenReturn(Optional.of(new UserCredential("bob", hasher.hash("pw"), "bob", 1)));
+		assertNotNull(userService.authenticate("bob", "pw").join());
+		verify(userRepository, never()).updatePasswordIfUnchanged(eq("bob"), anyString(), anyString()); // 현재 형식은 재해시 안 함
+	}
+
+	@Test
+	void resetCodeIsSingleUse() {
+		UserEntity user = user("alice");
+		when(userRepository.findByUserNicknameAndUserId("alice", "alice")).thenReturn(user);
+		when(userRepository.findById("alice")).thenReturn(Optional.of(user));
+
+		assertTrue(userService.requestPasswordReset("alice", "alice"));
+		String code = sentCode();
+		assertNotNull(user.getResetCodeHash());
+		assertFalse(user.getResetCodeHash().contains(code)); // 원문은 저장하지 않음
+
+		assertFalse(userService.resetPassword("alice", code + "x", "new-password"));
+		assertTrue(userService.resetPassword("alice", code, "new-password"));
+		assertTrue(hasher.matches("new-password", user.getUserPassword()));
+		assertNull(user.getResetCodeHash());
+		assertFalse(userService.resetPassword("alice", code, "again")); // 같은 코드 재사용 불가
+	}
+
+	@Test
+	void expiredResetCodeIsRejectedAndCleared() {
+		UserEntity user = user("alice");
+		when(userRepository.findByUserNicknameAndUserId("alice", "alice")).thenReturn(user);
+		when(userRepository.findById("alice")).thenReturn(Optional.of(user));
+		userService.requestPasswordReset("alice", "alice");
+		String code = sentCode();
+
+		user.setResetExpiresDate(LocalDateTime.now().minusSeconds(1));
+		assertFalse(userService.resetPassword("alice", code, "new-password"));
+		assertNull(user.getResetCodeHash());
+		assertEquals("old", user.getUserPassword());
+	}
+
+	@Test
+	void unknownUserGetsNoResetCode() {
+		assertFalse(userService.requestPasswordReset("alice", "mallory"));
+		verify(notifier, never()).send(anyString(), anyString(), any());
+	}
+
+	@Test
+	void fullVerificationQueueRejectsLoginWith503() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+		executor.submit(() -> {
+			running.countDown();
+			return await(release);
+		}); // 스레드 1개 점유
+		assertTrue(running.await(5, TimeUnit.SECONDS));
+		executor.submit(() -> await(release)); // 대기열 1칸 점유
+		when(userRepository.findCredentialById("alice")).thenReturn(Optional.empty());
+
+		CompletionException e = assertThrows(CompletionException.class,
+				() -> userService.authenticate("alice", "pw").join());
+		assertTrue(e.getCause() instanceof RejectedExecutionException);
+
+		UserController controller = new UserController(userService, mock(UserImageService.class),
+				new AuthTokenService("", Duration.ofHours(1), new ObjectMapper()), mock(LoginUserArgumentResolver.class),
+				mock(NdjsonExporter.class), executor, mock(UserBulkService.class));
+		UserEntity login = new UserEntity();
+		login.setUserId("alice");
+		login.setUserPassword("pw");
+		ResponseEntity<?> response = controller.login(login, new MockHttpServletRequest()).join();
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+		assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+		assertEquals(2L, executor.stats().get("rejected"));
+		release.countDown();
+	}
+
+	private String sentCode() {
+		ArgumentCaptor<String> code = ArgumentCaptor.forClass(String.class);
+		verify(notifier).send(eq("alice"), code.capture(), any());
+		return code.getValue();
+	}
+
+	private static Boolean await(CountDownLatch latch) {
+		try {
+			return latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static UserEntity user(String userId) {
+		UserEntity user = new UserEntity();
+		user.setUserId(userId);
+		user.setUserNickname(userId);
+		user.setUserPassword("old");
+		return user;
+	}
+}
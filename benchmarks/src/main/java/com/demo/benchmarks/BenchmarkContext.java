@@ -0,0 +1,69 @@
+package com.demo.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.demo.BackendApplication;
+import com.demo.config.SyntheticDataGenerator;
+
+/**
+ * BenchmarkContext 클래스
+ * H2 인메모리 DB 로 애플리케이션 컨텍스트를 띄우고 벤치마크 데이터를 채웁니다.
+ * 같은 JVM(fork) 안의 벤치마크는 같은 크기라면 컨텍스트를 재사용합니다.
+ * - 사용자: 게시글 50건당 1명 (최소 100명), 비밀번호는 모두 PASSWORD
+ * - 게시글: SyntheticDataGenerator 의 치우친 분포 (카테고리, 작성자)
+ */
+public final class BenchmarkContext {
+
+    public static final String PASSWORD = "bench-password"; // 모든 사용자의 비밀번호
+
+    private static ConfigurableApplicationContext context;
+    private static int seededBoards = -1;
+    private static int seededUsers;
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * 컨텍스트 시작 (이미 같은 크기로 시작했으면 재사용)
+     * @param boardCount 게시글 수
+     * @return 애플리케이션 컨텍스트
+     */
+    public static synchronized ConfigurableApplicationContext start(int boardCount) {
+        if (context != null && seededBoards == boardCount) {
+            return context;
+        }
+        stop();
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("bench")
+                .web(WebApplicationType.NONE)
+                .run();
+        seed(boardCount);
+        seededBoards = boardCount;
+        return context;
+    }
+
+    public static synchronized void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+            seededBoards = -1;
+        }
+    }
+
+    // 벤치마크 사용자 ID (0 부터)
+    public static String userId(int index) {
+        return SyntheticDataGenerator.userId(index);
+    }
+
+    public static synchronized int userCount() {
+        return seededUsers;
+    }
+
+    private static void seed(int boardCount) {
+        int userCount = Math.max(100, boardCount / 50);
+        context.getBean(SyntheticDataGenerator.class).generate(userCount, boardCount, PASSWORD);
+        seededUsers = userCount;
+    }
+}
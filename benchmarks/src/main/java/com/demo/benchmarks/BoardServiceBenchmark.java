@@ -0,0 +1,107 @@
+package com.demo.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.demo.boards.BoardEntity;
+import com.demo.boards.BoardQueryCache;
+import com.demo.boards.BoardService;
+import com.demo.boards.BoardSummary;
+import com.demo.common.CursorPage;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * BoardServiceBenchmark 클래스
+ * 게시글 목록(첫 페이지, 깊은 페이지, 카테고리)과 상세 조회 비용을 측정합니다.
+ * Uncached 벤치마크는 호출마다 조회 캐시를 비워 DB 조회 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardServiceBenchmark {
+
+    @Param({"10000", "100000"})
+    int boardCount;
+
+    @Param({"10", "50"})
+    int pageSize;
+
+    private BoardService boardService;
+    private BoardQueryCache boardQueryCache;
+    private List<Long> boardNumbers;
+    private String deepCursor; // 약 1,000번째 게시글 이후 페이지 커서
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.start(boardCount);
+        boardService = context.getBean(BoardService.class);
+        boardQueryCache = context.getBean(BoardQueryCache.class);
+        try (var entityManager = context.getBean(EntityManagerFactory.class).createEntityManager()) {
+            boardNumbers = entityManager.createQuery("SELECT b.boardNumber FROM BoardEntity b", Long.class).getResultList();
+        }
+        String cursor = null;
+        for (int i = 0; i < 1000 / BoardService.MAX_PAGE_SIZE; i++) {
+            cursor = boardService.getAllBoards(cursor, BoardService.MAX_PAGE_SIZE).getNextCursor();
+        }
+        deepCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        boardQueryCache.evictAll();
+    }
+
+    @Benchmark
+    public CursorPage<BoardSummary> listFirstPageCached() {
+        return boardService.getAllBoards(null, pageSize);
+    }
+
+    @Benchmark
+    public CursorPage<BoardSummary> listFirstPageUncached() {
+        boardQueryCache.evictAll();
+        return boardService.getAllBoards(null, pageSize);
+    }
+
+    @Benchmark
+    public CursorPage<BoardSummary> listDeepPageUncached() {
+        boardQueryCache.evictAll();
+        return boardService.getAllBoards(deepCursor, pageSize);
+    }
+
+    @Benchmark
+    public CursorPage<BoardSummary> categoryPageUncached() {
+        boardQueryCache.evictAll();
+        return boardService.getBoardsByCategory(4, null, pageSize); // 가장 드문 카테고리
+    }
+
+    @Benchmark
+    public BoardEntity detailCached() {
+        return boardService.getBoardDetail(boardNumbers.get(0));
+    }
+
+    @Benchmark
+    public BoardEntity detailUncached() {
+        boardQueryCache.evictAll();
+        return boardService.getBoardDetail(boardNumbers.get(ThreadLocalRandom.current().nextInt(boardNumbers.size())));
+    }
+}
@@ -0,0 +1,109 @@
+package com.demo.benchmarks;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ExecutionModeBenchmark 클래스
+ * 스레드-요청 방식(Tomcat 기본 최대 200 스레드)과 가상 스레드 방식으로
+ * 동시 요청 묶음을 처리하는 시간을 비교합니다. (virtual 은 JDK 21 이상 필요)
+ * - db: 커넥션을 잡고 조회 후 DB 응답 지연만큼 대기 (DB 동시 사용 제한의 영향을 받음)
+ * - remote: 커넥션 없이 외부 호출 지연만큼 대기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int PLATFORM_THREADS = 200; // server.tomcat.threads.max 기본값
+
+    @Param({"platform", "virtual"})
+    String mode;
+
+    @Param({"db", "remote"})
+    String work;
+
+    @Param({"1000"})
+    int requests; // 한 번에 처리할 동시 요청 수
+
+    @Param({"5"})
+    int latencyMillis; // DB/외부 호출 응답 지연
+
+    private DataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = BenchmarkContext.start(10000).getBean(DataSource.class);
+        if ("virtual".equals(mode)) {
+            // JDK 17 로도 컴파일되도록 리플렉션으로 생성
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long handleRequests() throws Exception {
+        List<Callable<Long>> tasks = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int category = 1 + i % 4;
+            tasks.add("db".equals(work) ? () -> queryWithLatency(category) : this::remoteCall);
+        }
+        long total = 0;
+        for (Future<Long> result : executor.invokeAll(tasks)) {
+            total += result.get();
+        }
+        return total;
+    }
+
+    private long queryWithLatency(int category) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT COUNT(*) FROM BOARD_TB WHERE BOARD_CATEGORY = ?")) {
+            statement.setInt(1, category);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                Thread.sleep(latencyMillis); // Oracle 응답 지연 흉내
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private long remoteCall() throws InterruptedException {
+        Thread.sleep(latencyMillis);
+        return 1;
+    }
+}
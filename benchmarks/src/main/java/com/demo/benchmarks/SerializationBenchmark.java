@@ -0,0 +1,161 @@
+package com.demo.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.demo.boards.BoardEntity;
+import com.demo.boards.BoardSummary;
+import com.demo.users.UserEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * SerializationBenchmark 클래스
+ * API 응답과 같은 Jackson 설정으로 게시글/사용자 객체 그래프의 직렬화 비용을 측정합니다.
+ * - 게시글: 작성자를 포함한 BoardEntity 목록과 목록 프로젝션(BoardSummary) 비교
+ * - 사용자: 현재 UserEntity(이미지는 저장소 키만 보관)와
+ *   이미지 바이트를 엔티티에 담던 이전 형태(LegacyUser) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "50", "1000"})
+    int size; // 목록 크기
+
+    @Param({"51200"})
+    int imageBytes; // 이전 형태의 프로필 이미지 크기
+
+    private ObjectMapper objectMapper;
+    private List<BoardEntity> boards;
+    private List<BoardSummary> summaries;
+    private List<UserEntity> users;
+    private List<LegacyUser> legacyUsers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build(); // Spring Boot 와 같은 기본 설정
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDateTime now = LocalDateTime.now();
+
+        users = new ArrayList<>(size);
+        legacyUsers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserEntity user = new UserEntity();
+            user.setUserId("user" + i);
+            user.setUserName("사용자" + i);
+            user.setUserNickname("닉네임" + i);
+            user.setUserPassword("pbkdf2$310000$c2FsdA$aGFzaA");
+            user.setUserImageHash("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08");
+            user.setUserLevel(1);
+            user.setCreatedDate(now);
+            user.setCreatedBy("System");
+            user.setUpdatedDate(now);
+            user.setUpdatedBy("System");
+            users.add(user);
+
+            byte[] image = new byte[imageBytes];
+            random.nextBytes(image);
+            legacyUsers.add(new LegacyUser(user, image));
+        }
+
+        boards = new ArrayList<>(size);
+        summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserEntity author = users.get(i % users.size());
+            BoardEntity board = new BoardEntity();
+            board.setBoardNumber((long) i);
+            board.setBoardCategory(1 + i % 4);
+            board.setBoardTitle("직렬화 벤치마크 게시글 제목 " + i);
+            board.setBoardWrite("카페 게시판 본문 ".repeat(30));
+            board.setUser(author);
+            board.setCreatedDate(now);
+            board.setCreatedBy(author.getUserId());
+            board.setUpdatedDate(now);
+            board.setUpdatedBy(author.getUserId());
+            boards.add(board);
+            summaries.add(new BoardSummary(board.getBoardNumber(), board.getBoardCategory(), board.getBoardTitle(),
+                    board.getBoardWrite().substring(0, 30), author.getUserId(), author.getUserNickname(), now, now));
+        }
+    }
+
+    @Benchmark
+    public byte[] boardEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boards);
+    }
+
+    @Benchmark
+    public byte[] boardSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+
+    @Benchmark
+    public byte[] usersWithoutImages() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] usersWithImages() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(legacyUsers);
+    }
+
+    // 이미지 바이트를 응답에 포함하던 이전 사용자 응답 형태
+    public static class LegacyUser {
+        private final UserEntity user;
+        private final byte[] userImage;
+
+        LegacyUser(UserEntity user, byte[] userImage) {
+            this.user = user;
+            this.userImage = userImage;
+        }
+
+        public String getUserId() {
+            return user.getUserId();
+        }
+
+        public String getUserName() {
+            return user.getUserName();
+        }
+
+        public String getUserNickname() {
+            return user.getUserNickname();
+        }
+
+        public Integer getUserLevel() {
+            return user.getUserLevel();
+        }
+
+        public LocalDateTime getCreatedDate() {
+            return user.getCreatedDate();
+        }
+
+        public LocalDateTime getUpdatedDate() {
+            return user.getUpdatedDate();
+        }
+
+        public byte[] getUserImage() {
+            return userImage;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.demo.auth.AuthUser;
+import com.demo.users.UserService;
+
+/**
+ * UserServiceBenchmark 클래스
+ * 로그인 인증(자격 증명 조회 + 전용 스레드 풀에서의 PBKDF2 검증) 비용을 측정합니다.
+ * 반복 횟수는 운영 설정(cafe.auth.password-iterations)을 그대로 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private UserService userService;
+    private int userCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userService = BenchmarkContext.start(10000).getBean(UserService.class);
+        userCount = BenchmarkContext.userCount();
+    }
+
+    @Benchmark
+    public AuthUser authenticateValid() {
+        return userService.authenticate(randomUserId(), BenchmarkContext.PASSWORD).join();
+    }
+
+    @Benchmark
+    public AuthUser authenticateWrongPassword() {
+        return userService.authenticate(randomUserId(), "wrong-password").join();
+    }
+
+    @Benchmark
+    public AuthUser authenticateUnknownUser() {
+        return userService.authenticate("no-such-user", BenchmarkContext.PASSWORD).join();
+    }
+
+    // 동시 로그인 시 검증 스레드 풀 대기 시간 포함
+    @Benchmark
+    @Threads(8)
+    public AuthUser authenticateValidConcurrent() {
+        return userService.authenticate(randomUserId(), BenchmarkContext.PASSWORD).join();
+    }
+
+    private String randomUserId() {
+        return BenchmarkContext.userId(ThreadLocalRandom.current().nextInt(userCount));
+    }
+}
@@ -1,6 +1,7 @@
-import React, { useEffect, useState } from 'react';
-import { Link, Route, Routes, useNavigate } from 'react-router-dom';
+import React, { useCallback, useEffect, useRef, useState } from 'react';
+import { Link, Route, Routes, useLocation, useNavigate } from 'react-router-dom';
 import './App.css';
+import { subscribeBoardEvents } from './boardStream';
 import BoardDetail from './component/BoardDetail';
 import BoardList from './component/BoardList';
 import CreatePost from './component/CreatePost';
@@ -17,9 +18,15 @@ function App() {
     const [user, setUser] = useState(null); // 사용자 정보를 저장하는 상태
     const [postCount, setPostCount] = useState(0); // 사용자가 작성한 게시물 수를 저장하는 상태
     const [error, setError] = useState(null); // 에러 메시지를 저장하는 상태
+    const [initialPage, setInitialPage] = useState({ pending: true, category: null, page: null }); // 첫 화면 목록 (목록 화면에서 한 번 사용)
+    const postCountLoadedFor = useRef(null); // 초기 데이터로 게시물 수를 받은 사용자 ID
     const navigate = useNavigate(); // 페이지 이동을 위한 훅
+    const location = useLocation();
 
-    // 컴포넌트가 처음 마운트될 때 사용자 정보를 가져오는 useEffect
+    // 첫 화면 목록을 목록 화면이 사용하면 비움 (이후 목록 화면은 직접 조회)
+    const consumeInitialPage = useCallback(() => setInitialPage(null), []);
+
+    // 컴포넌트가 처음 마운트될 때 사용자 정보, 게시물 수, 첫 목록 페이지를 한 번에 가져오는 useEffect
     useEffect(() => {
         const fetchCurrentUser = async () => {
             try {
@@ -43,15 +50,39 @@ function App() {
             }
         };
     
-        fetchCurrentUser(); // 함수 호출
-    }, []);
+        const fetchBootstrap = async () => {
+            // 목록 화면으로 진입한 경우에만 해당 카테고리 첫 페이지를 함께 요청
+            const match = location.pathname.match(/^\/boards\/category\/([^/]+)$/);
+            const category = location.pathname === '/' ? 'all' : (match ? match[1] : null);
+            try {
+                const query = category ? `?size=10&category=${encodeURIComponent(category)}` : '?size=10';
+                const response = await fetch(`http://localhost:8080/app/bootstrap${query}`, { credentials: 'include' });
+                if (!response.ok) {
+                    throw new Error('서버 응답에 문제가 있습니다.');
+                }
+                const data = await response.json();
+                if (data.user) {
+                    postCountLoadedFor.current = data.user.userId;
+                    setPostCount(data.postCount);
+                }
+                setUser(data.user);
+                setInitialPage({ pending: false, category, page: data.page });
+            } catch (error) {
+                console.error('초기 데이터를 가져오는 중 오류 발생:', error);
+                setInitialPage(null); // 목록은 목록 화면에서 직접 조회
+                fetchCurrentUser(); // 사용자 정보만 따로 조회 (게시물 수는 아래 useEffect 에서 조회)
+            }
+        };
+
+        fetchBootstrap(); // 함수 호출
+    }, []); // eslint-disable-line react-hooks/exhaustive-deps
     
     // 사용자의 게시물 수를 가져오는 useEffect
     useEffect(() => {
         const fetchPostCount = async () => {
             if (user) { // 사용자가 로그인되어 있을 때만 실행
                 try {
-                    const response = await fetch(`http://localhost:8080/boards/count/${user.userId}`);
+                    const response = await fetch(`http://localhost:8080/boards/count/${user.userId}`, { credentials: 'include' });
                     if (response.ok) {
                         const data = await response.json();
                         setPostCount(data); // 게시물 수 상태에 저장
@@ -64,7 +95,21 @@ function App() {
                 }
             }
         };
-        fetchPostCount();
+        if (!user) {
+            postCountLoadedFor.current = null;
+        } else if (postCountLoadedFor.current !== user.userId) {
+            fetchPostCount(); // 초기 데이터로 받지 못한 경우 (로그인 직후 등)
+        }
+
+        // 내 게시글이 작성/삭제되면 게시물 수 다시 조회 (다른 탭/기기에서의 변경 포함)
+        if (!user) {
+            return undefined;
+        }
+        return subscribeBoardEvents((type, data) => {
+            if (type === 'resync' || ((type === 'created' || type === 'deleted') && data && data.userId === user.userId)) {
+                fetchPostCount();
+            }
+        });
     }, [user]);
 
     return (
@@ -94,8 +139,8 @@ function App() {
             {/* 메인 페이지 라우팅 설정 */}
             <main>
                 <Routes>
-                    <Route path="/" element={<BoardList category="all" user={user}/>} />
-                    <Route path="/boards/category/:category" element={<BoardList user={user} />} />
+                    <Route path="/" element={<BoardList category="all" user={user} initialPage={initialPage} onInitialPageUsed={consumeInitialPage}/>} />
+                    <Route path="/boards/category/:category" element={<BoardList user={user} initialPage={initialPage} onInitialPageUsed={consumeInitialPage} />} />
                     <Route path="/register" element={<Register />} />
                     <Route path="/login" element={<Login setUser={setUser} />} />
                     <Route path="/find-id" element={<FindId />} />
@@ -160,13 +205,12 @@ function RenderAside({ user, setUser, postCount, error }) {
                 </div>
             ) : (
                 <div className="user-info">
-                    {user.userImage && (
-                        <img
-                            src={`data:image/jpeg;base64,${user.userImage}`}
-                            alt="프로필 이미지"
-                            style={{ width: '100px', height: '100px', borderRadius: '50%' }}
-                        />
-                    )}
+                    <img
+                        src={`http://localhost:8080/users/${user.userId}/image?size=medium`}
+                        alt="프로필 이미지"
+                        style={{ width: '100px', height: '100px', borderRadius: '50%' }}
+                        onError={(e) => { e.target.style.display = 'none'; }} // 이미지가 없으면 숨김
+                    />
                     <p>닉네임 : {user.userNickname}</p>
                     <p>아이디 : {user.userId}</p>
                     <p>레벨   : {user.userLevel}</p>
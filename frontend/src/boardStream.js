@@ -0,0 +1,45 @@
+// 게시글 변경 알림(SSE) 구독 모듈
+// 화면 여러 곳에서 구독해도 EventSource 연결은 하나만 유지하고, 구독자가 없으면 연결을 닫음
+
+const STREAM_URL = 'http://localhost:8080/boards/stream';
+const EVENT_TYPES = ['created', 'updated', 'deleted', 'resync'];
+
+const listeners = new Set();
+let source = null;
+
+// 서버 알림을 모든 구독자에게 전달
+const dispatch = (type, event) => {
+    let data = null;
+    try {
+        data = event.data ? JSON.parse(event.data) : null;
+    } catch (e) {
+        data = event.data;
+    }
+    listeners.forEach(listener => listener(type, data));
+};
+
+const open = () => {
+    source = new EventSource(STREAM_URL, { withCredentials: true });
+    EVENT_TYPES.forEach(type => source.addEventListener(type, event => dispatch(type, event)));
+    // 연결이 끊기면 EventSource 가 자동으로 재연결하므로, 재연결 사이에 놓친 변경은 resync 로 처리
+    source.onerror = () => {
+        if (source.readyState === EventSource.CONNECTING) {
+            listeners.forEach(listener => listener('resync', null));
+        }
+    };
+};
+
+// 알림 구독 (listener(type, data)), 반환된 함수를 호출하면 구독 해제
+export const subscribeBoardEvents = (listener) => {
+    listeners.add(listener);
+    if (!source) {
+        open();
+    }
+    return () => {
+        listeners.delete(listener);
+        if (listeners.size === 0 && source) {
+            source.close();
+            source = null;
+        }
+    };
+};
@@ -20,7 +20,7 @@ function BoardDetail({ user }) {
         const fetchBoard = async () => {
             try {
                 // 서버에 해당 게시물 데이터를 요청
-                const response = await fetch(`http://localhost:8080/boards/detail/${boardNumber}`);
+                const response = await fetch(`http://localhost:8080/boards/detail/${boardNumber}`, { credentials: 'include' });
                 if (!response.ok) {
                     setError('게시물을 불러오는 중 오류가 발생했습니다.'); // 응답이 실패한 경우
                 } else { 
@@ -62,23 +62,34 @@ function BoardDetail({ user }) {
         if (isEditing) {
             // 수정 중인 상태에서 저장 버튼 클릭 시
             try {
-                // 서버에 게시물 수정 요청
-                const response = await fetch(`http://localhost:8080/boards/update/${boardNumber}`, {
-                    method: 'PUT',
+                // 바뀐 항목만 보냄 (변경이 없으면 요청하지 않음)
+                const changes = {};
+                if (editedTitle !== board.boardTitle) changes.boardTitle = editedTitle;
+                if (editedContent !== board.boardWrite) changes.boardWrite = editedContent;
+                if (Object.keys(changes).length === 0) {
+                    setIsEditing(false);
+                    return;
+                }
+
+                // 서버에 게시물 부분 수정 요청 (열람 시점의 버전과 같을 때만 적용)
+                const response = await fetch(`http://localhost:8080/boards/${boardNumber}`, {
+                    method: 'PATCH',
                     headers: {
                         'Content-Type': 'application/json',
                     },
-                    body: JSON.stringify({
-                        boardTitle: editedTitle, // 수정된 제목
-                        boardWrite: editedContent, // 수정된 내용
-                    }),
+                    credentials: 'include', // 쿠키 포함
+                    body: JSON.stringify({ ...changes, version: board.version }),
                 });
 
                 if (response.ok) {
-                    const updatedBoard = await response.json(); // 수정된 게시물 데이터
-                    setBoard(updatedBoard); // 수정된 데이터를 상태에 저장
+                    const result = await response.json(); // 새 버전과 수정 날짜
+                    setBoard({ ...board, ...changes, version: result.currentVersion, updatedDate: result.updatedDate });
                     setIsEditing(false); // 수정 모드 종료
                     alert('게시물이 수정되었습니다.'); // 수정 성공 시 알림
+                } else if (response.status === 409) {
+                    alert('다른 사용자가 먼저 수정했습니다. 새로고침 후 다시 시도해 주세요.'); // 버전 충돌
+                } else if (response.status === 403) {
+                    alert('작성자만 수정할 수 있습니다.');
                 } else {
                     alert('게시물 수정에 실패했습니다.'); // 수정 실패 시 알림
                 }
@@ -138,6 +149,7 @@ function BoardDetail({ user }) {
             <p>작성자: {userNickname}</p>
             <p>작성일: {new Date(board.createdDate).toLocaleString()}</p>
             <p>수정일: {new Date(board.updatedDate).toLocaleString()}</p>
+            <p>조회수: {board.viewCount}</p>
 
             {/* 현재 사용자가 게시물 작성자이거나 관리자일 경우 수정/삭제 버튼 표시 */}
             {(user && (userId === user.userId || user.userLevel >= 4)) && (
@@ -1,19 +1,27 @@
 import React, { useEffect, useState } from 'react';
 import { Link, useNavigate, useParams } from 'react-router-dom';
 import '../App.css';
+import { subscribeBoardEvents } from '../boardStream';
+
+// URL 카테고리를 서버 카테고리 번호로 변환 (전체는 null)
+const CATEGORY_IDS = { free: 2, questions: 3, notice: 4 };
 
 // 게시판 목록 컴포넌트
-function BoardList({ user }) {  
+function BoardList({ user, initialPage, onInitialPageUsed }) {  
     // 현재 URL에서 카테고리 파라미터를 가져옴 (기본값: "all")
     const { category = "all" } = useParams(); 
     // 게시물 목록, 오류 메시지, 페이지 및 검색 관련 상태 변수
     const [boards, setBoards] = useState([]);
     const [error, setError] = useState(null);
     const [currentPage, setCurrentPage] = useState(0);
-    const [totalPages, setTotalPages] = useState(1); // 총 페이지 수
+    const [cursors, setCursors] = useState([null]); // 페이지별 조회 커서 (0페이지는 null)
+    const [hasNext, setHasNext] = useState(false); // 다음 페이지 존재 여부
     const [searchTerm, setSearchTerm] = useState(''); // 검색어 상태
+    const [activeQuery, setActiveQuery] = useState(''); // 서버 검색에 적용된 검색어
     const [searchCategory, setSearchCategory] = useState(category); // 검색에 사용될 카테고리
     const [selectedCategory, setSelectedCategory] = useState(category); // 검색 선택 카테고리
+    const [refreshKey, setRefreshKey] = useState(0); // 변경 알림 수신 시 현재 페이지 재조회
+    const [hasUpdates, setHasUpdates] = useState(false); // 첫 페이지가 아닐 때 새 변경 안내 표시
     const navigate = useNavigate(); // 페이지 이동을 위한 훅
 
     // 카테고리 ID를 한글 이름으로 변환하는 함수
@@ -36,29 +44,93 @@ function BoardList({ user }) {
         }
     };
 
-    // 게시물을 서버에서 가져오는 함수
+    // 카테고리가 바뀌면 첫 페이지부터 다시 조회
+    useEffect(() => {
+        setCurrentPage(0);
+        setCursors([null]);
+    }, [category]);
+
+    // 게시글 변경 알림 구독 (첫 페이지는 바로 재조회, 다른 페이지/검색 중에는 안내만 표시)
+    useEffect(() => {
+        const categoryId = CATEGORY_IDS[category] ?? null;
+        return subscribeBoardEvents((type, data) => {
+            if (type !== 'resync' && categoryId !== null && data && data.boardCategory !== categoryId) {
+                return; // 다른 카테고리의 변경
+            }
+            if (currentPage === 0 && !activeQuery) {
+                setRefreshKey(key => key + 1);
+            } else {
+                setHasUpdates(true);
+            }
+        });
+    }, [category, currentPage, activeQuery]);
+
+    const initialPagePending = Boolean(initialPage && initialPage.pending); // 앱 초기 데이터 응답 대기 중
+
+    // 조회한 목록 페이지 반영
+    const applyPage = (data) => {
+        setBoards(data.items); // 게시물 데이터 설정
+        setHasUpdates(false);
+        setHasNext(data.hasNext); // 다음 페이지 여부 설정
+        if (data.nextCursor) {
+            setCursors(prev => {
+                const next = prev.slice(0, currentPage + 1);
+                next[currentPage + 1] = data.nextCursor; // 다음 페이지 커서 저장
+                return next;
+            });
+        }
+    };
+
+    // 게시물을 서버에서 가져오는 함수 (커서 기반 페이지 단위 조회, 검색어가 있으면 서버 검색)
     useEffect(() => {
+        if (initialPage && !activeQuery && currentPage === 0) {
+            if (initialPagePending) {
+                return; // 앱 초기 데이터에 같은 첫 페이지가 포함되므로 중복 조회하지 않고 대기
+            }
+            onInitialPageUsed();
+            if (initialPage.page && initialPage.category === category) {
+                applyPage(initialPage.page); // 앱 초기 데이터의 첫 페이지 사용
+                return;
+            }
+        }
+
         const fetchBoards = async () => {
             try {
-                // 선택된 카테고리에 따라 API 호출
-                const response = await fetch(`http://localhost:8080/boards/category/${category}`);
+                if (activeQuery) {
+                    // 검색어가 적용된 경우 관련도순 검색 API 호출
+                    const response = await fetch(`http://localhost:8080/boards/search?q=${encodeURIComponent(activeQuery)}&category=${category}&page=${currentPage}&size=10`);
+                    if (!response.ok) {
+                        setError('서버에서 오류가 발생했습니다.');
+                    } else {
+                        const data = await response.json();
+                        setBoards(data.items.map(hit => hit.board)); // 검색 결과 설정
+                        setHasNext(data.hasNext); // 다음 페이지 여부 설정
+                    }
+                    return;
+                }
+
+                // 선택된 카테고리와 현재 페이지 커서에 따라 API 호출
+                const cursor = cursors[currentPage];
+                const query = cursor ? `?size=10&cursor=${encodeURIComponent(cursor)}` : '?size=10';
+                const response = await fetch(`http://localhost:8080/boards/category/${category}${query}`, { credentials: 'include' });
                 if (!response.ok) {
                     setError('서버에서 오류가 발생했습니다.');
                 } else {
-                    const data = await response.json();
-                    setBoards(data); // 게시물 데이터 설정
-                    setTotalPages(Math.ceil(data.length / 10)); // 페이지 수 계산
+                    applyPage(await response.json());
                 }
             } catch (err) {
                 setError('네트워크 오류가 발생했습니다.');
             }
         };
         fetchBoards(); // 게시물 데이터 가져오기
-    }, [category]);
+    }, [category, currentPage, activeQuery, refreshKey, initialPagePending]); // eslint-disable-line react-hooks/exhaustive-deps
 
-    // 검색 버튼 클릭 시 검색 카테고리를 설정하고 페이지 이동
+    // 검색 버튼 클릭 시 검색어를 적용하고 선택한 카테고리로 이동
     const handleSearch = () => {
         setSearchCategory(selectedCategory); 
+        setActiveQuery(searchTerm.trim()); // 빈 검색어면 일반 목록으로 복귀
+        setCurrentPage(0);
+        setCursors([null]);
         navigate(`/boards/category/${selectedCategory}`);
     };
 
@@ -86,20 +158,25 @@ function BoardList({ user }) {
     const noticeBoards = boards.filter(board => board.boardCategory === 4); // 공지사항
     const otherBoards = boards.filter(board => board.boardCategory !== 4); // 기타 게시물
 
-    // 기타 게시물을 최신순으로 정렬
-    otherBoards.sort((a, b) => new Date(b.updatedDate) - new Date(a.updatedDate));
+    // 검색 결과는 서버의 관련도순을 유지하고, 일반 목록은 최신순으로 정렬
+    if (!activeQuery) {
+        otherBoards.sort((a, b) => new Date(b.updatedDate) - new Date(a.updatedDate));
+    }
 
-    // 검색어가 포함된 게시물 필터링
-    const filteredBoards = [...noticeBoards, ...otherBoards].filter(board =>
-        board.boardTitle.includes(searchTerm) || board.boardWrite.includes(searchTerm)
-    );
+    // 서버가 페이지 단위로 내려주므로 그대로 표시
+    const displayedBoards = [...noticeBoards, ...otherBoards];
 
-    // 현재 페이지에 표시할 게시물 목록을 슬라이싱
-    const displayedBoards = filteredBoards.slice(currentPage * 10, (currentPage + 1) * 10);
+    // 새 변경 안내 클릭 시 첫 페이지부터 다시 조회
+    const handleShowUpdates = () => {
+        setHasUpdates(false);
+        setCurrentPage(0);
+        setCursors([null]);
+        setRefreshKey(key => key + 1);
+    };
 
     // 다음 페이지로 이동하는 함수
     const handleNextPage = () => {
-        if (currentPage < totalPages - 1) {
+        if (hasNext) {
             setCurrentPage(currentPage + 1);
         }
     };
@@ -142,6 +219,13 @@ function BoardList({ user }) {
                     {user && <button onClick={handleCreatePost}>글쓰기</button>}
                 </div>
             </div>                                                                                       
+
+            {/* 새 게시글/변경 안내 */}
+            {hasUpdates && (
+                <div className="board-controls">
+                    <button onClick={handleShowUpdates}>새 글이 있습니다. 목록 새로고침</button>
+                </div>
+            )}
             
             {/* 게시물 목록 테이블 */}
             <table>
@@ -167,11 +251,11 @@ function BoardList({ user }) {
                             </td>
                             <td>
                                 <Link to={`/boards/detail/${board.boardNumber}`}>
-                                    {board.boardWrite.substring(0, 10)}
+                                    {(board.boardPreview || '').substring(0, 10)}
                                 </Link>
                             </td>
                             <td>{new Date(board.updatedDate).toLocaleString()}</td>
-                            <td>{board.user?.userNickname}</td>
+                            <td>{board.userNickname}</td>
                         </tr>
                     ))}
                 </tbody>
@@ -182,8 +266,8 @@ function BoardList({ user }) {
                 <button onClick={handlePreviousPage} disabled={currentPage === 0}>
                     이전 페이지
                 </button>
-                <span>{currentPage + 1} / {totalPages}</span>
-                <button onClick={handleNextPage} disabled={currentPage === totalPages - 1}>
+                <span>{currentPage + 1}</span>
+                <button onClick={handleNextPage} disabled={!hasNext}>
                     다음 페이지
                 </button>
             </div>
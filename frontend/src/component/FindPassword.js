@@ -1,14 +1,17 @@
 import React, { useState } from 'react';
 import '../App.css';
 
-// 비밀번호 찾기 컴포넌트
+// 비밀번호 찾기 컴포넌트 (재설정 코드 요청 -> 코드로 새 비밀번호 설정)
 function FindPassword() {
-    // 닉네임, 아이디, 메시지를 위한 상태 변수
+    // 닉네임, 아이디, 재설정 코드, 새 비밀번호, 메시지를 위한 상태 변수
     const [nickname, setNickname] = useState(''); // 닉네임 입력
     const [userId, setUserId] = useState(''); // 사용자 아이디 입력
+    const [code, setCode] = useState(''); // 안내받은 재설정 코드 입력
+    const [newPassword, setNewPassword] = useState(''); // 새 비밀번호 입력
+    const [codeRequested, setCodeRequested] = useState(false); // 코드 요청 후 두 번째 단계 표시
     const [message, setMessage] = useState(''); // 결과 메시지
 
-    // 비밀번호 찾기 요청 함수
+    // 재설정 코드 요청 함수 (코드는 응답이 아닌 별도 경로로 안내됨)
     const handleFindPassword = async (e) => {
         e.preventDefault(); // 폼 기본 제출 동작 방지
         try {
@@ -22,32 +25,77 @@ function FindPassword() {
             });
             const result = await response.text(); // 서버 응답 메시지
             setMessage(result); // 메시지 상태 업데이트
+            setCodeRequested(response.ok);
         } catch (error) {
             setMessage('비밀번호 찾기 중 오류 발생.'); // 오류 발생 시 메시지 설정
         }
     };
 
+    // 재설정 코드로 비밀번호 변경 함수
+    const handleResetPassword = async (e) => {
+        e.preventDefault();
+        try {
+            const response = await fetch('http://localhost:8080/users/reset-password', {
+                method: 'POST',
+                headers: {
+                    'Content-Type': 'application/x-www-form-urlencoded',
+                },
+                body: new URLSearchParams({ userId, code, newPassword }),
+            });
+            const result = await response.text();
+            setMessage(result);
+            if (response.ok) {
+                setCodeRequested(false); // 변경 완료 후 처음 단계로
+                setCode('');
+                setNewPassword('');
+            }
+        } catch (error) {
+            setMessage('비밀번호 변경 중 오류 발생.');
+        }
+    };
+
     return (
         <div>
             <h2>비밀번호 찾기</h2>
-            {/* 비밀번호 찾기 폼 */}
-            <form onSubmit={handleFindPassword}>
-                <label>닉네임:</label>
-                <input
-                    type="text"
-                    value={nickname}
-                    onChange={(e) => setNickname(e.target.value)} // 닉네임 상태 업데이트
-                    required
-                />
-                <label>아이디:</label>
-                <input
-                    type="text"
-                    value={userId}
-                    onChange={(e) => setUserId(e.target.value)} // 아이디 상태 업데이트
-                    required
-                />
-                <button type="submit">비밀번호 찾기</button> {/* 제출 버튼 */}
-            </form>
+            {!codeRequested ? (
+                // 재설정 코드 요청 폼
+                <form onSubmit={handleFindPassword}>
+                    <label>닉네임:</label>
+                    <input
+                        type="text"
+                        value={nickname}
+                        onChange={(e) => setNickname(e.target.value)} // 닉네임 상태 업데이트
+                        required
+                    />
+                    <label>아이디:</label>
+                    <input
+                        type="text"
+                        value={userId}
+                        onChange={(e) => setUserId(e.target.value)} // 아이디 상태 업데이트
+                        required
+                    />
+                    <button type="submit">재설정 코드 요청</button> {/* 제출 버튼 */}
+                </form>
+            ) : (
+                // 새 비밀번호 설정 폼
+                <form onSubmit={handleResetPassword}>
+                    <label>재설정 코드:</label>
+                    <input
+                        type="text"
+                        value={code}
+                        onChange={(e) => setCode(e.target.value.trim())}
+                        required
+                    />
+                    <label>새 비밀번호:</label>
+                    <input
+                        type="password"
+                        value={newPassword}
+                        onChange={(e) => setNewPassword(e.target.value)}
+                        required
+                    />
+                    <button type="submit">비밀번호 변경</button>
+                </form>
+            )}
             {/* 결과 메시지 표시 */}
             {message && <p>{message}</p>}
         </div>
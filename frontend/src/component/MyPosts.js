@@ -8,21 +8,31 @@ function MyPosts({ user }) {
     const [posts, setPosts] = useState([]); // 게시물 목록
     const [error, setError] = useState(null); // 오류 메시지
     const [currentPage, setCurrentPage] = useState(0); // 현재 페이지 상태
-    const [totalPages, setTotalPages] = useState(1); // 총 페이지 수 상태
+    const [cursors, setCursors] = useState([null]); // 페이지별 조회 커서 (0페이지는 null)
+    const [hasNext, setHasNext] = useState(false); // 다음 페이지 존재 여부
     const pageSize = 10; // 한 페이지에 보여줄 게시물 수
 
-    // 컴포넌트가 마운트될 때 게시물 가져오기
+    // 현재 페이지의 게시물 가져오기 (커서 기반 페이지 단위 조회)
     useEffect(() => {
         const fetchPosts = async () => {
             try {
                 if (user) { // 사용자 로그인 여부 확인
-                    const response = await fetch(`http://localhost:8080/boards/user/${user.userId}`);
+                    const cursor = cursors[currentPage];
+                    const query = cursor ? `?size=${pageSize}&cursor=${encodeURIComponent(cursor)}` : `?size=${pageSize}`;
+                    const response = await fetch(`http://localhost:8080/boards/user/${user.userId}${query}`, { credentials: 'include' });
                     if (!response.ok) {
                         setError('게시물을 불러오는데 오류가 발생했습니다.');
                     } else {
                         const data = await response.json();
-                        setPosts(data || []); // 게시물 목록 설정
-                        setTotalPages(Math.ceil((data || []).length / pageSize)); // 총 페이지 수 계산
+                        setPosts(data.items || []); // 게시물 목록 설정
+                        setHasNext(data.hasNext); // 다음 페이지 여부 설정
+                        if (data.nextCursor) {
+                            setCursors(prev => {
+                                const next = prev.slice(0, currentPage + 1);
+                                next[currentPage + 1] = data.nextCursor; // 다음 페이지 커서 저장
+                                return next;
+                            });
+                        }
                     }
                 }
             } catch (err) {
@@ -30,7 +40,7 @@ function MyPosts({ user }) {
             }
         };
         fetchPosts(); // 함수 호출
-    }, [user]);
+    }, [user, currentPage]); // eslint-disable-line react-hooks/exhaustive-deps
 
     // 카테고리 ID를 한글 카테고리 이름으로 변환하는 함수
     const getCategoryNameInKorean = (categoryId) => {
@@ -48,7 +58,7 @@ function MyPosts({ user }) {
 
     // 다음 페이지로 이동하는 함수
     const handleNextPage = () => {
-        if (currentPage < totalPages - 1) {
+        if (hasNext) {
             setCurrentPage(currentPage + 1);
         }
     };
@@ -65,8 +75,8 @@ function MyPosts({ user }) {
         return <div>오류: {error}</div>;
     }
 
-    // 현재 페이지에 해당하는 게시물 목록
-    const paginatedPosts = posts.slice(currentPage * pageSize, (currentPage + 1) * pageSize);
+    // 서버가 페이지 단위로 내려준 게시물 목록
+    const paginatedPosts = posts;
 
     // 공지 게시물과 기타 게시물로 분류
     const noticePosts = paginatedPosts?.filter(post => post.boardCategory === 2) || [];
@@ -102,7 +112,7 @@ function MyPosts({ user }) {
                                     </td>
                                     <td>
                                         <Link to={`/boards/detail/${post.boardNumber}`}>
-                                            {post.boardWrite.length > 10 ? post.boardWrite.substring(0, 10) + '...' : post.boardWrite}
+                                            {post.boardPreview.length > 10 ? post.boardPreview.substring(0, 10) + '...' : post.boardPreview}
                                         </Link>
                                     </td>
                                     <td>{new Date(post.updatedDate).toLocaleString()}</td>
@@ -121,7 +131,7 @@ function MyPosts({ user }) {
                                     </td>
                                     <td>
                                         <Link to={`/boards/detail/${post.boardNumber}`}>
-                                            {post.boardWrite.length > 10 ? post.boardWrite.substring(0, 10) + '...' : post.boardWrite}
+                                            {post.boardPreview.length > 10 ? post.boardPreview.substring(0, 10) + '...' : post.boardPreview}
                                         </Link>
                                     </td>
                                     <td>{new Date(post.updatedDate).toLocaleString()}</td>
@@ -136,8 +146,8 @@ function MyPosts({ user }) {
                         <button onClick={handlePreviousPage} disabled={currentPage === 0}>
                             이전 페이지
                         </button>
-                        <span>{currentPage + 1} / {totalPages}</span>
-                        <button onClick={handleNextPage} disabled={currentPage === totalPages - 1}>
+                        <span>{currentPage + 1}</span>
+                        <button onClick={handleNextPage} disabled={!hasNext}>
                             다음 페이지
                         </button>
                     </div>
@@ -9,31 +9,69 @@ function UserManagement() {
     const [searchTerm, setSearchTerm] = useState('');
     // 수정할 사용자의 정보를 저장하는 상태
     const [editUser, setEditUser] = useState(null);
-    // 현재 페이지를 저장하는 상태
-    const [currentPage, setCurrentPage] = useState(1);
+    // 현재 페이지를 저장하는 상태 (0부터)
+    const [currentPage, setCurrentPage] = useState(0);
+    const [cursors, setCursors] = useState([null]); // 페이지별 조회 커서 (0페이지는 null)
+    const [hasNext, setHasNext] = useState(false); // 다음 페이지 존재 여부
+    // 정렬 기준 (created: 가입일순, level: 레벨순)과 검색 대상 (id, nickname)
+    const [sortKey, setSortKey] = useState('created');
+    const [searchField, setSearchField] = useState('id');
+    const [reloadKey, setReloadKey] = useState(0); // 일괄 작업 후 현재 조건으로 다시 조회
     // 한 페이지에 표시할 사용자 수
     const usersPerPage = 10;
+    // 일괄 작업 대상으로 선택한 사용자 ID
+    const [selectedIds, setSelectedIds] = useState([]);
+    // 일괄 작업 옵션 (게시글 처리 방법, 이전받을 사용자, 변경할 레벨)
+    const [postAction, setPostAction] = useState('DELETE');
+    const [reassignTo, setReassignTo] = useState('');
+    const [bulkLevel, setBulkLevel] = useState(1);
+    // 진행 중인 일괄 작업 상태
+    const [bulkJob, setBulkJob] = useState(null);
 
-    // 컴포넌트가 처음 렌더링될 때 사용자 목록을 서버에서 가져옴
+    // 정렬/검색 조건이 바뀌면 첫 페이지부터 다시 조회
+    useEffect(() => {
+        setCurrentPage(0);
+        setCursors([null]);
+    }, [sortKey, searchField, searchTerm]);
+
+    // 사용자 목록을 서버에서 페이지 단위로 가져옴 (정렬, 접두어 검색은 서버에서 처리)
     useEffect(() => {
         const fetchUsers = async () => {
             try {
-                // 사용자 목록 API 호출
-                const response = await fetch('http://localhost:8080/users');
+                const params = new URLSearchParams({ sort: sortKey, field: searchField, size: usersPerPage });
+                if (searchTerm.trim()) params.set('q', searchTerm.trim());
+                const cursor = cursors[currentPage];
+                if (cursor) params.set('cursor', cursor);
+                // 관리자 사용자 목록 API 호출
+                const response = await fetch(`http://localhost:8080/users/admin?${params}`, { credentials: 'include' });
+                if (!response.ok) {
+                    throw new Error('사용자 목록 조회 실패');
+                }
                 const data = await response.json();
-                setUsers(data); // 사용자 목록을 상태에 저장
+                setUsers(data.items); // 사용자 목록을 상태에 저장
+                setHasNext(data.hasNext);
+                if (data.nextCursor) {
+                    setCursors(prev => {
+                        const next = prev.slice(0, currentPage + 1);
+                        next[currentPage + 1] = data.nextCursor; // 다음 페이지 커서 저장
+                        return next;
+                    });
+                }
             } catch (error) {
                 console.error('사용자 목록을 불러오는 중 오류 발생:', error);
             }
         };
         fetchUsers();
-    }, []);
+    }, [currentPage, sortKey, searchField, searchTerm, reloadKey]); // eslint-disable-line react-hooks/exhaustive-deps
 
     // 사용자 삭제 함수
     const handleDeleteUser = async (userId) => {
         try {
             // 사용자 삭제 API 호출
-            await fetch(`http://localhost:8080/users/delete/${userId}`, { method: 'DELETE' });
+            const response = await fetch(`http://localhost:8080/users/delete/${userId}`, { method: 'DELETE', credentials: 'include' });
+            if (!response.ok) {
+                throw new Error('사용자 삭제 실패');
+            }
             // 삭제된 사용자를 목록에서 제거
             setUsers(users.filter(user => user.userId !== userId));
         } catch (error) {
@@ -41,6 +79,75 @@ function UserManagement() {
         }
     };
 
+    // 사용자 선택/해제
+    const toggleSelect = (userId) => {
+        setSelectedIds(prev => prev.includes(userId) ? prev.filter(id => id !== userId) : [...prev, userId]);
+    };
+
+    // 일괄 작업 진행 상황을 완료될 때까지 조회
+    const pollBulkJob = async (jobId) => {
+        try {
+            const response = await fetch(`http://localhost:8080/users/admin/bulk/${jobId}`, { credentials: 'include' });
+            if (!response.ok) {
+                throw new Error('작업 상태 조회 실패');
+            }
+            const job = await response.json();
+            setBulkJob(job);
+            if (job.status === 'RUNNING') {
+                setTimeout(() => pollBulkJob(jobId), 1000);
+                return;
+            }
+            if (job.status === 'COMPLETED') {
+                // 완료 후 목록 다시 조회
+                setReloadKey(key => key + 1);
+                setSelectedIds([]);
+            } else {
+                alert(`일괄 작업 실패 (모두 취소됨): ${job.error}`);
+            }
+        } catch (error) {
+            console.error('일괄 작업 상태 조회 중 오류 발생:', error);
+        }
+    };
+
+    // 선택한 사용자 일괄 삭제 또는 레벨 변경
+    const handleBulk = async (action) => {
+        if (selectedIds.length === 0) {
+            alert('대상 사용자를 선택하세요.');
+            return;
+        }
+        const request = { action, userIds: selectedIds };
+        if (action === 'DELETE') {
+            if (!window.confirm(`${selectedIds.length}명을 삭제합니다. 계속할까요?`)) {
+                return;
+            }
+            request.postAction = postAction;
+            if (postAction === 'REASSIGN') {
+                request.reassignTo = reassignTo;
+            }
+        } else {
+            request.userLevel = Number(bulkLevel);
+        }
+        try {
+            const response = await fetch('http://localhost:8080/users/admin/bulk', {
+                method: 'POST',
+                headers: {
+                    'Content-Type': 'application/json',
+                },
+                credentials: 'include', // 쿠키 포함
+                body: JSON.stringify(request),
+            });
+            if (response.status !== 202) {
+                alert(await response.text());
+                return;
+            }
+            const job = await response.json();
+            setBulkJob(job);
+            pollBulkJob(job.jobId);
+        } catch (error) {
+            console.error('일괄 작업 요청 중 오류 발생:', error);
+        }
+    };
+
     // 검색어 상태 업데이트 함수
     const handleSearch = (e) => {
         setSearchTerm(e.target.value);
@@ -76,6 +183,7 @@ function UserManagement() {
                 headers: {
                     'Content-Type': 'application/json',
                 },
+                credentials: 'include', // 관리자 토큰 쿠키 전송
                 body: JSON.stringify(editUser),
             });
             // 업데이트 성공 시 사용자 목록 갱신
@@ -90,29 +198,19 @@ function UserManagement() {
         }
     };
 
-    // 현재 페이지에 해당하는 사용자 목록 계산
-    const indexOfLastUser = currentPage * usersPerPage;
-    const indexOfFirstUser = indexOfLastUser - usersPerPage;
-    const filteredUsers = users.filter(user =>
-        user.userNickname.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        user.userName.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        user.userId.toLowerCase().includes(searchTerm.toLowerCase())
-    );
-    const currentUsers = filteredUsers.slice(indexOfFirstUser, indexOfLastUser);
-
-    // 총 페이지 수 계산
-    const totalPages = Math.ceil(filteredUsers.length / usersPerPage);
+    // 서버가 페이지 단위로 내려주므로 그대로 표시
+    const currentUsers = users;
 
     // 다음 페이지로 이동 함수
     const handleNextPage = () => {
-        if (currentPage < totalPages) {
+        if (hasNext) {
             setCurrentPage(currentPage + 1);
         }
     };
 
     // 이전 페이지로 이동 함수
     const handlePreviousPage = () => {
-        if (currentPage > 1) {
+        if (currentPage > 0) {
             setCurrentPage(currentPage - 1);
         }
     };
@@ -123,12 +221,12 @@ function UserManagement() {
             <table>
                 <thead>
                     <tr>
+                        <th>선택</th>
                         <th>프로필 사진</th>
                         <th>닉네임</th>
                         <th>이름</th>
                         <th>아이디</th>
                         <th>레벨</th>
-                        <th>비밀번호</th>
                         <th>수정</th>
                         <th>삭제</th>
                     </tr>
@@ -137,11 +235,19 @@ function UserManagement() {
                     {currentUsers.map(user => (
                         <tr key={user.userId}>
                             <td>
-                                {user.userImage && (
+                                <input
+                                    type="checkbox"
+                                    checked={selectedIds.includes(user.userId)}
+                                    onChange={() => toggleSelect(user.userId)}
+                                />
+                            </td>
+                            <td>
+                                {user.hasImage && ( // 이미지가 등록된 사용자만 요청
                                     <img
-                                        src={`data:image/jpeg;base64,${user.userImage}`}
+                                        src={`http://localhost:8080/users/${user.userId}/image?size=thumb`}
                                         alt="프로필 이미지"
                                         style={{ width: '50px', height: '50px', borderRadius: '50%' }}
+                                        onError={(e) => { e.target.style.display = 'none'; }} // 이미지를 불러오지 못하면 숨김
                                     />
                                 )}
                             </td>
@@ -149,7 +255,6 @@ function UserManagement() {
                             <td>{user.userName}</td>
                             <td>{user.userId}</td>
                             <td>{user.userLevel}</td>
-                            <td>{user.userPassword}</td>
                             <td>
                                 <button onClick={() => handleEditUser(user)}>수정</button>
                             </td>
@@ -207,11 +312,11 @@ function UserManagement() {
                     />
                 </label><br />
                 <label>
-                    비밀번호:
+                    새 비밀번호 (변경 시에만 입력):
                     <input
-                        type="text"
+                        type="password"
                         name="userPassword"
-                        value={editUser.userPassword}
+                        value={editUser.userPassword || ''}
                         onChange={handleChange}
                     />
                 </label><br />
@@ -225,23 +330,59 @@ function UserManagement() {
     return (
         <div>
             <h2>사용자 관리</h2>
+            <select value={searchField} onChange={(e) => setSearchField(e.target.value)}>
+                <option value="id">아이디</option>
+                <option value="nickname">닉네임</option>
+            </select>
             <input
                 type="text"
-                placeholder="닉네임, 이름 또는 아이디 검색"
+                placeholder="앞부분으로 검색"
                 value={searchTerm}
                 onChange={handleSearch}
             />
+            <select value={sortKey} onChange={(e) => setSortKey(e.target.value)}>
+                <option value="created">가입일순</option>
+                <option value="level">레벨순</option>
+            </select>
+
+            {/* 일괄 작업 (선택한 사용자 대상) */}
+            <div className="board-controls">
+                <span>선택 {selectedIds.length}명</span>
+                <select value={postAction} onChange={(e) => setPostAction(e.target.value)}>
+                    <option value="DELETE">게시글 함께 삭제</option>
+                    <option value="REASSIGN">게시글 이전</option>
+                </select>
+                {postAction === 'REASSIGN' && (
+                    <input
+                        type="text"
+                        placeholder="게시글을 이전받을 아이디"
+                        value={reassignTo}
+                        onChange={(e) => setReassignTo(e.target.value)}
+                    />
+                )}
+                <button onClick={() => handleBulk('DELETE')} disabled={bulkJob && bulkJob.status === 'RUNNING'}>일괄 삭제</button>
+                <input
+                    type="number"
+                    value={bulkLevel}
+                    onChange={(e) => setBulkLevel(e.target.value)}
+                    min="1"
+                    max="4"
+                />
+                <button onClick={() => handleBulk('RELEVEL')} disabled={bulkJob && bulkJob.status === 'RUNNING'}>레벨 일괄 변경</button>
+                {bulkJob && (
+                    <span>
+                        {bulkJob.status === 'RUNNING' ? '진행 중' : bulkJob.status === 'COMPLETED' ? '완료' : '실패'}
+                        {' '}({bulkJob.processed}/{bulkJob.total}, {bulkJob.percent}%, 게시글 {bulkJob.affectedPosts}건)
+                    </span>
+                )}
+            </div>
             {editUser ? renderEditForm() : renderTable()}
             <div>
-                <button onClick={handlePreviousPage} disabled={currentPage === 1}>
+                <button onClick={handlePreviousPage} disabled={currentPage === 0}>
                     이전
                 </button>
-                {Array.from({ length: totalPages }, (_, index) => (
-                    <button key={index + 1} onClick={() => setCurrentPage(index + 1)} disabled={currentPage === index + 1}>
-                        {index + 1}
-                    </button>
-                ))}
-                <button onClick={handleNextPage} disabled={currentPage === totalPages}>
+                <span> {currentPage + 1} 페이지 </span>
+                <button onClick={handleNextPage} disabled={!hasNext}>
                     다음
                 </button>
             </div>
@@ -0,0 +1,38 @@
+package com.demo.loadtest;
+
+/**
+ * Endpoint 열거형
+ * 부하 테스트가 재현하는 요청 종류 (프론트엔드 화면별 호출)
+ */
+public enum Endpoint {
+
+    LIST("list", "GET /boards/category/{category}"), // BoardList 목록 페이지
+    DETAIL("detail", "GET /boards/detail/{boardNumber}"), // BoardDetail 상세
+    LOGIN("login", "POST /users/login"), // 로그인 (비밀번호 해시 검증)
+    CURRENT_USER("current-user", "GET /users/current-user"); // 화면 진입 시 로그인 사용자 확인 (ETag 재검증)
+
+    private final String key; // --mix 옵션에서 쓰는 이름
+    private final String route;
+
+    Endpoint(String key, String route) {
+        this.key = key;
+        this.route = route;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류: " + key);
+    }
+}
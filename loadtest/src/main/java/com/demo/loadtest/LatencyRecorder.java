@@ -0,0 +1,61 @@
+package com.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LatencyRecorder 클래스
+ * 요청 종류 하나의 측정 결과 (응답 시간 표본, 성공/오류/미전송 건수)
+ * 응답 시간은 실제 전송 시각이 아니라 예정된 전송 시각부터 재므로, 서버가 밀려 전송이 늦어진 시간도 포함됩니다.
+ */
+public final class LatencyRecorder {
+
+    private long[] latencies = new long[1024]; // 나노초
+    private int count;
+    private long errors; // 4xx/5xx, 시간 초과, 연결 실패
+    private long dropped; // 동시 요청 상한으로 보내지 못한 요청
+
+    public synchronized void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public synchronized void drop() {
+        dropped++;
+    }
+
+    /**
+     * 집계 결과
+     * @param seconds 측정 시간(초)
+     * @return 요청 수, 처리량, 백분위수(ms) 등
+     */
+    public synchronized Map<String, Object> summary(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("dropped", dropped);
+        summary.put("throughput", count / seconds);
+        summary.put("p50", percentileMillis(sorted, 0.50));
+        summary.put("p90", percentileMillis(sorted, 0.90));
+        summary.put("p99", percentileMillis(sorted, 0.99));
+        summary.put("p999", percentileMillis(sorted, 0.999));
+        summary.put("max", sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+        return summary;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,83 @@
+package com.demo.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadDriver 클래스
+ * 정해진 비율(초당 요청 수)로 요청을 보내는 개방형(open-model) 부하 발생기입니다.
+ * 응답을 기다렸다가 다음 요청을 보내지 않으므로, 서버가 느려져도 도착률은 그대로 유지되고
+ * 지연은 예정된 전송 시각부터 측정됩니다. (coordinated omission 방지)
+ */
+final class LoadDriver {
+
+    private final LoadTestOptions options;
+    private final Workload workload;
+    private final Endpoint[] endpoints; // 비율에 따라 펼친 요청 종류 (무작위 선택용)
+    private final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+
+    LoadDriver(LoadTestOptions options) {
+        this.options = options;
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.workload = new Workload(options, client);
+        this.endpoints = options.getMix().entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Endpoint[]::new);
+        options.getMix().keySet().forEach(endpoint -> recorders.put(endpoint, new LatencyRecorder()));
+    }
+
+    /**
+     * 예열 후 측정 구간 동안 요청 전송
+     * @return 요청 종류별 측정 결과
+     */
+    Map<Endpoint, LatencyRecorder> run() throws InterruptedException {
+        workload.prime();
+
+        Semaphore inFlight = new Semaphore(options.getMaxInFlight());
+        long interval = (long) (1_000_000_000L / options.getRate());
+        long start = System.nanoTime();
+        long measureFrom = start + options.getWarmup().toNanos();
+        long end = measureFrom + options.getDuration().toNanos();
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval; // 예정된 전송 시각
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = endpoints[ThreadLocalRandom.current().nextInt(endpoints.length)];
+            LatencyRecorder recorder = intended >= measureFrom ? recorders.get(endpoint) : null; // 예열 구간은 집계 안 함
+            if (!inFlight.tryAcquire()) {
+                if (recorder != null) {
+                    recorder.drop();
+                }
+                continue;
+            }
+            workload.send(endpoint).whenComplete((status, error) -> {
+                inFlight.release();
+                if (recorder != null) {
+                    recorder.record(System.nanoTime() - intended, error == null && status < 400);
+                }
+            });
+        }
+
+        // 남은 요청 완료 대기 (요청 제한 시간 + 여유)
+        long drainSeconds = options.getTimeout().toSeconds() + 5;
+        if (inFlight.tryAcquire(options.getMaxInFlight(), drainSeconds, TimeUnit.SECONDS)) {
+            inFlight.release(options.getMaxInFlight());
+        }
+        return recorders;
+    }
+}
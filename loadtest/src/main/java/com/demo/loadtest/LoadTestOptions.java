@@ -0,0 +1,154 @@
+package com.demo.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * LoadTestOptions 클래스
+ * 명령행 옵션 (--이름=값 형식, 지정하지 않으면 기본값)
+ * - base-url: 대상 서버 (기본 http://localhost:8080)
+ * - rate: 초당 요청 수 (응답 속도와 무관하게 일정한 간격으로 전송)
+ * - duration / warmup: 측정 시간 / 측정 전 예열 시간 (예: 60s, 5m, 500ms)
+ * - mix: 요청 비율 (예: list:50,detail:35,current-user:10,login:5)
+ * - users / password: 가상 데이터 사용자 수와 공통 비밀번호 (local 프로필의 cafe.seed.* 와 같게)
+ * - sessions: 미리 로그인해 둘 세션 수 (current-user 요청에 사용)
+ * - max-in-flight: 동시에 처리 중인 요청 상한 (넘으면 보내지 않고 dropped 로 집계)
+ * - timeout: 요청별 응답 제한 시간
+ * - result: 결과 JSON 파일 경로
+ */
+public final class LoadTestOptions {
+
+    private String baseUrl = "http://localhost:8080";
+    private double rate = 100;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    private int users = 100_000;
+    private String password = "local-password";
+    private int sessions = 100;
+    private int maxInFlight = 1000;
+    private Duration timeout = Duration.ofSeconds(10);
+    private String result;
+
+    private LoadTestOptions() {
+        mix.put(Endpoint.LIST, 50);
+        mix.put(Endpoint.DETAIL, 35);
+        mix.put(Endpoint.CURRENT_USER, 10);
+        mix.put(Endpoint.LOGIN, 5);
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션 형식은 --이름=값 입니다: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "base-url":
+                    options.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                    break;
+                case "rate":
+                    options.rate = Double.parseDouble(value);
+                    break;
+                case "duration":
+                    options.duration = parseDuration(value);
+                    break;
+                case "warmup":
+                    options.warmup = parseDuration(value);
+                    break;
+                case "mix":
+                    options.mix.clear();
+                    for (String part : value.split(",")) {
+                        String[] pair = part.trim().split(":");
+                        options.mix.put(Endpoint.fromKey(pair[0]), Integer.parseInt(pair[1]));
+                    }
+                    break;
+                case "users":
+                    options.users = Integer.parseInt(value);
+                    break;
+                case "password":
+                    options.password = value;
+                    break;
+                case "sessions":
+                    options.sessions = Integer.parseInt(value);
+                    break;
+                case "max-in-flight":
+                    options.maxInFlight = Integer.parseInt(value);
+                    break;
+                case "timeout":
+                    options.timeout = parseDuration(value);
+                    break;
+                case "result":
+                    options.result = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 옵션: " + name);
+            }
+        }
+        if (options.rate <= 0 || options.mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("rate 와 mix 비율 합은 0 보다 커야 합니다.");
+        }
+        return options;
+    }
+
+    // 500ms, 30s, 5m 형식
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Map<Endpoint, Integer> getMix() {
+        return mix;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public String getResult() {
+        return result;
+    }
+}
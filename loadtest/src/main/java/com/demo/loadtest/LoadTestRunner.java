@@ -0,0 +1,59 @@
+package com.demo.loadtest;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * LoadTestRunner 클래스
+ * 부하 테스트 실행 후 요청 종류별 처리량과 지연 백분위수를 출력하고,
+ * 결과 파일을 지정하지 않으면 target/loadtest-result-{시각}.json 으로 저장하여 배포 전후 결과를 비교할 수 있게 합니다.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.printf("대상 %s, 초당 %.1f건, 예열 %ds, 측정 %ds, 비율 %s%n", options.getBaseUrl(), options.getRate(),
+                options.getWarmup().toSeconds(), options.getDuration().toSeconds(), options.getMix());
+
+        Map<Endpoint, LatencyRecorder> recorders = new LoadDriver(options).run();
+
+        double seconds = options.getDuration().toMillis() / 1000.0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-34s %9s %7s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "dropped", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        recorders.forEach((endpoint, recorder) -> {
+            Map<String, Object> summary = recorder.summary(seconds);
+            endpoints.put(endpoint.getKey(), summary);
+            System.out.printf("%-34s %9d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint.getRoute(),
+                    summary.get("requests"), summary.get("errors"), summary.get("dropped"), summary.get("throughput"),
+                    summary.get("p50"), summary.get("p90"), summary.get("p99"), summary.get("p999"), summary.get("max"));
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseUrl", options.getBaseUrl());
+        result.put("rate", options.getRate());
+        result.put("durationSeconds", seconds);
+        result.put("mix", options.getMix());
+        result.put("endpoints", endpoints);
+        String path = options.getResult();
+        if (path == null) {
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            path = "target/loadtest-result-" + timestamp + ".json";
+        }
+        File file = new File(path);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, result);
+        System.out.println("\n결과 저장: " + file.getPath());
+        System.exit(0); // HttpClient 내부 스레드 종료 대기 없이 끝냄
+    }
+}
@@ -0,0 +1,204 @@
+package com.demo.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Workload 클래스
+ * 요청 종류별 실제 HTTP 요청을 만들고, 응답에서 다음 요청에 쓸 상태(게시글 번호, 커서, 로그인 쿠키)를 모읍니다.
+ * - 목록: 카테고리(all 40%, free 30%, questions 20%, notice 10%), 20% 는 이전 응답의 다음 페이지
+ * - 상세: 목록에서 본 게시글 중 최근에 본 게시글일수록 자주 (인기 게시글 편중)
+ * - 로그인: 가상 데이터 사용자 중 무작위, 받은 토큰 쿠키는 세션 목록에 보관
+ * - 현재 사용자: 보관한 세션 중 무작위, 브라우저처럼 이전 ETag 로 재검증(If-None-Match)
+ */
+final class Workload {
+
+    private static final String[] CATEGORIES = {"all", "free", "questions", "notice"};
+    private static final double[] CATEGORY_WEIGHTS = {0.40, 0.30, 0.20, 0.10};
+    private static final int KNOWN_BOARDS = 10_000; // 상세 조회 대상으로 기억할 게시글 수
+    private static final String TOKEN_COOKIE = "CAFE_TOKEN";
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> nextCursors = new ConcurrentHashMap<>(); // 카테고리 -> 마지막으로 받은 다음 페이지 커서
+    private final AtomicLongArray knownBoards = new AtomicLongArray(KNOWN_BOARDS); // 최근 본 게시글 번호 (순환)
+    private final AtomicLong knownBoardCount = new AtomicLong();
+    private final AtomicReferenceArray<Session> sessions;
+    private final AtomicLong sessionCount = new AtomicLong();
+
+    Workload(LoadTestOptions options, HttpClient client) {
+        this.options = options;
+        this.client = client;
+        this.sessions = new AtomicReferenceArray<>(Math.max(1, options.getSessions()));
+    }
+
+    /**
+     * 측정 전 준비: 카테고리별 첫 페이지로 게시글 번호를 모으고, 세션을 로그인해 둠
+     */
+    void prime() {
+        List<CompletableFuture<Integer>> requests = new ArrayList<>();
+        for (String category : CATEGORIES) {
+            requests.add(list(category, null));
+        }
+        for (int i = 0; i < sessions.length(); i++) {
+            requests.add(login());
+        }
+        CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).join();
+        if (knownBoardCount.get() == 0) {
+            throw new IllegalStateException("게시글 목록을 받지 못했습니다. 서버와 가상 데이터를 확인하세요.");
+        }
+        if (sessionCount.get() == 0) {
+            throw new IllegalStateException("로그인에 실패했습니다. --users/--password 를 확인하세요.");
+        }
+    }
+
+    /**
+     * 요청 전송
+     * @param endpoint 요청 종류
+     * @return 응답 상태 코드
+     */
+    CompletableFuture<Integer> send(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (endpoint) {
+            case LIST:
+                String category = pickCategory(random.nextDouble());
+                return list(category, random.nextDouble() < 0.2 ? nextCursors.get(category) : null);
+            case DETAIL:
+                return detail(pickBoard(random));
+            case LOGIN:
+                return login();
+            default:
+                return currentUser(sessions.get(random.nextInt((int) Math.min(sessionCount.get(), sessions.length()))));
+        }
+    }
+
+    private CompletableFuture<Integer> list(String category, String cursor) {
+        String query = cursor != null ? "?size=10&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "?size=10";
+        HttpRequest request = get("/boards/category/" + category + query).build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            if (response.statusCode() == 200) {
+                rememberPage(category, response.body());
+            }
+            return response.statusCode();
+        });
+    }
+
+    private CompletableFuture<Integer> detail(long boardNumber) {
+        HttpRequest request = get("/boards/detail/" + boardNumber).build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+
+    private CompletableFuture<Integer> login() {
+        String userId = "user" + ThreadLocalRandom.current().nextInt(options.getUsers());
+        Map<String, String> body = Map.of("userId", userId, "userPassword", options.getPassword());
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(options.getBaseUrl() + "/users/login"))
+                    .timeout(options.getTimeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(response -> {
+            response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith(TOKEN_COOKIE + "="))
+                    .findFirst()
+                    .ifPresent(cookie -> rememberSession(cookie.substring(0, cookie.indexOf(';') > 0 ? cookie.indexOf(';') : cookie.length())));
+            return response.statusCode();
+        });
+    }
+
+    private CompletableFuture<Integer> currentUser(Session session) {
+        HttpRequest.Builder builder = get("/users/current-user").header("Cookie", session.cookie);
+        String etag = session.etag;
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        return client.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding()).thenApply(response -> {
+            response.headers().firstValue("ETag").ifPresent(value -> session.etag = value);
+            return response.statusCode();
+        });
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(options.getBaseUrl() + path))
+                .timeout(options.getTimeout())
+                .GET();
+    }
+
+    // 목록 응답(CursorPage)의 게시글 번호와 다음 커서 보관
+    private void rememberPage(String category, byte[] body) {
+        try {
+            JsonNode page = objectMapper.readTree(body);
+            synchronized (knownBoards) { // 번호를 쓴 뒤에 개수를 늘려 아직 비어 있는 칸을 고르지 않도록
+                for (JsonNode item : page.path("items")) {
+                    knownBoards.set((int) (knownBoardCount.get() % KNOWN_BOARDS), item.path("boardNumber").asLong());
+                    knownBoardCount.incrementAndGet();
+                }
+            }
+            JsonNode next = page.path("nextCursor");
+            if (next.isTextual()) {
+                nextCursors.put(category, next.asText());
+            } else {
+                nextCursors.remove(category);
+            }
+        } catch (Exception e) {
+            // 본문 형식이 다르면 상태 수집만 생략 (요청 결과는 상태 코드로 집계)
+        }
+    }
+
+    private void rememberSession(String cookie) {
+        synchronized (sessions) {
+            sessions.set((int) (sessionCount.get() % sessions.length()), new Session(cookie));
+            sessionCount.incrementAndGet();
+        }
+    }
+
+    // 최근에 본 게시글일수록 높은 확률로 선택
+    private long pickBoard(ThreadLocalRandom random) {
+        long seen = knownBoardCount.get();
+        int available = (int) Math.min(seen, KNOWN_BOARDS);
+        int back = (int) (available * Math.pow(random.nextDouble(), 3));
+        return knownBoards.get((int) ((seen - 1 - back) % KNOWN_BOARDS));
+    }
+
+    private static String pickCategory(double r) {
+        double cumulative = 0;
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            cumulative += CATEGORY_WEIGHTS[i];
+            if (r < cumulative) {
+                return CATEGORIES[i];
+            }
+        }
+        return CATEGORIES[CATEGORIES.length - 1];
+    }
+
+    // 로그인 세션 (토큰 쿠키, 마지막으로 받은 현재 사용자 ETag)
+    private static final class Session {
+        private final String cookie;
+        private volatile String etag;
+
+        private Session(String cookie) {
+            this.cookie = cookie;
+        }
+    }
+}